@@ -0,0 +1,120 @@
+package com.koo.bonscore.common.api.kma.weather.forecast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.common.api.kma.weather.dto.KmaApiDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * KmaForecastParserBenchmark.java
+ * 설명 : 기상청 단기예보 응답 처리 비교 벤치마크 (gradle jmh -Pjmh.includes=KmaForecastParser)
+ *        - dtoBinding : 기존 방식. 응답 전체를 KmaApiDto로 바인딩한 뒤 현재 시각의 TMP/SKY/PTY 추출
+ *        - streaming  : KmaForecastParser로 TMP/SKY/PTY만 KmaForecast에 담은 뒤 현재 시각 조회
+ *        응답은 05시 발표분 형태(12개 카테고리 x 67시간 + 일 최저/최고기온, 약 800건)로 생성한다.
+ *        -prof gc 결과의 gc.alloc.rate.norm(호출당 할당 바이트)을 함께 비교한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KmaForecastParserBenchmark {
+
+    private static final List<String> HOURLY_CATEGORIES =
+            List.of("TMP", "UUU", "VVV", "VEC", "WSD", "SKY", "PTY", "POP", "WAV", "PCP", "REH", "SNO");
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 17, 5, 0);
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmm");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder items = new StringBuilder();
+        for (int hour = 1; hour <= 67; hour++) {
+            LocalDateTime fcst = BASE.plusHours(hour);
+            for (String category : HOURLY_CATEGORIES) {
+                appendItem(items, category, fcst, valueOf(category, hour));
+            }
+            if (fcst.getHour() == 6) {
+                appendItem(items, "TMN", fcst, "8.0");
+            } else if (fcst.getHour() == 15) {
+                appendItem(items, "TMX", fcst, "19.0");
+            }
+        }
+        response = ("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},"
+                + "\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[" + items
+                + "]},\"pageNo\":1,\"numOfRows\":1000,\"totalCount\":0}}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Map<String, String> dtoBinding() throws IOException {
+        KmaApiDto dto = objectMapper.readValue(response, KmaApiDto.class);
+        Map<String, String> weatherData = new HashMap<>();
+        String date = BASE.plusHours(9).format(DATE);
+        String time = BASE.plusHours(9).format(TIME);
+        for (KmaApiDto.Item item : dto.getResponse().getBody().getItems().getItem()) {
+            if (item.getFcstDate().equals(date) && item.getFcstTime().equals(time)) {
+                weatherData.put(item.getCategory(), item.getFcstValue());
+            }
+        }
+        return weatherData;
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        KmaForecast forecast = KmaForecastParser.parse(new ByteArrayInputStream(response));
+        int index = forecast.indexAtOrAfter(20261017, 14);
+        return forecast.temperature(index) + forecast.sky(index) + forecast.precipitation(index);
+    }
+
+    private static void appendItem(StringBuilder items, String category, LocalDateTime fcst, String value) {
+        if (!items.isEmpty()) {
+            items.append(',');
+        }
+        items.append("{\"baseDate\":\"").append(BASE.format(DATE))
+                .append("\",\"baseTime\":\"").append(BASE.format(TIME))
+                .append("\",\"category\":\"").append(category)
+                .append("\",\"fcstDate\":\"").append(fcst.format(DATE))
+                .append("\",\"fcstTime\":\"").append(fcst.format(TIME))
+                .append("\",\"fcstValue\":\"").append(value)
+                .append("\",\"nx\":60,\"ny\":127}");
+    }
+
+    private static String valueOf(String category, int hour) {
+        return switch (category) {
+            case "TMP" -> Integer.toString(10 + hour % 8);
+            case "SKY" -> hour % 3 == 0 ? "4" : "1";
+            case "PTY" -> "0";
+            case "PCP", "SNO" -> "강수없음";
+            case "UUU", "VVV" -> "-1.2";
+            default -> Integer.toString(hour % 100);
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.koo.bonscore.common.util.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * TextNormalizerBenchmark.java
+ * 설명 : 외부 API 결과 정규화 비교 벤치마크 (gradle jmh -Pjmh.includes=TextNormalizer)
+ *        - legacy*     : 기존 방식. 정규식 태그 제거 + HtmlUtils, split() + Arrays.copyOfRange 연결
+ *        - normalizer* : TextNormalizer
+ *        입력은 네이버 지역 검색 결과 5건(제목, 도로명 주소)과 번역된 영문 주소 5건이다.
+ *        -prof gc 결과의 gc.alloc.rate.norm(호출당 할당 바이트)을 함께 비교한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
+
+    private final String[] titles = {
+            "<b>본스</b> 커피", "<b>본스</b>식당 종로점", "카페 <b>본스</b>&amp;베이커리", "본스 <b>갈비</b>", "을지로 본스"};
+    private final String[] koreanAddresses = {
+            "서울특별시 종로구 종로 1", "서울특별시 중구 을지로 12-3 2층", "서울특별시 성북구 동소문로6길 8",
+            "경기도 성남시 분당구 판교역로 235", "서울특별시 마포구 와우산로 94 1층 101호"};
+    private final String[] englishAddresses = {
+            "1 Jong-ro, Jongno-gu, Seoul", "2F, 12-3 Eulji-ro, Jung-gu, Seoul", "8 Dongsomun-ro 6-gil, Seongbuk-gu, Seoul",
+            "235 Pangyoyeok-ro, Bundang-gu, Seongnam-si, Gyeonggi-do", "Room 101, 1F, 94 Wausan-ro, Mapo-gu, Seoul"};
+
+    @Benchmark
+    public void legacyTitles(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(HtmlUtils.htmlUnescape(HTML_TAG_PATTERN.matcher(title).replaceAll("")));
+        }
+    }
+
+    @Benchmark
+    public void normalizerTitles(Blackhole bh) {
+        for (String title : titles) {
+            bh.consume(TextNormalizer.stripTagsAndUnescape(title));
+        }
+    }
+
+    @Benchmark
+    public void legacyAddresses(Blackhole bh) {
+        for (String address : koreanAddresses) {
+            String[] parts = address.split(" ");
+            bh.consume(parts[0] + " " + parts[1]);
+            bh.consume(String.join(" ", Arrays.copyOfRange(parts, 2, parts.length)));
+        }
+        for (String address : englishAddresses) {
+            String[] parts = address.split(",\\s*");
+            bh.consume(parts[parts.length - 2] + ", " + parts[parts.length - 1]);
+            bh.consume(String.join(", ", Arrays.copyOfRange(parts, 0, parts.length - 2)));
+        }
+    }
+
+    @Benchmark
+    public void normalizerAddresses(Blackhole bh) {
+        for (String address : koreanAddresses) {
+            bh.consume(TextNormalizer.splitKoreanAddress(address));
+        }
+        for (String address : englishAddresses) {
+            bh.consume(TextNormalizer.splitEnglishAddress(address));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.koo.bonscore.biz.analysis.autocomplete;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * <pre>
+ * RadixTrie.java
+ * 설명 : 자동완성용 압축 접두어 트리 (radix trie)
+ *
+ * 간선마다 문자열 레이블을 두어 분기가 없는 경로를 하나의 노드로 압축하고,
+ * 노드마다 그 아래에 있는 항목 중 점수가 높은 상위 항목 번호(top)를 미리 유지한다.
+ * - 검색: 접두어 길이만큼 내려가 해당 노드의 top을 반환 (하위 트리를 순회하지 않음)
+ * - 추가/점수 증가: 키의 경로에 있는 노드마다 top을 갱신 (점수는 증가만 한다고 가정)
+ * 동기화하지 않으므로 호출부에서 잠금을 관리한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+class RadixTrie {
+
+    private final int topSize;
+    private final IntToLongFunction scoreOf;
+    private final Node root = new Node("");
+
+    /**
+     * @param topSize 노드별로 유지할 상위 항목 수
+     * @param scoreOf 항목 번호 -> 점수
+     */
+    RadixTrie(int topSize, IntToLongFunction scoreOf) {
+        this.topSize = topSize;
+        this.scoreOf = scoreOf;
+    }
+
+    /**
+     * 키에 항목을 추가하거나, 이미 있는 항목의 점수 변경을 경로에 반영
+     * @param key   색인 키 (자모 분해된 문자열)
+     * @param entry 항목 번호
+     */
+    void put(String key, int entry) {
+        Node node = root;
+        int i = 0;
+        while (true) {
+            node.offer(entry);
+            if (i == key.length()) {
+                return;
+            }
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                leaf.offer(entry);
+                return;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            i += common;
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 키의 상위 항목
+     * @param prefix 접두어 (자모 분해된 문자열)
+     * @return 점수 내림차순 항목 번호 (없으면 빈 배열)
+     */
+    int[] top(String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return new int[0];
+            }
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                return child.topEntries();  // 접두어가 간선 중간에서 끝나도 그 아래 항목은 같음
+            }
+            if (common < child.label.length()) {
+                return new int[0];
+            }
+            node = child;
+            i += common;
+        }
+        return node.topEntries();
+    }
+
+    /**
+     * 간선을 공통 접두어 위치에서 나눔 (parent -[label]-> child 를 parent -[앞]-> middle -[뒤]-> child 로)
+     */
+    private Node split(Node parent, Node child, int at) {
+        Node middle = new Node(child.label.substring(0, at));
+        middle.top = Arrays.copyOf(child.top, child.top.length);
+        middle.size = child.size;
+        child.label = child.label.substring(at);
+        middle.addChild(child);
+        parent.addChild(middle);
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private final class Node {
+        private String label;                 // 부모에서 이 노드로 오는 간선 레이블
+        private Map<Character, Node> children; // 간선 첫 글자 -> 자식 (필요할 때 생성)
+        private int[] top = new int[0];       // 상위 항목 번호 (점수 내림차순)
+        private int size;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        private void addChild(Node child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        private int[] topEntries() {
+            return Arrays.copyOf(top, size);
+        }
+
+        /**
+         * 항목을 top에 반영 (이미 있으면 점수 순서만 다시 맞춤)
+         */
+        private void offer(int entry) {
+            long score = scoreOf.applyAsLong(entry);
+            int position = -1;
+            for (int i = 0; i < size; i++) {
+                if (top[i] == entry) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                if (size == topSize) {
+                    if (score <= scoreOf.applyAsLong(top[size - 1])) {
+                        return;
+                    }
+                    position = size - 1;   // 가장 낮은 항목을 밀어냄
+                } else {
+                    if (top.length == size) {
+                        top = Arrays.copyOf(top, Math.min(topSize, Math.max(1, size * 2)));
+                    }
+                    position = size++;
+                }
+                top[position] = entry;
+            }
+            // 점수가 높아진 항목을 앞으로 이동
+            while (position > 0 && scoreOf.applyAsLong(top[position - 1]) < score) {
+                top[position] = top[position - 1];
+                top[position - 1] = entry;
+                position--;
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.koo.bonscore.biz.analysis.autocomplete;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.biz.analysis.dto.StoreSuggestionDto;
+import com.koo.bonscore.common.api.naver.dto.NaverItemDto;
+import com.koo.bonscore.common.util.text.HangulJamo;
+import com.koo.bonscore.common.util.text.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <pre>
+ * StoreAutocompleteIndex.java
+ * 설명 : 가게 검색 자동완성용 로컬 접두어 색인
+ *
+ * 네이버 지역 검색(searchLocal) 결과로 받은 가게를 자모 분해(HangulJamo)한 이름으로 RadixTrie에 색인하여,
+ * 입력 중인 검색어는 네이버 API를 호출하지 않고 메모리에서 제안한다.
+ * - 색인 키: 가게 이름 전체와 이름의 각 단어 시작 위치 (예: "본스 커피 강남점" -> "본스커피강남점", "커피강남점", "강남점")
+ * - 점수: 검색 결과에 나온 횟수, 같은 가게(이름 + 주소)가 다시 나오면 점수만 증가 (제안은 점수 내림차순)
+ * - 검색 결과가 들어올 때마다 증분 색인, max-entries를 넘으면 점수가 낮은 가게를 제거하고 다시 색인
+ * - snapshot-interval마다(변경이 있을 때만) 스냅샷 파일로 저장하고, 기동 시 스냅샷에서 복원
+ * 조회는 읽기 잠금, 색인 변경은 쓰기 잠금으로 보호한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class StoreAutocompleteIndex {
+
+    private static final TypeReference<List<SnapshotEntry>> SNAPSHOT_TYPE = new TypeReference<>() {};
+
+    private final StoreAutocompleteProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Path snapshotPath;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private List<Entry> entries = new ArrayList<>();          // 항목 번호 -> 가게
+    private Map<String, Integer> entryIds = new HashMap<>();  // 이름|주소 -> 항목 번호
+    private RadixTrie trie;
+    private boolean dirty;                                    // 마지막 스냅샷 이후 변경 여부
+
+    public StoreAutocompleteIndex(StoreAutocompleteProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.snapshotPath = Paths.get(properties.getSnapshotPath());
+        this.trie = newTrie();
+    }
+
+    /**
+     * 기동 시 스냅샷에서 색인 복원
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        if (!properties.isEnabled() || !Files.isRegularFile(snapshotPath)) {
+            return;
+        }
+        try {
+            List<SnapshotEntry> snapshot = objectMapper.readValue(snapshotPath.toFile(), SNAPSHOT_TYPE);
+            lock.writeLock().lock();
+            try {
+                for (SnapshotEntry saved : snapshot) {
+                    add(saved.name(), saved.simpleAddress(), saved.detailAddress(), saved.score());
+                }
+                pruneIfFull();
+                dirty = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[AUTOCOMPLETE] 스냅샷에서 가게 {}개 색인 복원: {}", size(), snapshotPath.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("[AUTOCOMPLETE] 스냅샷 복원 실패, 빈 색인으로 시작합니다: path={}, cause={}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 네이버 지역 검색 결과 색인 (이미 있는 가게는 점수만 증가)
+     * @param items 네이버 지역 검색 결과
+     * @return 검색 결과 순서대로 변환한 제안 목록
+     */
+    public List<StoreSuggestionDto> addAll(List<NaverItemDto> items) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<StoreSuggestionDto> suggestions = new ArrayList<>(items.size());
+        lock.writeLock().lock();
+        try {
+            for (NaverItemDto item : items) {
+                if (item == null || item.getTitle() == null) {
+                    continue;
+                }
+                String name = TextNormalizer.stripTagsAndUnescape(item.getTitle());
+                TextNormalizer.Address address = TextNormalizer.splitKoreanAddress(fullAddress(item));
+                if (properties.isEnabled()) {
+                    add(name, address.simple(), address.detail(), 1);
+                }
+                suggestions.add(new StoreSuggestionDto(name, address.simple(), address.detail()));
+            }
+            if (properties.isEnabled()) {
+                pruneIfFull();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * 검색어로 시작하는 가게 제안 (가게 이름 전체 또는 이름 중 단어의 접두어, 입력 중인 글자 포함)
+     * @param query 입력 중인 검색어 (예: "본ㅅ", "본스커")
+     * @return 점수 내림차순 제안 목록 (최대 max-suggestions개)
+     */
+    public List<StoreSuggestionDto> suggest(String query) {
+        String key = HangulJamo.decompose(query);
+        if (!properties.isEnabled() || key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            int[] ids = trie.top(key);
+            List<StoreSuggestionDto> suggestions = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                Entry entry = entries.get(id);
+                suggestions.add(new StoreSuggestionDto(entry.name, entry.simpleAddress, entry.detailAddress));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에 없는 검색어를 네이버 검색으로 넘길지 여부 (입력 초반의 짧은 검색어는 넘기지 않음)
+     */
+    public boolean shouldFallThrough(String query) {
+        if (query == null) {
+            return false;
+        }
+        int length = 0;
+        for (int i = 0; i < query.length(); i++) {
+            if (!Character.isWhitespace(query.charAt(i))) {
+                length++;
+            }
+        }
+        return length >= properties.getMinFallthroughLength();
+    }
+
+    /**
+     * 색인된 가게 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경된 색인을 스냅샷 파일로 저장 (임시 파일에 쓴 뒤 교체하므로 저장 중 종료되어도 이전 스냅샷은 유지)
+     */
+    @Scheduled(initialDelayString = "#{@storeAutocompleteProperties.snapshotInterval.toMillis()}",
+            fixedDelayString = "#{@storeAutocompleteProperties.snapshotInterval.toMillis()}")
+    @PreDestroy
+    public void saveSnapshot() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<SnapshotEntry> snapshot;
+        lock.writeLock().lock();
+        try {
+            if (!dirty) {
+                return;
+            }
+            snapshot = entries.stream()
+                    .map(entry -> new SnapshotEntry(entry.name, entry.simpleAddress, entry.detailAddress, entry.score))
+                    .toList();
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Path dir = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, snapshotPath.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), snapshot);
+                Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("[AUTOCOMPLETE] 스냅샷 저장: 가게 {}개", snapshot.size());
+        } catch (IOException e) {
+            markDirty();
+            log.warn("[AUTOCOMPLETE] 스냅샷 저장 실패: path={}, cause={}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void markDirty() {
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가게 추가 또는 점수 증가 (쓰기 잠금 안에서 호출)
+     */
+    private void add(String name, String simpleAddress, String detailAddress, long score) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String identity = name + "|" + Objects.toString(simpleAddress, "") + " " + Objects.toString(detailAddress, "");
+        Integer id = entryIds.get(identity);
+        if (id == null) {
+            id = entries.size();
+            entries.add(new Entry(name, simpleAddress, detailAddress, score));
+            entryIds.put(identity, id);
+        } else {
+            entries.get(id).score += score;
+        }
+        for (String key : keysOf(name)) {
+            trie.put(key, id);
+        }
+        dirty = true;
+    }
+
+    /**
+     * max-entries를 넘으면 점수가 높은 가게의 90%만 남기고 다시 색인 (가게를 추가할 때마다 정리하지 않도록 여유를 둠)
+     */
+    private void pruneIfFull() {
+        if (entries.size() <= properties.getMaxEntries()) {
+            return;
+        }
+        int keep = properties.getMaxEntries() - properties.getMaxEntries() / 10;
+        List<Entry> survivors = entries.stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.score).reversed())
+                .limit(keep)
+                .toList();
+        log.info("[AUTOCOMPLETE] 색인 가게 수({})가 최대치를 넘어 점수가 낮은 가게를 제거합니다: 유지 {}개", entries.size(), keep);
+
+        entries = new ArrayList<>(survivors.size());
+        entryIds = new HashMap<>(survivors.size() * 2);
+        trie = newTrie();
+        for (Entry entry : survivors) {
+            add(entry.name, entry.simpleAddress, entry.detailAddress, entry.score);
+        }
+    }
+
+    private RadixTrie newTrie() {
+        return new RadixTrie(properties.getMaxSuggestions(), id -> entries.get(id).score);
+    }
+
+    /**
+     * 색인 키 (가게 이름 전체 + 이름 중 각 단어부터 끝까지, 자모 분해)
+     */
+    static List<String> keysOf(String name) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(HangulJamo.decompose(name));
+        for (int i = 1; i < name.length(); i++) {
+            if (Character.isWhitespace(name.charAt(i - 1)) && !Character.isWhitespace(name.charAt(i))) {
+                keys.add(HangulJamo.decompose(name.substring(i)));
+            }
+        }
+        return keys;
+    }
+
+    private static String fullAddress(NaverItemDto item) {
+        return (item.getRoadAddress() != null && !item.getRoadAddress().isEmpty())
+                ? item.getRoadAddress()
+                : item.getAddress();
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final String simpleAddress;
+        private final String detailAddress;
+        private long score;
+
+        private Entry(String name, String simpleAddress, String detailAddress, long score) {
+            this.name = name;
+            this.simpleAddress = simpleAddress;
+            this.detailAddress = detailAddress;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 스냅샷 파일 항목
+     */
+    record SnapshotEntry(String name, String simpleAddress, String detailAddress, long score) {
+    }
+}
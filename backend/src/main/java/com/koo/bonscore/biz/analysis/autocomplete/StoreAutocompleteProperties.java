@@ -0,0 +1,31 @@
+package com.koo.bonscore.biz.analysis.autocomplete;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * StoreAutocompleteProperties.java
+ * 설명 : 가게 검색 자동완성(로컬 접두어 색인) 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.analysis.autocomplete")
+@Getter
+@Setter
+public class StoreAutocompleteProperties {
+    private boolean enabled = true;
+    private int maxEntries = 100_000;                           // 색인에 보관할 최대 가게 수 (초과 시 검색 빈도가 낮은 가게부터 제거)
+    private int maxSuggestions = 10;                            // 자동완성 최대 제안 수
+    private int minFallthroughLength = 2;                       // 색인에 없을 때 네이버 검색으로 넘기는 최소 검색어 길이 (공백 제외)
+    private String snapshotPath = "data/autocomplete/stores.json"; // 색인 스냅샷 파일 경로
+    private Duration snapshotInterval = Duration.ofMinutes(10); // 스냅샷 저장 주기 (변경이 있을 때만 저장)
+}
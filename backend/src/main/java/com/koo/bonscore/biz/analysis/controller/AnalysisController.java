@@ -1,8 +1,13 @@
 package com.koo.bonscore.biz.analysis.controller;
 
+import com.koo.bonscore.biz.analysis.dto.FullAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.HotStoreReportDto;
 import com.koo.bonscore.biz.analysis.dto.StoreAnalysisResultDto;
 import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.dto.StoreSuggestionDto;
+import com.koo.bonscore.biz.analysis.hot.HotStoreTracker;
 import com.koo.bonscore.biz.analysis.service.AnalysisService;
+import com.koo.bonscore.biz.analysis.service.FullAnalysisService;
 import com.koo.bonscore.biz.analysis.dto.SearchRequestDto;
 import com.koo.bonscore.biz.analysis.dto.SimpleStoreInfoDto;
 import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
@@ -19,8 +24,10 @@ import com.koo.bonscore.common.api.naver.dto.datalab.DataLabResponseDto;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -43,10 +50,12 @@ public class AnalysisController {
 
     private final StoreRecommendationService storeRecommendationService;
     private final AnalysisService analysisService;
+    private final FullAnalysisService fullAnalysisService;
     private final WeatherService weatherService;
     private final HolidayService holidayService;
     private final NaverDataLabService naverDataLabService;
     private final GooglePlacesService googlePlacesService;
+    private final HotStoreTracker hotStoreTracker;
 
     @GetMapping("/random-recommendations")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
@@ -64,9 +73,21 @@ public class AnalysisController {
     @GetMapping("/stores")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public List<SimpleStoreInfoDto> searchInitialStores(@ModelAttribute SearchRequestDto request) {
+        hotStoreTracker.recordQuery(request.getQuery());
         return analysisService.searchStoresAndAnalyze(request);
     }
 
+    /**
+     * 가게 검색 자동완성 API (입력 중 호출, 색인에 없는 검색어만 네이버 api 조회)
+     * @param query     입력 중인 검색어
+     * @return          가게 제안 목록
+     */
+    @GetMapping("/stores/autocomplete")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public List<StoreSuggestionDto> autocompleteStores(@RequestParam String query) {
+        return analysisService.autocompleteStores(query);
+    }
+
     /**
      * 선택된 가게 상세 분석 API
      * @param request   선택한 가게 정보
@@ -75,6 +96,7 @@ public class AnalysisController {
     @GetMapping("/details")
     @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
     public StoreAnalysisResultDto getStoreDetailsAndAnalysis(@ModelAttribute StoreDetailRequestDto request) {
+        hotStoreTracker.recordStore(request);
         return analysisService.analyzeStoreDetails(request);
     }
 
@@ -131,4 +153,45 @@ public class AnalysisController {
     public SurroundingDataDto getSurroundingData(@ModelAttribute StoreDetailRequestDto request) {
         return analysisService.getSurroundingData(request);
     }
+
+    /**
+     * 가게 통합 분석 API
+     * 상세 분석, 날씨, 공휴일, 검색 트렌드, 영업 정보, 주변 상권을 병렬로 조회하여 한 번에 반환
+     * @param request   선택한 가게 정보
+     * @return          섹션별 성공/실패 여부가 포함된 통합 분석 결과
+     */
+    @GetMapping("/full")
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public FullAnalysisResultDto getFullAnalysis(@ModelAttribute StoreDetailRequestDto request) {
+        hotStoreTracker.recordStore(request);
+        return fullAnalysisService.analyzeAll(request);
+    }
+
+    /**
+     * 가게 통합 분석 스트리밍(SSE) API
+     * 모든 섹션 조회를 동시에 시작하고, 완료된 섹션부터 이벤트로 전송 (이벤트 이름: details, weather, holiday,
+     * searchTrend, openingInfo, surroundings / 데이터: 섹션 결과). 모든 섹션이 완료되면 complete 이벤트 전송 후 종료
+     * @param request   선택한 가게 정보
+     * @return          섹션 이벤트 스트림
+     */
+    @GetMapping(value = "/full/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public SseEmitter streamFullAnalysis(@ModelAttribute StoreDetailRequestDto request) {
+        hotStoreTracker.recordStore(request);
+        return fullAnalysisService.streamAll(request);
+    }
+
+    /**
+     * 인기 가게/검색어 집계 조회 API (관리자)
+     * 인기 가게는 가게 피처를 만료 전에 미리 갱신하는 대상이다.
+     * @return          인기 가게, 인기 검색어 (추정 요청 수 내림차순)
+     */
+    @GetMapping("/hot-stores")
+    @PreAuthorize("hasAnyAuthority('ADMIN')")
+    public HotStoreReportDto getHotStores() {
+        return HotStoreReportDto.builder()
+                .stores(hotStoreTracker.topStores())
+                .queries(hotStoreTracker.topQueries())
+                .build();
+    }
 }
@@ -0,0 +1,34 @@
+package com.koo.bonscore.biz.analysis.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <pre>
+ * AnalysisSectionDto.java
+ * 설명 : 웨이팅 예측 분석 - 통합 분석 응답의 섹션별 결과 dto
+ *        섹션별 성공 여부와 데이터(성공 시) 또는 오류 메시지(실패 시)를 담는다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // 정적 팩토리 메서드만 사용하도록 강제
+public class AnalysisSectionDto<T> {
+    private boolean success;        // 섹션 조회 성공 여부
+    private T data;                 // 섹션 데이터 (실패 시 null)
+    private String errorMessage;    // 실패 사유 코드: timeout, unavailable, error (성공 시 null)
+
+    public static <T> AnalysisSectionDto<T> success(T data) {
+        return new AnalysisSectionDto<>(true, data, null);
+    }
+
+    public static <T> AnalysisSectionDto<T> failure(String errorMessage) {
+        return new AnalysisSectionDto<>(false, null, errorMessage);
+    }
+}
@@ -0,0 +1,34 @@
+package com.koo.bonscore.biz.analysis.dto;
+
+import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
+import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
+import com.koo.bonscore.common.api.kma.holiday.dto.res.HolidayResponseDto;
+import com.koo.bonscore.common.api.kma.weather.dto.WeatherResponseDto;
+import com.koo.bonscore.common.api.naver.dto.datalab.DataLabResponseDto;
+import lombok.*;
+
+/**
+ * <pre>
+ * FullAnalysisResultDto.java
+ * 설명 : 웨이팅 예측 분석 - 통합 분석(/api/analysis/full) 결과 dto
+ *        각 섹션은 개별적으로 성공/실패 여부를 가진다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class FullAnalysisResultDto {
+    private AnalysisSectionDto<StoreAnalysisResultDto> details;     // 블로그 리뷰 수, 시간/요일 점수
+    private AnalysisSectionDto<WeatherResponseDto> weather;         // 오늘 날씨
+    private AnalysisSectionDto<HolidayResponseDto> holiday;         // 공휴일 정보
+    private AnalysisSectionDto<DataLabResponseDto> searchTrend;     // 검색 트렌드
+    private AnalysisSectionDto<StoreHoursResponseDto> openingInfo;  // 영업 정보
+    private AnalysisSectionDto<SurroundingDataDto> surroundings;    // 주변 상권
+}
@@ -0,0 +1,29 @@
+package com.koo.bonscore.biz.analysis.dto;
+
+import com.koo.bonscore.biz.analysis.hot.HeavyHitterTracker.HeavyHitter;
+import com.koo.bonscore.biz.analysis.hot.HotStoreTracker.HotStore;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * HotStoreReportDto.java
+ * 설명 : 웨이팅 예측 분석 - 인기 가게/검색어 집계(/api/analysis/hot-stores) 결과 dto
+ *        count는 Count-Min sketch 추정치(실제 요청 수 이상)이며, 집계 주기마다 절반으로 감소한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotStoreReportDto {
+    private List<HeavyHitter<HotStore>> stores;   // 인기 가게 (추정 분석 요청 수 내림차순)
+    private List<HeavyHitter<String>> queries;    // 인기 검색어 (추정 검색 수 내림차순)
+}
@@ -0,0 +1,25 @@
+package com.koo.bonscore.biz.analysis.dto;
+
+import lombok.*;
+
+/**
+ * <pre>
+ * StoreSuggestionDto.java
+ * 설명 : 웨이팅 예측 분석 - 가게 검색 자동완성(/api/analysis/stores/autocomplete) 결과 dto
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreSuggestionDto {
+    private String name;            // 가게 이름 (HTML 태그 제거)
+    private String simpleAddress;   // 간단 주소 (시/구/동)
+    private String detailAddress;   // 상세 주소
+}
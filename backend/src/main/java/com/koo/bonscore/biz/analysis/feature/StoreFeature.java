@@ -0,0 +1,47 @@
+package com.koo.bonscore.biz.analysis.feature;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * StoreFeature.java
+ * 설명 : 가게별 분석 피처 종류
+ *        field는 Redis 해시의 필드명이며, 갱신 시각은 "field.at" 필드에 저장한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public enum StoreFeature {
+    BLOG_COUNT("blogCount"),        // 네이버 블로그 리뷰 수
+    SURROUNDINGS("surroundings"),   // 카카오 주변 상권 카운트
+    SEARCH_TREND("searchTrend"),    // 네이버 DataLab 검색 트렌드
+    PLACE_STATUS("placeStatus");    // 구글 Places 영업 상태
+
+    private final String field;
+
+    StoreFeature(String field) {
+        this.field = field;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public String timestampField() {
+        return field + ".at";
+    }
+
+    /**
+     * 피처별 유효 시간
+     */
+    Duration ttl(StoreFeatureProperties properties) {
+        return switch (this) {
+            case BLOG_COUNT -> properties.getBlogCountTtl();
+            case SURROUNDINGS -> properties.getSurroundingsTtl();
+            case SEARCH_TREND -> properties.getSearchTrendTtl();
+            case PLACE_STATUS -> properties.getPlaceStatusTtl();
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.koo.bonscore.biz.analysis.feature;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * StoreFeatureProperties.java
+ * 설명 : 가게별 분석 피처 저장소(Redis) 설정
+ *        피처마다 원천 데이터의 변경 주기에 맞춰 유효 시간을 따로 둔다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.analysis.feature-store")
+@Getter
+@Setter
+public class StoreFeatureProperties {
+    private boolean enabled = true;
+    private Duration blogCountTtl = Duration.ofHours(12);   // 블로그 리뷰 수 유효 시간
+    private Duration surroundingsTtl = Duration.ofDays(7);  // 주변 상권 카운트 유효 시간
+    private Duration searchTrendTtl = Duration.ofDays(1);   // 검색 트렌드(DataLab) 유효 시간
+    private Duration placeStatusTtl = Duration.ofHours(6);  // 영업 상태(폐업, 검색 결과 없음) 유효 시간
+    private Duration recordTtl = Duration.ofDays(30);       // 마지막 갱신 후 가게 레코드 보관 시간
+}
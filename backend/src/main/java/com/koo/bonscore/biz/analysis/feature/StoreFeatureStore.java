@@ -0,0 +1,185 @@
+package com.koo.bonscore.biz.analysis.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * StoreFeatureStore.java
+ * 설명 : 가게별 분석 피처 저장소 (Redis 해시)
+ *
+ * 가게(정규화된 가게명 + 주소)마다 하나의 해시(store:feature:{해시})를 두고,
+ * 블로그 리뷰 수, 주변 상권, 검색 트렌드, 영업 상태를 피처별 필드(JSON)와 갱신 시각 필드로 저장한다.
+ * - 조회 시 유효 시간이 지나지 않은 피처는 외부 API를 호출하지 않고 그대로 사용
+ * - 없거나 오래된 피처만 다시 조회하여 해당 필드만 갱신 (다른 피처는 건드리지 않음)
+ * - 레코드는 마지막 갱신 후 recordTtl 동안 보관
+ * - 인기 가게는 HotStoreWarmer가 유효 시간이 끝나기 전에 미리 갱신 (refresh-ahead)
+ * Redis 장애 시에는 저장소를 거치지 않고 외부 API를 그대로 호출한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class StoreFeatureStore {
+
+    private static final String REDIS_KEY_PREFIX = "store:feature:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final StoreFeatureProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public StoreFeatureStore(StringRedisTemplate redisTemplate, StoreFeatureProperties properties, ObjectMapper objectMapper) {
+        this(redisTemplate, properties, objectMapper, Clock.systemDefaultZone());
+    }
+
+    StoreFeatureStore(StringRedisTemplate redisTemplate, StoreFeatureProperties properties, ObjectMapper objectMapper, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 가게 레코드 키 생성
+     * @param name    가게명
+     * @param address 주소 (간단 주소)
+     * @return "store:feature:정규화된 가게명/주소 해시"
+     */
+    public String keyOf(String name, String address) {
+        return REDIS_KEY_PREFIX + sha256(normalize(name) + "|" + normalize(address));
+    }
+
+    /**
+     * 유효한 피처가 있으면 반환하고, 없거나 오래되었으면 조회하여 저장 후 반환
+     * @param key       가게 레코드 키 ({@link #keyOf})
+     * @param feature   피처 종류
+     * @param type      피처 값 타입
+     * @param loader    피처 조회 (외부 API 호출)
+     * @param cacheable 저장 여부 판단 (일부 조회 실패 등 불완전한 결과는 저장하지 않음)
+     * @return 피처 값
+     */
+    public <T> T getOrLoad(String key, StoreFeature feature, Class<T> type, Supplier<T> loader, Predicate<T> cacheable) {
+        T value = getFresh(key, feature, type);
+        if (value != null) {
+            return value;
+        }
+        value = loader.get();
+        if (value != null && cacheable.test(value)) {
+            put(key, feature, value);
+        }
+        return value;
+    }
+
+    /**
+     * 유효 시간이 지나지 않은 피처 조회
+     * @return 피처 값 (없거나, 오래되었거나, 저장소를 사용할 수 없으면 null)
+     */
+    public <T> T getFresh(String key, StoreFeature feature, Class<T> type) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        try {
+            List<Object> fields = redisTemplate.opsForHash()
+                    .multiGet(key, List.of(feature.field(), feature.timestampField()));
+            if (fields == null || fields.get(0) == null || fields.get(1) == null) {
+                return null;
+            }
+            long updatedAt = Long.parseLong((String) fields.get(1));
+            if (clock.millis() - updatedAt >= feature.ttl(properties).toMillis()) {
+                return null;
+            }
+            return objectMapper.readValue((String) fields.get(0), type);
+        } catch (Exception e) {
+            log.warn("가게 피처 조회 실패 - 외부 API로 조회합니다: feature={}, reason={}", feature.field(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 피처가 없거나, 유효 시간이 window 이내로 남았는지 확인 (미리 갱신할 대상인지)
+     * @param window 만료 전 미리 갱신을 시작할 시간
+     * @return 갱신 대상 여부 (저장소를 사용할 수 없으면 저장할 수도 없으므로 false)
+     */
+    public boolean expiresWithin(String key, StoreFeature feature, Duration window) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        try {
+            Object updatedAt = redisTemplate.opsForHash().get(key, feature.timestampField());
+            if (updatedAt == null) {
+                return true;
+            }
+            long age = clock.millis() - Long.parseLong((String) updatedAt);
+            return age >= feature.ttl(properties).minus(window).toMillis();
+        } catch (Exception e) {
+            log.warn("가게 피처 갱신 시각 조회 실패: feature={}, reason={}", feature.field(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 피처 값과 갱신 시각을 저장하고 레코드 보관 시간을 연장
+     */
+    public void put(String key, StoreFeature feature, Object value) {
+        put(key, feature, value, Duration.ZERO);
+    }
+
+    /**
+     * 이미 age만큼 지난 피처 값 저장 (갱신 시각을 현재 - age로 기록하여 남은 유효 시간 동안만 사용)
+     * @param age 조회한 값의 나이 (예: 로컬 캐시에 저장된 후 지난 시간)
+     */
+    public void put(String key, StoreFeature feature, Object value, Duration age) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    feature.field(), objectMapper.writeValueAsString(value),
+                    feature.timestampField(), Long.toString(clock.millis() - age.toMillis())));
+            redisTemplate.expire(key, properties.getRecordTtl());
+        } catch (Exception e) {
+            log.warn("가게 피처 저장 실패: feature={}, reason={}", feature.field(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가게명/주소 정규화 (앞뒤 공백 제거, 연속 공백을 하나로, 소문자 변환)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원되므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * HeavyHitterTracker.java
+ * 설명 : 스트리밍 heavy hitter 집계 (Count-Min sketch + top-K)
+ *
+ * 키 공간(가게명, 검색어)이 무한하므로 키별 카운터 대신 고정 크기의 Count-Min sketch(depth x width)로 빈도를 추정하고,
+ * 추정 빈도가 높은 상위 K개 키만 대표 값과 함께 보관한다.
+ * - 행마다 다른 시드로 키의 UTF-8 바이트를 64비트 해싱하여 열을 고름 (String.hashCode()가 같은 키도 행마다 독립적으로 분산)
+ * - 보수적 갱신(conservative update): 행별 카운터 중 최솟값 + 1 보다 작은 카운터만 올려 과대 추정을 줄임
+ * - 추정 빈도는 실제 빈도보다 작지 않음 (해시 충돌 시 과대 추정만 발생)
+ * - decay() 호출 시 모든 카운터를 절반으로 줄여 최근 인기를 반영
+ * 모든 메서드는 동기화되어 있으며, 기록 1회는 O(depth) (top-K가 가득 찬 상태의 새 키는 O(K))
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public class HeavyHitterTracker<T> {
+
+    private final int topK;
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private final long[] seeds;                 // 행별 해시 시드
+    private final Map<String, HeavyHitter<T>> top = new HashMap<>();
+
+    public HeavyHitterTracker(int topK, int width, int depth) {
+        if (topK <= 0 || width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("topK, width, depth는 1 이상이어야 합니다.");
+        }
+        this.topK = topK;
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+        this.seeds = new long[depth];
+        for (int row = 0; row < depth; row++) {
+            seeds[row] = mix64(0x9E3779B97F4A7C15L * (row + 1));
+        }
+    }
+
+    /**
+     * 키 1회 기록
+     * @param key   집계 키 (정규화된 값)
+     * @param value 키의 대표 값 (top-K에 들면 최근 값으로 보관)
+     * @return 기록 후 추정 빈도
+     */
+    public synchronized long record(String key, T value) {
+        int[] indexes = indexesOf(key);
+
+        long min = Long.MAX_VALUE;
+        for (int index : indexes) {
+            min = Math.min(min, counters[index]);
+        }
+        long estimate = min + 1;
+        for (int index : indexes) {
+            if (counters[index] < estimate) {
+                counters[index] = estimate;
+            }
+        }
+
+        HeavyHitter<T> current = top.get(key);
+        if (current != null || top.size() < topK) {
+            top.put(key, new HeavyHitter<>(key, value, estimate));
+            return estimate;
+        }
+        HeavyHitter<T> smallest = top.values().stream().min(Comparator.comparingLong(HeavyHitter::count)).orElseThrow();
+        if (estimate > smallest.count()) {
+            top.remove(smallest.key());
+            top.put(key, new HeavyHitter<>(key, value, estimate));
+        }
+        return estimate;
+    }
+
+    /**
+     * 키의 추정 빈도 (실제 빈도 이상)
+     */
+    public synchronized long estimate(String key) {
+        long min = Long.MAX_VALUE;
+        for (int index : indexesOf(key)) {
+            min = Math.min(min, counters[index]);
+        }
+        return min;
+    }
+
+    /**
+     * 추정 빈도 내림차순 상위 K개
+     */
+    public synchronized List<HeavyHitter<T>> top() {
+        List<HeavyHitter<T>> sorted = new ArrayList<>(top.values());
+        sorted.sort(Comparator.comparingLong(HeavyHitter<T>::count).reversed());
+        return sorted;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 감소 (0이 된 top-K 항목은 제거)
+     */
+    public synchronized void decay() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+        Iterator<Map.Entry<String, HeavyHitter<T>>> it = top.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, HeavyHitter<T>> entry = it.next();
+            long halved = entry.getValue().count() >>> 1;
+            if (halved == 0) {
+                it.remove();
+            } else {
+                entry.setValue(new HeavyHitter<>(entry.getKey(), entry.getValue().value(), halved));
+            }
+        }
+    }
+
+    // 행별 카운터 위치 (행마다 시드가 다른 해시로 열 선택)
+    private int[] indexesOf(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int[] indexes = new int[depth];
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + (int) Long.remainderUnsigned(hash64(bytes, seeds[row]), width);
+        }
+        return indexes;
+    }
+
+    // 시드로 초기화한 FNV-1a 64비트 해시 + splitmix64 마무리 섞기
+    private static long hash64(byte[] bytes, long seed) {
+        long h = seed ^ 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return mix64(h);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 인기 항목
+     * @param key   집계 키
+     * @param value 대표 값 (가장 최근에 기록된 값)
+     * @param count 추정 빈도
+     */
+    public record HeavyHitter<T>(String key, T value, long count) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * HotStoreProperties.java
+ * 설명 : 인기 가게(heavy hitter) 집계 및 가게 피처 미리 갱신(refresh-ahead) 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.analysis.hot-store")
+@Getter
+@Setter
+public class HotStoreProperties {
+    private boolean enabled = true;
+    private int topK = 50;                                  // 집계할 인기 가게/검색어 수
+    private int sketchWidth = 2048;                         // Count-Min sketch 행별 카운터 수
+    private int sketchDepth = 4;                            // Count-Min sketch 해시 함수(행) 수
+    private Duration decayInterval = Duration.ofHours(1);   // 집계 횟수를 절반으로 줄이는 주기 (최근 인기 반영)
+    private Duration warmInterval = Duration.ofMinutes(10); // 인기 가게 피처 미리 갱신 주기
+    private Duration refreshAhead = Duration.ofHours(1);    // 피처 만료 전 미리 갱신을 시작할 시간
+    private long minHits = 3;                               // 미리 갱신 대상이 되는 최소 집계 횟수
+    private int maxRefreshesPerRun = 100;                   // 1회 갱신에서 다시 조회할 최대 피처 수
+}
@@ -0,0 +1,111 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.hot.HeavyHitterTracker.HeavyHitter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * HotStoreTracker.java
+ * 설명 : 분석 요청이 많은 인기 가게와 인기 검색어 집계
+ *
+ * AnalysisController로 들어오는 가게 분석 요청(가게명 + 주소)과 가게 검색어를 각각 HeavyHitterTracker로 집계한다.
+ * 인기 가게는 HotStoreWarmer가 가게 피처를 미리 갱신하는 대상이 되고, 집계 결과는 관리자 API로 조회할 수 있다.
+ * 집계 횟수는 decay-interval마다 절반으로 줄어 최근 인기가 반영된다. (인스턴스별 집계)
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+public class HotStoreTracker {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final HotStoreProperties properties;
+    private final HeavyHitterTracker<HotStore> stores;
+    private final HeavyHitterTracker<String> queries;
+
+    public HotStoreTracker(HotStoreProperties properties) {
+        this.properties = properties;
+        this.stores = new HeavyHitterTracker<>(properties.getTopK(), properties.getSketchWidth(), properties.getSketchDepth());
+        this.queries = new HeavyHitterTracker<>(properties.getTopK(), properties.getSketchWidth(), properties.getSketchDepth());
+    }
+
+    /**
+     * 가게 분석 요청 1회 기록
+     */
+    public void recordStore(StoreDetailRequestDto request) {
+        if (!properties.isEnabled() || request.getName() == null || request.getName().isBlank()) {
+            return;
+        }
+        String key = normalize(request.getName()) + "|" + normalize(request.getSimpleAddress());
+        stores.record(key, new HotStore(request.getName(), request.getSimpleAddress(), request.getDetailAddress(), request.getLang()));
+    }
+
+    /**
+     * 가게 검색어 1회 기록
+     */
+    public void recordQuery(String query) {
+        if (!properties.isEnabled() || query == null || query.isBlank()) {
+            return;
+        }
+        String key = normalize(query);
+        queries.record(key, query.trim());
+    }
+
+    /**
+     * 인기 가게 (추정 요청 수 내림차순)
+     */
+    public List<HeavyHitter<HotStore>> topStores() {
+        return stores.top();
+    }
+
+    /**
+     * 인기 검색어 (추정 검색 수 내림차순)
+     */
+    public List<HeavyHitter<String>> topQueries() {
+        return queries.top();
+    }
+
+    /**
+     * 집계 횟수 감쇠
+     */
+    @Scheduled(initialDelayString = "#{@hotStoreProperties.decayInterval.toMillis()}",
+            fixedDelayString = "#{@hotStoreProperties.decayInterval.toMillis()}")
+    public void decay() {
+        stores.decay();
+        queries.decay();
+    }
+
+    /**
+     * 집계 키 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자 변환)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(text.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 인기 가게 (가장 최근 요청의 가게 정보)
+     */
+    public record HotStore(String name, String simpleAddress, String detailAddress, String lang) {
+
+        public StoreDetailRequestDto toRequest() {
+            return StoreDetailRequestDto.builder()
+                    .name(name)
+                    .simpleAddress(simpleAddress)
+                    .detailAddress(detailAddress)
+                    .lang(lang)
+                    .build();
+        }
+    }
+}
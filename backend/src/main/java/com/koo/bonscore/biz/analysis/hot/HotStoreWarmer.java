@@ -0,0 +1,94 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.hot.HeavyHitterTracker.HeavyHitter;
+import com.koo.bonscore.biz.analysis.hot.HotStoreTracker.HotStore;
+import com.koo.bonscore.biz.analysis.service.FullAnalysisService;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * HotStoreWarmer.java
+ * 설명 : 인기 가게 피처 미리 갱신(refresh-ahead) 스케줄러
+ *
+ * warm-interval마다 HotStoreTracker의 인기 가게(min-hits 이상) 중 가게 피처(블로그 리뷰 수, 주변 상권, 검색 트렌드, 영업 상태)가
+ * 없거나 refresh-ahead 이내에 만료되는 피처만 다시 조회하여 StoreFeatureStore에 저장한다.
+ * 인기 가게 요청이 만료된 피처 때문에 외부 API 응답을 기다리지 않도록 하기 위함이다.
+ * - 1회 갱신에서 다시 조회하는 피처 수는 max-refreshes-per-run을 넘지 않음
+ * - 호출 한도 초과/서킷 오픈(BsCoreException) 시 이번 갱신을 중단하여 사용자 요청에 한도를 남김
+ * 결과는 Micrometer(analysis.hot-store.refresh, feature=blogCount 등)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStoreWarmer {
+
+    private final HotStoreTracker hotStoreTracker;
+    private final FullAnalysisService fullAnalysisService;
+    private final HotStoreProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 인기 가게 피처 미리 갱신 (기동 1분 후 시작, 이후 warm-interval 간격)
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "#{@hotStoreProperties.warmInterval.toMillis()}")
+    public void warm() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<HotStore> stores = hotStoreTracker.topStores().stream()
+                .filter(hitter -> hitter.count() >= properties.getMinHits())
+                .map(HeavyHitter::value)
+                .toList();
+        if (stores.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int refreshed = warm(stores, properties.getMaxRefreshesPerRun());
+        log.info("[HOT-STORE] 인기 가게 피처 미리 갱신 완료: 대상 {}개, 갱신 피처 {}개 ({}ms)",
+                stores.size(), refreshed, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    /**
+     * 인기순으로 가게 피처 갱신
+     * @param stores 인기순 가게 목록
+     * @param budget 다시 조회할 최대 피처 수 (가게 단위로 확인하므로 마지막 가게에서 최대 피처 수만큼 넘을 수 있음)
+     * @return 다시 조회한 피처 수
+     */
+    int warm(List<HotStore> stores, int budget) {
+        int refreshed = 0;
+        for (HotStore store : stores) {
+            if (refreshed >= budget) {
+                log.debug("[HOT-STORE] 갱신 피처 수 한도({})에 도달하여 남은 가게는 다음 주기에 갱신합니다.", budget);
+                break;
+            }
+            try {
+                List<StoreFeature> features = fullAnalysisService.refreshFeatures(store.toRequest(), properties.getRefreshAhead());
+                features.forEach(feature ->
+                        meterRegistry.counter("analysis.hot-store.refresh", "feature", feature.field()).increment());
+                refreshed += features.size();
+            } catch (BsCoreException e) {
+                // 호출 한도 초과 또는 서킷 오픈: 남은 가게는 사용자 요청 시 조회
+                log.warn("[HOT-STORE] 인기 가게 피처 갱신 중단: {}", e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.debug("[HOT-STORE] 가게 피처 갱신 실패: name={}, reason={}", store.name(), e.getMessage());
+            }
+        }
+        return refreshed;
+    }
+}
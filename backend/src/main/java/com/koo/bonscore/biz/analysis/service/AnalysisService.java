@@ -1,33 +1,46 @@
 package com.koo.bonscore.biz.analysis.service;
 
+import com.koo.bonscore.biz.analysis.autocomplete.StoreAutocompleteIndex;
 import com.koo.bonscore.biz.analysis.dto.SearchRequestDto;
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureStore;
 import com.koo.bonscore.biz.analysis.dto.StoreAnalysisResultDto;
 import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.dto.StoreSuggestionDto;
 import com.koo.bonscore.common.api.google.service.GoogleTranslateService;
 import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
 import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
 import com.koo.bonscore.common.api.kakao.surround.service.KakaoMapService;
 import com.koo.bonscore.common.api.naver.NaverApiClient;
+import com.koo.bonscore.common.api.naver.cache.NaverBlogCountCache;
 import com.koo.bonscore.common.api.naver.dto.NaverApiResponseDto;
 import com.koo.bonscore.biz.analysis.dto.SimpleStoreInfoDto;
-import com.koo.bonscore.common.api.naver.dto.blog.NaverBlogSearchResponseDto;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import com.koo.bonscore.common.api.naver.dto.NaverItemDto;
-import org.springframework.web.util.HtmlUtils;
+import com.koo.bonscore.common.util.text.TextNormalizer;
 
 /**
  * <pre>
@@ -45,12 +58,22 @@ import org.springframework.web.util.HtmlUtils;
 public class AnalysisService {
 
     private final NaverApiClient naverApiClient;
+    private final NaverBlogCountCache naverBlogCountCache;
     private final KakaoMapService kakaoMapService;
     private final GoogleTranslateService googleTranslateService;
+    private final StoreFeatureStore storeFeatureStore;
+    private final StoreAutocompleteIndex storeAutocompleteIndex;
+
+    @Qualifier("apiTaskExecutor")
+    private final Executor apiTaskExecutor;
+
+    // 주변 상권 카테고리별 카카오 API 호출 타임아웃 (ms)
+    @Value("${api.analysis.surrounding-timeout-ms:3000}")
+    private long surroundingCallTimeoutMs;
 
-    // HTML 태그 제거용 정규표현식
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
     private static final String TRANSLATION_SEPARATOR = " ||| ";
+    // 주변 '핫플레이스' 카테고리 (음식점, 카페, 영화관)
+    private static final List<String> HOT_PLACE_CATEGORIES = Arrays.asList("FD6", "CE7", "CT1");
 
     /**
      * Naver 지역 검색 API를 통해 가게를 검색
@@ -71,18 +94,15 @@ public class AnalysisService {
         }
 
         List<NaverItemDto> items = naverResponse.getItems();
+        storeAutocompleteIndex.addAll(items); // 검색 결과를 자동완성 색인에 반영
 
         if ("en".equalsIgnoreCase(lang)) {
-            // 번역할 한글 가게 이름만 리스트로 추출
-            List<String> textsToTranslate = items.stream()
-                    .map(item -> {
-                        // ★★★ HTML 태그를 먼저 제거하고, 그 다음에 unescape 처리 ★★★
-                        String cleanTitle = HTML_TAG_PATTERN.matcher(item.getTitle()).replaceAll("");
-                        String originalName = HtmlUtils.htmlUnescape(cleanTitle);
-
-                        String fullAddress = getFullAddress(item);
-                        return originalName + TRANSLATION_SEPARATOR + fullAddress;
-                    })
+            // 1. HTML 태그/엔티티를 정리한 한글 가게 이름 (번역 요청과 결과 조합에 함께 사용)
+            List<String> originalNames = items.stream()
+                    .map(item -> TextNormalizer.stripTagsAndUnescape(item.getTitle()))
+                    .toList();
+            List<String> textsToTranslate = IntStream.range(0, items.size())
+                    .mapToObj(i -> originalNames.get(i) + TRANSLATION_SEPARATOR + getFullAddress(items.get(i)))
                     .collect(Collectors.toList());
 
             // 2. 구글 번역 API를 통해 리스트 전체를 한번에 번역
@@ -99,26 +119,25 @@ public class AnalysisService {
             return IntStream.range(0, items.size())
                     .mapToObj(i -> {
                         NaverItemDto item = items.get(i);
-                        String cleanOriginalTitle = HTML_TAG_PATTERN.matcher(item.getTitle()).replaceAll("");
-                        String originalName = HtmlUtils.htmlUnescape(cleanOriginalTitle);
-                        String[] originalAddresses = processKoreanAddressString(getFullAddress(item)); // 한글 주소 분리
+                        String originalName = originalNames.get(i);
+                        TextNormalizer.Address originalAddress = TextNormalizer.splitKoreanAddress(getFullAddress(item)); // 한글 주소 분리
 
                         // --- 번역된 영문 데이터 추출 및 분리 ---
-                        String translatedCombinedText = HtmlUtils.htmlUnescape(translatedTexts.get(i));
+                        String translatedCombinedText = TextNormalizer.unescape(translatedTexts.get(i));
                         String[] parts = translatedCombinedText.split(Pattern.quote("|||"));
                         String translatedName = (parts.length > 0) ? parts[0].trim() : originalName;
                         String translatedAddress = (parts.length > 1) ? parts[1].trim() : getFullAddress(item);
-                        String[] translatedAddresses = processTranslatedAddressString(translatedAddress);
+                        TextNormalizer.Address translatedAddresses = TextNormalizer.splitEnglishAddress(translatedAddress);
 
                         // --- 최종 DTO 생성 ---
                         return new SimpleStoreInfoDto(
                                 idCounter.getAndIncrement(),
                                 translatedName,                 // name (영문)
                                 originalName,                   // nameKo (한글)
-                                translatedAddresses[0],         // simpleAddress (영문)
-                                translatedAddresses[1],         // detailAddress (영문)
-                                originalAddresses[0],           // simpleAddressKo (한글)
-                                originalAddresses[1]            // detailAddressKo (한글)
+                                translatedAddresses.simple(),   // simpleAddress (영문)
+                                translatedAddresses.detail(),   // detailAddress (영문)
+                                originalAddress.simple(),       // simpleAddressKo (한글)
+                                originalAddress.detail()        // detailAddressKo (한글)
                         );
                     })
                     .collect(Collectors.toList());
@@ -129,83 +148,31 @@ public class AnalysisService {
     }
 
     /**
-     * NaverItemDto에서 전체 주소 문자열을 가져오는 헬퍼 메서드
-     */
-    private String getFullAddress(NaverItemDto item) {
-        return (item.getRoadAddress() != null && !item.getRoadAddress().isEmpty())
-                ? item.getRoadAddress()
-                : item.getAddress();
-    }
-
-    /**
-     * 전체 주소 문자열을 simpleAddress와 detailAddress로 분리하는 헬퍼 메서드
-     * @param fullAddress 전체 주소 문자열 (한글 또는 영문)
-     * @return String 배열: [0] = simpleAddress, [1] = detailAddress
-     */
-    private String[] processKoreanAddressString(String fullAddress) {
-        String simpleAddress = fullAddress;
-        String detailAddress = "";
-
-        if (fullAddress != null && !fullAddress.isEmpty()) {
-            String[] addressParts = fullAddress.split(" ");
-            if (addressParts.length > 2) {
-                // 예: "서울 종로구" 또는 "서울특별시 종로구"
-                simpleAddress = addressParts[0] + " " + addressParts[1];
-                detailAddress = String.join(" ", Arrays.copyOfRange(addressParts, 2, addressParts.length));
-            }
-        }
-        return new String[]{simpleAddress, detailAddress};
-    }
-
-    /**
-     * 번역된 영어 주소 문자열을 simpleAddress와 detailAddress로 분리합니다.
-     * 영어 주소는 보통 쉼표(,)로 구분되며, 뒤에서부터 City, District 순서로 나타납니다.
-     * @param translatedFullAddress 번역된 전체 주소 (예: "8 Dongsomun-ro 6-gil, Seongbuk-gu, Seoul")
-     * @return String 배열: [0] = simpleAddress (예: "Seongbuk-gu, Seoul"), [1] = detailAddress (예: "8 Dongsomun-ro 6-gil")
+     * 가게 검색 자동완성
+     * 로컬 색인(이전 검색 결과)에서 먼저 찾고, 색인에 없는 검색어만 네이버 지역 검색으로 조회하여 색인에 반영
+     * @param query 입력 중인 검색어
+     * @return 가게 제안 목록 (한글)
      */
-    private String[] processTranslatedAddressString(String translatedFullAddress) {
-        if (translatedFullAddress == null || translatedFullAddress.isEmpty()) {
-            return new String[]{"", ""};
+    public List<StoreSuggestionDto> autocompleteStores(String query) {
+        List<StoreSuggestionDto> suggestions = storeAutocompleteIndex.suggest(query);
+        if (!suggestions.isEmpty() || !storeAutocompleteIndex.shouldFallThrough(query)) {
+            return suggestions;
         }
 
-        // 쉼표를 기준으로 주소 구성요소를 분리합니다.
-        String[] parts = translatedFullAddress.split(",\\s*"); // ", " 또는 "," 로 분리
-
-        if (parts.length >= 2) {
-            // 뒤에서 두 개의 요소를 simpleAddress로 조합합니다 (예: "District, City").
-            String simpleAddress = parts[parts.length - 2] + ", " + parts[parts.length - 1];
-            // 나머지 앞부분을 detailAddress로 조합합니다.
-            String detailAddress = String.join(", ", Arrays.copyOfRange(parts, 0, parts.length - 2));
-            return new String[]{simpleAddress, detailAddress};
-        } else if (parts.length == 1) {
-            // 쉼표가 없는 짧은 주소의 경우, 전체를 simpleAddress로 처리합니다.
-            return new String[]{translatedFullAddress, ""};
-        } else {
-            return new String[]{translatedFullAddress, ""};
+        NaverApiResponseDto naverResponse = naverApiClient.searchLocal(query.trim());
+        if (naverResponse == null || naverResponse.getItems() == null) {
+            return Collections.emptyList();
         }
+        return storeAutocompleteIndex.addAll(naverResponse.getItems());
     }
 
     /**
-     * 주소 문자열을 simpleAddress와 detailAddress로 분리하는 헬퍼 메서드
-     * @param item NaverItemDto
-     * @return String 배열: [0] = simpleAddress, [1] = detailAddress
+     * NaverItemDto에서 전체 주소 문자열을 가져오는 헬퍼 메서드
      */
-    private String[] processAddress(NaverItemDto item) {
-        String fullAddress = (item.getRoadAddress() != null && !item.getRoadAddress().isEmpty())
+    private String getFullAddress(NaverItemDto item) {
+        return (item.getRoadAddress() != null && !item.getRoadAddress().isEmpty())
                 ? item.getRoadAddress()
                 : item.getAddress();
-
-        String simpleAddress = fullAddress;
-        String detailAddress = "";
-
-        if (fullAddress != null && !fullAddress.isEmpty()) {
-            String[] addressParts = fullAddress.split(" ");
-            if (addressParts.length > 2) {
-                simpleAddress = addressParts[0] + " " + addressParts[1];
-                detailAddress = String.join(" ", Arrays.copyOfRange(addressParts, 2, addressParts.length));
-            }
-        }
-        return new String[]{simpleAddress, detailAddress};
     }
 
     /**
@@ -220,19 +187,18 @@ public class AnalysisService {
         return items.stream()
                 .filter(Objects::nonNull)
                 .map(item -> {
-                    String cleanTitle = HTML_TAG_PATTERN.matcher(item.getTitle()).replaceAll("");
-                    String originalName = HtmlUtils.htmlUnescape(cleanTitle);
-                    String[] addresses = processKoreanAddressString(getFullAddress(item));
+                    String originalName = TextNormalizer.stripTagsAndUnescape(item.getTitle());
+                    TextNormalizer.Address address = TextNormalizer.splitKoreanAddress(getFullAddress(item));
 
                     // isKoreanMode가 true이면 모든 필드에 한글 데이터를 채웁니다.
                     return new SimpleStoreInfoDto(
                             idCounter.getAndIncrement(),
                             originalName,
                             originalName,
-                            addresses[0],
-                            addresses[1],
-                            addresses[0],
-                            addresses[1]
+                            address.simple(),
+                            address.detail(),
+                            address.simple(),
+                            address.detail()
                     );
                 })
                 .collect(Collectors.toList());
@@ -247,12 +213,10 @@ public class AnalysisService {
     public StoreAnalysisResultDto analyzeStoreDetails(StoreDetailRequestDto request) {
         log.info("가게 상세 분석 서비스 시작: storeName={}, selectedTime={}", request.getName(), request.getSelectedTime());
 
-        // 1. 블로그 리뷰 수 조회
-        String searchQueryForBlog = request.getSimpleAddress() + " " + request.getName();
-        NaverBlogSearchResponseDto blogResponse = naverApiClient.searchBlog(searchQueryForBlog);
-        int blogCount = (blogResponse != null) ? blogResponse.getTotal() : 0;
+        // 1. 블로그 리뷰 수 조회 (가게 피처 저장소 -> 캐시, 오래된 값은 백그라운드 갱신)
+        int blogCount = getBlogCount(request);
 
-        // 2. 시간/요일 기반 점수 계산
+        // 2. 시간/요일 기반 점수 계산 (요청 시각에 따라 달라지므로 저장하지 않음)
         int timeScore = calculateTimeScore(request.getSelectedTime());
 
         // 3. 블로그 리뷰 수 기반 점수 계산
@@ -269,6 +233,27 @@ public class AnalysisService {
                 .build();
     }
 
+    /**
+     * 가게 피처 저장소의 유효한 블로그 리뷰 수를 반환하고, 없으면 캐시에서 조회하여 저장
+     * 캐시 값은 refresh-after가 지났어도 즉시 반환되므로, 캐시에 저장된 후 지난 시간만큼 이미 지난 값으로 저장한다.
+     * (오래된 값이 저장소에서 새 값처럼 유효 시간 동안 사용되지 않도록 함)
+     */
+    private int getBlogCount(StoreDetailRequestDto request) {
+        String key = featureKeyOf(request);
+        Integer stored = storeFeatureStore.getFresh(key, StoreFeature.BLOG_COUNT, Integer.class);
+        if (stored != null) {
+            return stored;
+        }
+        String query = blogQueryOf(request);
+        int blogCount = naverBlogCountCache.getBlogCount(query);
+        storeFeatureStore.put(key, StoreFeature.BLOG_COUNT, blogCount, naverBlogCountCache.ageOf(query));
+        return blogCount;
+    }
+
+    private static String blogQueryOf(StoreDetailRequestDto request) {
+        return request.getSimpleAddress() + " " + request.getName();
+    }
+
     /**
      * 시간/요일 기반 점수를 계산하는 메서드
      * @param selectedTime 프론트에서 받은 시간 (예: "16-18")
@@ -333,14 +318,74 @@ public class AnalysisService {
 
     /**
      * 주변 상권 데이터를 수집하여 DTO로 반환하는 메서드
+     * 카테고리별 카카오 API 호출은 apiTaskExecutor에서 병렬로 수행되며, 호출별 타임아웃이 적용된다.
+     * 특정 카테고리 조회가 실패하면 해당 카운트만 null(알 수 없음)로 반환한다.
+     * 가게 좌표 조회 자체가 실패하면(카카오 장애, 서킷 오픈 등) 모든 카운트를 null로 반환한다.
+     * 모든 카운트를 얻은 결과만 가게 피처 저장소에 저장하고, 유효한 저장 결과가 있으면 카카오를 호출하지 않는다.
      */
     public SurroundingDataDto getSurroundingData(StoreDetailRequestDto request) {
+        return storeFeatureStore.getOrLoad(featureKeyOf(request), StoreFeature.SURROUNDINGS, SurroundingDataDto.class,
+                () -> collectSurroundingData(request), AnalysisService::isComplete);
+    }
+
+    /**
+     * 가게 피처 저장소의 레코드 키 (가게명 + 간단 주소)
+     */
+    public String featureKeyOf(StoreDetailRequestDto request) {
+        return storeFeatureStore.keyOf(request.getName(), request.getSimpleAddress());
+    }
+
+    /**
+     * 블로그 리뷰 수, 주변 상권 피처 중 만료가 가까운 피처만 미리 다시 조회하여 저장 (인기 가게 refresh-ahead)
+     * 블로그 리뷰 수는 로컬 캐시를 거치지 않고 네이버에서 다시 조회한다.
+     * @param request      가게 정보
+     * @param refreshAhead 만료 전 미리 갱신을 시작할 시간
+     * @return 다시 조회한 피처 목록
+     */
+    public List<StoreFeature> refreshFeatures(StoreDetailRequestDto request, Duration refreshAhead) {
+        String key = featureKeyOf(request);
+        List<StoreFeature> refreshed = new ArrayList<>();
+        if (storeFeatureStore.expiresWithin(key, StoreFeature.BLOG_COUNT, refreshAhead)) {
+            storeFeatureStore.put(key, StoreFeature.BLOG_COUNT, naverBlogCountCache.refreshBlogCount(blogQueryOf(request)));
+            refreshed.add(StoreFeature.BLOG_COUNT);
+        }
+        if (storeFeatureStore.expiresWithin(key, StoreFeature.SURROUNDINGS, refreshAhead)) {
+            SurroundingDataDto surroundings = collectSurroundingData(request);
+            if (isComplete(surroundings)) {
+                storeFeatureStore.put(key, StoreFeature.SURROUNDINGS, surroundings);
+            }
+            refreshed.add(StoreFeature.SURROUNDINGS);
+        }
+        return refreshed;
+    }
+
+    private static boolean isComplete(SurroundingDataDto data) {
+        return data.getHotPlaceCount() != null && data.getCompetitorCount() != null && data.getSubwayStationCount() != null
+                && data.getUniversityCount() != null && data.getOfficeBuildingCount() != null;
+    }
+
+    /**
+     * 카카오 API로 주변 상권 데이터 수집
+     */
+    private SurroundingDataDto collectSurroundingData(StoreDetailRequestDto request) {
         // 1. 요청된 가게의 좌표 및 카테고리 정보 가져오기
-        KakaoMapResponse.Document storeInfo = kakaoMapService.searchAndGetFirst(request.getName());
+        KakaoMapResponse.Document storeInfo;
+        try {
+            storeInfo = kakaoMapService.searchAndGetFirst(request.getName());
+        } catch (BsCoreException e) {
+            log.warn("가게 좌표 조회 실패 - 주변 상권 데이터를 알 수 없음으로 반환합니다: {}, reason={}", request.getName(), e.getMessage());
+            return SurroundingDataDto.builder().build();
+        }
         if (storeInfo == null) {
             log.warn("가게 좌표 정보를 찾을 수 없습니다: {}", request.getName());
             // 데이터가 없으면 모든 카운트를 0으로 설정하여 반환
-            return SurroundingDataDto.builder().build();
+            return SurroundingDataDto.builder()
+                    .hotPlaceCount(0)
+                    .competitorCount(0)
+                    .subwayStationCount(0)
+                    .universityCount(0)
+                    .officeBuildingCount(0)
+                    .build();
         }
 
         String longitude = storeInfo.getX();
@@ -348,39 +393,37 @@ public class AnalysisService {
         String storeCategoryCode = storeInfo.getCategoryGroupCode();
         int radius = 500; // 분석 반경 (500m)
 
-        // 2. 주변 '핫플레이스' 데이터 수집 (음식점, 카페, 영화관)
-        int hotPlaceCount = 0;
-        List<String> hotPlaceCategories = Arrays.asList("FD6", "CE7", "CT1");
-        for (String categoryCode : hotPlaceCategories) {
-            KakaoMapResponse response = kakaoMapService.searchByCategory(categoryCode, longitude, latitude, radius);
-            if (response != null) {
-                hotPlaceCount += response.getMeta().getTotalCount();
-            }
-        }
-        log.info("[{}] 주변 핫플레이스 수: {}", request.getName(), hotPlaceCount);
+        // 2. 주변 '핫플레이스'(음식점, 카페, 영화관), '주요 시설'(역, 대학, 오피스) 조회를 동시에 시작
+        List<CompletableFuture<Integer>> hotPlaceFutures = HOT_PLACE_CATEGORIES.stream()
+                .map(categoryCode -> countAsync(() -> kakaoMapService.searchByCategory(categoryCode, longitude, latitude, radius)))
+                .toList();
 
-        // 3. 주변 '경쟁 가게' 데이터 수집
-        int competitorCount = 0;
-        if (storeCategoryCode != null && !storeCategoryCode.isEmpty()) {
-            KakaoMapResponse response = kakaoMapService.searchByCategory(storeCategoryCode, longitude, latitude, radius);
-            if (response != null) {
-                // 검색 결과에는 자기 자신도 포함되므로 1을 빼줌
-                competitorCount = Math.max(0, response.getMeta().getTotalCount() - 1);
-            }
-        }
-        log.info("[{}] 주변 경쟁 가게 수: {}", request.getName(), competitorCount);
+        // 3. 주변 '경쟁 가게' 조회 (가게 카테고리가 없으면 0)
+        // 검색 결과에는 자기 자신도 포함되므로 1을 빼줌
+        CompletableFuture<Integer> competitorFuture = (storeCategoryCode != null && !storeCategoryCode.isEmpty())
+                ? countAsync(() -> kakaoMapService.searchByCategory(storeCategoryCode, longitude, latitude, radius))
+                        .thenApply(total -> (total != null) ? Math.max(0, total - 1) : null)
+                : CompletableFuture.completedFuture(0);
 
-        // 4. 주변 '주요 시설' 데이터 수집 (역, 대학, 오피스)
-        KakaoMapResponse subwayResponse = kakaoMapService.searchByCategory("SW8", longitude, latitude, radius);
-        int subwayStationCount = (subwayResponse != null) ? subwayResponse.getMeta().getTotalCount() : 0;
+        CompletableFuture<Integer> subwayFuture = countAsync(() -> kakaoMapService.searchByCategory("SW8", longitude, latitude, radius));
+        CompletableFuture<Integer> schoolFuture = countAsync(() -> kakaoMapService.searchByCategory("SC4", longitude, latitude, radius));
+        // 오피스 빌딩은 '빌딩' 키워드로 검색하여 개수 파악
+        CompletableFuture<Integer> officeFuture = countAsync(() -> kakaoMapService.searchByKeyword("빌딩", longitude, latitude, radius));
 
-        KakaoMapResponse schoolResponse = kakaoMapService.searchByCategory("SC4", longitude, latitude, radius);
-        int universityCount = (schoolResponse != null) ? schoolResponse.getMeta().getTotalCount() : 0;
+        // 4. 결과 수집 (각 future는 실패/타임아웃 시 null로 완료되므로 join()에서 예외가 발생하지 않음)
+        Integer hotPlaceCount = 0;
+        for (CompletableFuture<Integer> future : hotPlaceFutures) {
+            Integer count = future.join();
+            hotPlaceCount = (hotPlaceCount == null || count == null) ? null : hotPlaceCount + count;
+        }
+        log.info("[{}] 주변 핫플레이스 수: {}", request.getName(), hotPlaceCount);
 
-        // 오피스 빌딩은 '빌딩' 키워드로 검색하여 개수 파악
-        KakaoMapResponse officeResponse = kakaoMapService.searchByKeyword("빌딩", longitude, latitude, radius);
-        int officeBuildingCount = (officeResponse != null) ? officeResponse.getMeta().getTotalCount() : 0;
+        Integer competitorCount = competitorFuture.join();
+        log.info("[{}] 주변 경쟁 가게 수: {}", request.getName(), competitorCount);
 
+        Integer subwayStationCount = subwayFuture.join();
+        Integer universityCount = schoolFuture.join();
+        Integer officeBuildingCount = officeFuture.join();
         log.info("[{}] 주변 시설: 지하철역({}), 대학교({}), 오피스빌딩({})", request.getName(), subwayStationCount, universityCount, officeBuildingCount);
 
         // 5. 수집된 데이터를 DTO에 담아 반환
@@ -392,4 +435,20 @@ public class AnalysisService {
                 .officeBuildingCount(officeBuildingCount)
                 .build();
     }
+
+    /**
+     * 카카오 검색을 apiTaskExecutor에서 비동기로 실행하고 total_count를 반환하는 헬퍼 메서드
+     * 실패하거나 타임아웃이 발생하면 null(알 수 없음)로 완료된다.
+     * @param call 카카오 검색 호출
+     * @return 검색 결과 total_count를 담은 future
+     */
+    private CompletableFuture<Integer> countAsync(Supplier<KakaoMapResponse> call) {
+        return CompletableFuture.supplyAsync(call, apiTaskExecutor)
+                .orTimeout(surroundingCallTimeoutMs, TimeUnit.MILLISECONDS)
+                .thenApply(response -> (response != null && response.getMeta() != null) ? response.getMeta().getTotalCount() : 0)
+                .exceptionally(e -> {
+                    log.warn("주변 상권 카테고리 조회 실패: {}", e.getMessage());
+                    return null;
+                });
+    }
 }
@@ -0,0 +1,288 @@
+package com.koo.bonscore.biz.analysis.service;
+
+import com.koo.bonscore.biz.analysis.dto.AnalysisSectionDto;
+import com.koo.bonscore.biz.analysis.dto.FullAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.StoreAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureStore;
+import com.koo.bonscore.common.api.google.dto.BusinessStatus;
+import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
+import com.koo.bonscore.common.api.google.service.GooglePlacesService;
+import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
+import com.koo.bonscore.common.api.kma.holiday.dto.res.HolidayResponseDto;
+import com.koo.bonscore.common.api.kma.holiday.service.HolidayService;
+import com.koo.bonscore.common.api.kma.weather.dto.WeatherResponseDto;
+import com.koo.bonscore.common.api.kma.weather.service.WeatherService;
+import com.koo.bonscore.common.api.naver.NaverDataLabService;
+import com.koo.bonscore.common.api.naver.dto.datalab.DataLabResponseDto;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * FullAnalysisService.java
+ * 설명 : 웨이팅 예측 통합 분석 서비스
+ *        상세 분석, 날씨, 공휴일, 검색 트렌드, 영업 정보, 주변 상권 조회를 동시에 수행하여 하나의 응답으로 취합한다.
+ *        전체 소요 시간은 가장 느린 외부 API 호출 시간(최대 타임아웃)으로 제한된다.
+ *        스트리밍(SSE) 조회 시에는 가장 느린 섹션을 기다리지 않고 완료된 섹션부터 전송한다.
+ *        검색 트렌드와 영업 상태는 가게 피처 저장소에 유효한 값이 있으면 외부 API를 호출하지 않는다.
+ *        섹션은 apiTaskExecutor에 넘긴 내부 호출을 기다리므로, 같은 풀을 점유하지 않도록 전용 풀(analysisSectionExecutor)에서 실행한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FullAnalysisService {
+
+    // 스트리밍 응답 유지 시간 = 섹션별 최대 대기 시간 + 여유 시간 (ms)
+    private static final long STREAM_TIMEOUT_MARGIN_MS = 5000;
+
+    // 섹션 실패 사유 (클라이언트에는 이 코드만 전달)
+    static final String FAILURE_TIMEOUT = "timeout";
+    static final String FAILURE_UNAVAILABLE = "unavailable";
+    static final String FAILURE_ERROR = "error";
+
+    private final AnalysisService analysisService;
+    private final WeatherService weatherService;
+    private final HolidayService holidayService;
+    private final NaverDataLabService naverDataLabService;
+    private final GooglePlacesService googlePlacesService;
+    private final StoreFeatureStore storeFeatureStore;
+
+    @Qualifier("analysisSectionExecutor")
+    private final Executor analysisSectionExecutor;
+
+    // 섹션별 최대 대기 시간 (ms)
+    @Value("${api.analysis.full-timeout-ms:10000}")
+    private long sectionTimeoutMs;
+
+    /**
+     * 선택한 가게에 대한 모든 분석 섹션을 병렬로 조회하여 반환
+     * @param request 선택한 가게 정보
+     * @return 섹션별 성공/실패 여부가 포함된 통합 분석 결과
+     */
+    public FullAnalysisResultDto analyzeAll(StoreDetailRequestDto request) {
+        log.info("가게 통합 분석 서비스 시작: storeName={}", request.getName());
+
+        // 1. 모든 섹션 조회를 동시에 시작
+        Sections sections = startSections(request);
+
+        // 2. 결과 취합 (각 섹션은 실패/타임아웃 시 failure 섹션으로 완료되므로 join()에서 예외가 발생하지 않음)
+        return FullAnalysisResultDto.builder()
+                .details(sections.details().join())
+                .weather(sections.weather().join())
+                .holiday(sections.holiday().join())
+                .searchTrend(sections.searchTrend().join())
+                .openingInfo(sections.openingInfo().join())
+                .surroundings(sections.surroundings().join())
+                .build();
+    }
+
+    /**
+     * 선택한 가게에 대한 모든 분석 섹션을 병렬로 조회하여 SSE로 스트리밍
+     * 가장 느린 섹션을 기다리지 않고, 각 섹션이 완료되는 순서대로 섹션 이름(FullAnalysisResultDto 필드명)을 이벤트 이름으로 전송한다.
+     * 모든 섹션이 완료(성공, 실패 또는 타임아웃)되면 complete 이벤트를 보내고 스트림을 종료한다.
+     * @param request 선택한 가게 정보
+     * @return 섹션 이벤트를 전송하는 SseEmitter
+     */
+    public SseEmitter streamAll(StoreDetailRequestDto request) {
+        log.info("가게 통합 분석 스트리밍 시작: storeName={}", request.getName());
+
+        // 섹션별 타임아웃이 지나면 모든 섹션이 완료되므로, 스트림은 그보다 조금 더 길게 유지
+        SseEmitter emitter = new SseEmitter(sectionTimeoutMs + STREAM_TIMEOUT_MARGIN_MS);
+        AtomicBoolean open = new AtomicBoolean(true);
+        Runnable close = () -> open.set(false);
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(e -> close.run());
+
+        Sections sections = startSections(request);
+        CompletableFuture<?>[] sent = sections.named().entrySet().stream()
+                .map(entry -> entry.getValue().thenAccept(section -> send(emitter, open, entry.getKey(), section)))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(sent).whenComplete((ignored, e) -> {
+            send(emitter, open, "complete", Map.of("sections", sent.length));
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    /**
+     * 모든 섹션 조회를 동시에 시작
+     */
+    private Sections startSections(StoreDetailRequestDto request) {
+        String featureKey = analysisService.featureKeyOf(request);
+        return new Sections(
+                section("details", () -> analysisService.analyzeStoreDetails(request)),
+                section("weather", () -> weatherService.getTodayWeather(request.getSimpleAddress())),
+                section("holiday", holidayService::getTodayHolidayInfo),
+                section("searchTrend", () -> storeFeatureStore.getOrLoad(featureKey, StoreFeature.SEARCH_TREND, DataLabResponseDto.class,
+                        () -> naverDataLabService.getSearchTrend(request.getName()), trend -> true)),
+                section("openingInfo", () -> getOpeningInfo(request, featureKey)),
+                section("surroundings", () -> analysisService.getSurroundingData(request)));
+    }
+
+    /**
+     * 영업 정보 조회
+     * 영업 시간과 현재 영업 여부는 언어와 조회 시각에 따라 달라지므로 매번 조회하고,
+     * 폐업/검색 결과 없음 상태만 가게 피처 저장소에 저장하여 유효 시간 동안 Google 호출을 생략한다.
+     */
+    private StoreHoursResponseDto getOpeningInfo(StoreDetailRequestDto request, String featureKey) {
+        BusinessStatus status = storeFeatureStore.getFresh(featureKey, StoreFeature.PLACE_STATUS, BusinessStatus.class);
+        if (status == BusinessStatus.CLOSED_PERMANENTLY) {
+            return StoreHoursResponseDto.closedPermanently();
+        }
+        if (status == BusinessStatus.NOT_FOUND) {
+            return StoreHoursResponseDto.notFound();
+        }
+
+        return loadOpeningInfo(request, featureKey);
+    }
+
+    /**
+     * Google Places로 영업 정보를 조회하고 영업 상태를 저장
+     */
+    private StoreHoursResponseDto loadOpeningInfo(StoreDetailRequestDto request, String featureKey) {
+        StoreHoursResponseDto openingInfo = googlePlacesService.getStoreOpeningHours(request.getName(), request.getSimpleAddress(), request.getLang());
+        storeBusinessStatus(featureKey, openingInfo);
+        return openingInfo;
+    }
+
+    /**
+     * 영업 상태 저장 (API 오류는 저장하지 않음)
+     */
+    private void storeBusinessStatus(String featureKey, StoreHoursResponseDto openingInfo) {
+        if (openingInfo.getBusinessStatus() != BusinessStatus.API_ERROR) {
+            storeFeatureStore.put(featureKey, StoreFeature.PLACE_STATUS, openingInfo.getBusinessStatus());
+        }
+    }
+
+    /**
+     * 가게 피처 중 만료가 가까운 피처만 미리 다시 조회하여 저장 (인기 가게 refresh-ahead)
+     * 외부 API 결과의 로컬 캐시(블로그 리뷰 수, 검색 트렌드, 가게 상세 정보)는 거치지 않고 다시 조회한다.
+     * @param request      가게 정보
+     * @param refreshAhead 만료 전 미리 갱신을 시작할 시간
+     * @return 다시 조회한 피처 목록
+     */
+    public List<StoreFeature> refreshFeatures(StoreDetailRequestDto request, Duration refreshAhead) {
+        String featureKey = analysisService.featureKeyOf(request);
+        List<StoreFeature> refreshed = analysisService.refreshFeatures(request, refreshAhead);
+        if (storeFeatureStore.expiresWithin(featureKey, StoreFeature.SEARCH_TREND, refreshAhead)) {
+            DataLabResponseDto trend = naverDataLabService.refreshSearchTrend(request.getName());
+            if (trend != null) {
+                storeFeatureStore.put(featureKey, StoreFeature.SEARCH_TREND, trend);
+            }
+            refreshed.add(StoreFeature.SEARCH_TREND);
+        }
+        if (storeFeatureStore.expiresWithin(featureKey, StoreFeature.PLACE_STATUS, refreshAhead)) {
+            storeBusinessStatus(featureKey, googlePlacesService.refreshStoreOpeningHours(request.getName(), request.getSimpleAddress(), request.getLang()));
+            refreshed.add(StoreFeature.PLACE_STATUS);
+        }
+        return refreshed;
+    }
+
+    /**
+     * SSE 이벤트 전송 (클라이언트 연결이 끊긴 뒤에는 전송하지 않음)
+     */
+    private void send(SseEmitter emitter, AtomicBoolean open, String name, Object data) {
+        if (!open.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우 (남은 섹션 조회는 타임아웃 내에 끝나므로 별도 취소하지 않음)
+            open.set(false);
+            log.debug("통합 분석 스트리밍 중단: event={}, reason={}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 섹션 조회를 analysisSectionExecutor에서 비동기로 실행하고, 결과를 섹션 DTO로 감싸는 헬퍼 메서드
+     * @param sectionName 섹션 이름 (로그용)
+     * @param call        섹션 데이터 조회 호출
+     * @return 성공 또는 실패 섹션으로 완료되는 future (실패 사유: timeout, unavailable, error)
+     */
+    private <T> CompletableFuture<AnalysisSectionDto<T>> section(String sectionName, Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, analysisSectionExecutor)
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((data, e) -> {
+                    if (e == null) {
+                        return AnalysisSectionDto.success(data);
+                    }
+                    Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+                    String reason = failureReasonOf(cause);
+                    if (FAILURE_ERROR.equals(reason)) {
+                        log.warn("통합 분석 섹션 조회 실패: section={}", sectionName, cause);
+                    } else {
+                        log.warn("통합 분석 섹션 조회 실패: section={}, reason={}", sectionName, reason);
+                    }
+                    return AnalysisSectionDto.failure(reason);
+                });
+    }
+
+    /**
+     * 클라이언트에 전달할 실패 사유
+     * 예외 메시지에는 API 키가 포함된 요청 URI(WebClientResponseException 등)나 사용자 주소가 담길 수 있으므로
+     * 고정된 코드만 반환하고, 상세 내용은 서버 로그에만 남긴다.
+     */
+    static String failureReasonOf(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return FAILURE_TIMEOUT;
+        }
+        if (ApiResilience.isUnavailable(cause)) {
+            return FAILURE_UNAVAILABLE; // 서킷 오픈 등으로 호출하지 않고 즉시 실패
+        }
+        return FAILURE_ERROR;
+    }
+
+    /**
+     * 동시에 시작한 섹션 조회 future 목록
+     */
+    private record Sections(CompletableFuture<AnalysisSectionDto<StoreAnalysisResultDto>> details,
+                            CompletableFuture<AnalysisSectionDto<WeatherResponseDto>> weather,
+                            CompletableFuture<AnalysisSectionDto<HolidayResponseDto>> holiday,
+                            CompletableFuture<AnalysisSectionDto<DataLabResponseDto>> searchTrend,
+                            CompletableFuture<AnalysisSectionDto<StoreHoursResponseDto>> openingInfo,
+                            CompletableFuture<AnalysisSectionDto<SurroundingDataDto>> surroundings) {
+
+        /**
+         * 섹션 이름(FullAnalysisResultDto 필드명) -> 섹션 조회 future
+         */
+        Map<String, CompletableFuture<? extends AnalysisSectionDto<?>>> named() {
+            Map<String, CompletableFuture<? extends AnalysisSectionDto<?>>> named = new LinkedHashMap<>();
+            named.put("details", details);
+            named.put("weather", weather);
+            named.put("holiday", holiday);
+            named.put("searchTrend", searchTrend);
+            named.put("openingInfo", openingInfo);
+            named.put("surroundings", surroundings);
+            return named;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.koo.bonscore.biz.auth.service;
 
+import com.koo.bonscore.common.api.resilience.ApiResilience;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -25,10 +26,12 @@ import java.util.HexFormat;
 public class PwnedPasswordService {
 
     private final WebClient webClient;
+    private final ApiResilience apiResilience;
 
     // WebClient를 사용하여 HIBP API와 비동기 통신을 설정.
-    public PwnedPasswordService(WebClient.Builder webClientBuilder) {
+    public PwnedPasswordService(WebClient.Builder webClientBuilder, ApiResilience apiResilience) {
         this.webClient = webClientBuilder.baseUrl("https://api.pwnedpasswords.com").build();
+        this.apiResilience = apiResilience;
     }
 
     /**
@@ -46,11 +49,12 @@ public class PwnedPasswordService {
             String prefix = sha1Hash.substring(0, 5);
             String suffix = sha1Hash.substring(5);
 
-            // 3. k-Anonymity API를 호출.
-            return webClient.get()
-                    .uri("/range/" + prefix)
-                    .retrieve()
-                    .bodyToMono(String.class)
+            // 3. k-Anonymity API를 호출. (서킷 오픈/동시 호출 수 초과 시 즉시 실패)
+            return Mono.fromCompletionStage(() -> apiResilience.executeAsync("hibp", () -> webClient.get()
+                            .uri("/range/" + prefix)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .toFuture()))
                     // API 응답에서 suffix를 찾아 유출 여부를 확인.
                     .map(responseBody -> responseBody.lines()
                             .anyMatch(line -> line.startsWith(suffix)))
@@ -1,6 +1,6 @@
 package com.koo.bonscore.biz.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -23,7 +23,6 @@ import java.util.Map;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RecaptchaService {
 
     @Value("${api.recaptcha.secret}")
@@ -32,7 +31,13 @@ public class RecaptchaService {
     @Value("${api.recaptcha.verify-url}")
     private String recaptchaVerifyUrl;
 
-    private final WebClient webClient = WebClient.create();
+    private final WebClient webClient;
+    private final ApiResilience apiResilience;
+
+    public RecaptchaService(WebClient.Builder webClientBuilder, ApiResilience apiResilience) {
+        this.webClient = webClientBuilder.build();
+        this.apiResilience = apiResilience;
+    }
 
     /**
      * reCAPTCHA 토큰의 유효성을 검증한다.
@@ -45,11 +50,13 @@ public class RecaptchaService {
         formData.add("secret", recaptchaSecret);
         formData.add("response", recaptchaToken);
 
-        return webClient.post()
-                .uri(recaptchaVerifyUrl)
-                .bodyValue(formData)
-                .retrieve()
-                .bodyToMono(Map.class)
+        // 서킷 오픈/동시 호출 수 초과 시 즉시 실패 (토큰은 한 번만 검증할 수 있으므로 재시도하지 않도록 설정)
+        return Mono.fromCompletionStage(() -> apiResilience.executeAsync("recaptcha", () -> webClient.post()
+                        .uri(recaptchaVerifyUrl)
+                        .bodyValue(formData)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .toFuture()))
                 .map(response -> {
                     boolean success = (Boolean) response.getOrDefault("success", false);
                     if (!success) {
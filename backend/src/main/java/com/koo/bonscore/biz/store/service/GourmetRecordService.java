@@ -8,17 +8,16 @@ import com.koo.bonscore.biz.store.entity.GourmetRecord;
 import com.koo.bonscore.biz.store.repository.GourmetRecordRepository;
 import com.koo.bonscore.common.api.google.service.GoogleTranslateService;
 import com.koo.bonscore.common.file.service.FileStorageService;
+import com.koo.bonscore.common.util.text.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.HtmlUtils;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -39,8 +38,6 @@ public class GourmetRecordService {
     private final FileStorageService fileStorageService;
     private final GoogleTranslateService googleTranslateService;
 
-    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
-
     /**
      * 저장소 레코드 저장 (JPA 방식)
      * insert/update/delete를 save() 하나와 Entity 상태 변경으로 처리
@@ -198,10 +195,10 @@ public class GourmetRecordService {
         if (translatedTexts.size() == textsToTranslate.size()) {
             int idx = 0;
             for (GourmetRecordDto record : records) {
-                record.setName(HtmlUtils.htmlUnescape(translatedTexts.get(idx++)));
-                record.setCategory(HtmlUtils.htmlUnescape(translatedTexts.get(idx++)));
+                record.setName(TextNormalizer.unescape(translatedTexts.get(idx++)));
+                record.setCategory(TextNormalizer.unescape(translatedTexts.get(idx++)));
                 if (StringUtils.hasText(record.getMemo())) {
-                    record.setMemo(HtmlUtils.htmlUnescape(translatedTexts.get(idx++)));
+                    record.setMemo(TextNormalizer.unescape(translatedTexts.get(idx++)));
                 } else {
                     idx++;
                 }
@@ -225,7 +222,6 @@ public class GourmetRecordService {
 
     private String cleanAndUnescape(String text) {
         if (!StringUtils.hasText(text)) return text;
-        String noHtml = HTML_TAG_PATTERN.matcher(text).replaceAll("");
-        return HtmlUtils.htmlUnescape(noHtml);
+        return TextNormalizer.stripTagsAndUnescape(text);
     }
 }
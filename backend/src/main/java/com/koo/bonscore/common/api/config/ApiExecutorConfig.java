@@ -0,0 +1,87 @@
+package com.koo.bonscore.common.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * <pre>
+ * ApiExecutorConfig.java
+ * 설명 : 외부 API 병렬 호출용 스레드 풀 설정
+ *
+ * 여러 외부 API(카카오, 네이버 등)를 동시에 호출할 때 사용하는 전용 스레드 풀.
+ * 로그용 스레드 풀(logTaskExecutor)과 분리하여, 외부 API 지연이 다른 비동기 작업에 영향을 주지 않도록 한다.
+ * 큐가 가득 차면 호출한 스레드에서 직접 실행(CallerRunsPolicy)하여 요청이 유실되지 않도록 한다.
+ *
+ * 통합 분석 섹션(analysisSectionExecutor)은 별도 풀에서 실행한다.
+ * 섹션은 apiTaskExecutor에 내부 호출(주변 상권 카테고리 조회, 일괄 조회 등)을 넘기고 결과를 기다리므로,
+ * 같은 풀에서 실행하면 동시 요청이 몰릴 때 모든 스레드가 자신보다 뒤에 대기 중인 내부 작업을 기다리며 멈출 수 있다.
+ *
+ * Google 번역 일괄 호출(translateBatchExecutor)도 별도의 작은 풀에서 실행한다.
+ * 번역은 apiTaskExecutor에서 실행 중인 조회 안에서 요청되고 일괄 호출 결과를 기다리므로, 같은 풀을 쓰면 위와 같은 이유로 멈출 수 있다.
+ * 일괄 호출은 MicroBatcher가 모아서 보내므로 작업 수가 적고, 거절되면 대기 중인 요청이 완료되지 않으므로 큐 제한 없이 받는다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Configuration
+public class ApiExecutorConfig {
+
+    @Value("${api.executor.core-pool-size:10}")
+    private int corePoolSize;
+
+    @Value("${api.executor.max-pool-size:30}")
+    private int maxPoolSize;
+
+    @Value("${api.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${api.executor.section-core-pool-size:12}")
+    private int sectionCorePoolSize;
+
+    @Value("${api.executor.section-max-pool-size:60}")
+    private int sectionMaxPoolSize;
+
+    @Value("${api.executor.translate-pool-size:4}")
+    private int translatePoolSize;
+
+    @Bean(name = "apiTaskExecutor")
+    public Executor apiTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);     // 기본 스레드 수
+        executor.setMaxPoolSize(maxPoolSize);       // 최대 스레드 수
+        executor.setQueueCapacity(queueCapacity);   // 큐 사이즈
+        executor.setThreadNamePrefix("Api-Executor-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "analysisSectionExecutor")
+    public Executor analysisSectionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sectionCorePoolSize);  // 기본 스레드 수
+        executor.setMaxPoolSize(sectionMaxPoolSize);    // 최대 스레드 수
+        executor.setQueueCapacity(0);                   // 대기열 없이 최대 스레드 수까지 바로 늘림 (섹션은 대부분 대기 상태)
+        executor.setThreadNamePrefix("Analysis-Section-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "translateBatchExecutor")
+    public Executor translateBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(translatePoolSize);    // 스레드 수 (큐 제한이 없으므로 최대 스레드 수와 같음)
+        executor.setMaxPoolSize(translatePoolSize);
+        executor.setThreadNamePrefix("Translate-Batch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,51 @@
+package com.koo.bonscore.common.api.config;
+
+import com.koo.bonscore.common.api.support.ApiProvider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * HttpClientProperties.java
+ * 설명 : 외부 API 호출용 HTTP 커넥션 풀 설정 (RestTemplate, WebClient 공용)
+ *        providers에 설정하지 않은 제공자/호스트는 defaults 값을 사용한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+    private int maxTotal = 200;                                     // 전체 최대 커넥션 수
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2); // 풀에서 커넥션을 얻기까지 최대 대기 시간
+    private int pendingAcquireMaxCount = 200;                       // 호스트당 커넥션 대기 요청 최대 수 (WebClient, 초과 시 즉시 실패)
+    private Duration idleEvictTimeout = Duration.ofSeconds(30);     // 이 시간 이상 유휴 상태인 커넥션은 정리
+    private Duration timeToLive = Duration.ofMinutes(5);            // 커넥션 최대 수명 (DNS 변경 반영)
+    private Provider defaults = new Provider();
+    private Map<ApiProvider, Provider> providers = new EnumMap<>(ApiProvider.class);
+
+    /**
+     * 제공자 설정 조회 (설정이 없으면 defaults)
+     */
+    public Provider providerOf(ApiProvider provider) {
+        return providers.getOrDefault(provider, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+        private int maxConnections = 20;                        // 호스트(route)당 최대 커넥션 수
+        private Duration connectTimeout = Duration.ofSeconds(2); // 연결 타임아웃
+        private Duration readTimeout = Duration.ofSeconds(5);    // 응답 대기(소켓) 타임아웃
+    }
+}
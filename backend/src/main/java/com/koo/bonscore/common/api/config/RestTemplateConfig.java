@@ -2,16 +2,89 @@ package com.koo.bonscore.common.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.koo.bonscore.common.api.emulation.ApiEmulator;
+import com.koo.bonscore.common.api.emulation.EmulationRestTemplateInterceptor;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * RestTemplateConfig.java
+ * 설명 : 외부 API 호출용 RestTemplate 설정
+ *
+ * Apache HttpClient 5 커넥션 풀을 사용하여 keep-alive 커넥션을 재사용한다. (호스트별 TLS 핸드셰이크 반복 제거)
+ * - 제공자(호스트)별 최대 커넥션 수, 연결/응답 타임아웃 (api.http-client.providers)
+ * - 풀 대기 시간 제한으로 느린 외부 API가 요청 스레드를 무한정 점유하지 않도록 함
+ * - 유휴/만료 커넥션 주기적 정리
+ * - 제공자별 풀 사용량 메트릭 (http.client.pool.leased / pending / available / max, provider 태그)
+ * - api.emulation.mode가 record/replay이면 응답 녹화/재생 인터셉터 등록 (부하 테스트용)
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager apiConnectionManager(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getDefaults().getMaxConnections())
+                .setConnectionConfigResolver(route -> connectionConfig(properties, providerOf(properties, route)))
+                .build();
+
+        for (ApiProvider provider : ApiProvider.values()) {
+            List<HttpRoute> routes = routesOf(provider);
+            int maxConnections = properties.providerOf(provider).getMaxConnections();
+            routes.forEach(route -> connectionManager.setMaxPerRoute(route, maxConnections));
+            registerPoolGauges(meterRegistry, connectionManager, provider, routes);
+        }
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient apiHttpClient(PoolingHttpClientConnectionManager apiConnectionManager, HttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(apiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEvictTimeout().toMillis()))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient apiHttpClient, ApiEmulator apiEmulator) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(apiHttpClient));
+        // 외부 API 응답 녹화/재생 (api.emulation.mode, 부하 테스트용)
+        if (apiEmulator.isActive()) {
+            restTemplate.getInterceptors().add(new EmulationRestTemplateInterceptor(apiEmulator));
+        }
+        return restTemplate;
     }
 
     @Bean
@@ -20,4 +93,58 @@ public class RestTemplateConfig {
         objectMapper.registerModule(new JavaTimeModule()); // JavaTimeModule 등록
         return objectMapper;
     }
+
+    /**
+     * 제공자별 커넥션 설정 (연결 타임아웃, 소켓(응답) 타임아웃, 커넥션 수명)
+     */
+    private static ConnectionConfig connectionConfig(HttpClientProperties properties, HttpClientProperties.Provider provider) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(provider.getConnectTimeout()))
+                .setSocketTimeout(toTimeout(provider.getReadTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.getTimeToLive().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                .build();
+    }
+
+    private static HttpClientProperties.Provider providerOf(HttpClientProperties properties, HttpRoute route) {
+        return ApiProvider.fromHost(route.getTargetHost().getHostName())
+                .map(properties::providerOf)
+                .orElse(properties.getDefaults());
+    }
+
+    /**
+     * 제공자 호스트의 http/https route 목록 (풀은 route 단위로 커넥션을 관리)
+     */
+    private static List<HttpRoute> routesOf(ApiProvider provider) {
+        return provider.getHosts().stream()
+                .flatMap(host -> Stream.of(
+                        new HttpRoute(new HttpHost("https", host, 443), null, true),
+                        new HttpRoute(new HttpHost("http", host, 80), null, false)))
+                .toList();
+    }
+
+    private static void registerPoolGauges(MeterRegistry meterRegistry, PoolingHttpClientConnectionManager connectionManager,
+                                           ApiProvider provider, List<HttpRoute> routes) {
+        registerPoolGauge(meterRegistry, "http.client.pool.leased", "사용 중인 커넥션 수", connectionManager, provider, routes, PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, "http.client.pool.pending", "커넥션 대기 중인 요청 수", connectionManager, provider, routes, PoolStats::getPending);
+        registerPoolGauge(meterRegistry, "http.client.pool.available", "유휴 커넥션 수", connectionManager, provider, routes, PoolStats::getAvailable);
+        Gauge.builder("http.client.pool.max", connectionManager, cm -> cm.getMaxPerRoute(routes.get(0)))
+                .description("호스트당 최대 커넥션 수")
+                .tag("provider", provider.getTag())
+                .register(meterRegistry);
+    }
+
+    private static void registerPoolGauge(MeterRegistry meterRegistry, String name, String description,
+                                          PoolingHttpClientConnectionManager connectionManager, ApiProvider provider,
+                                          List<HttpRoute> routes, ToIntFunction<PoolStats> stat) {
+        Gauge.builder(name, connectionManager,
+                        cm -> routes.stream().mapToInt(route -> stat.applyAsInt(cm.getStats(route))).sum())
+                .description(description)
+                .tag("provider", provider.getTag())
+                .register(meterRegistry);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
 }
@@ -0,0 +1,97 @@
+package com.koo.bonscore.common.api.config;
+
+import com.koo.bonscore.common.api.emulation.ApiEmulator;
+import com.koo.bonscore.common.api.emulation.EmulationExchangeFilter;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * <pre>
+ * WebClientConfig.java
+ * 설명 : WebClient 공용 커넥션 설정
+ *
+ * 모든 WebClient가 하나의 reactor-netty ConnectionProvider/HttpClient를 공유하도록 ClientHttpConnector를 등록한다.
+ * (Spring Boot가 주입하는 WebClient.Builder에 자동 적용됨)
+ * - 호스트별 커넥션 풀 크기, 응답 타임아웃 (api.http-client.providers, RestTemplate과 같은 설정 사용)
+ * - 커넥션 대기 요청 수/대기 시간 제한으로, 외부 API가 느려지면 대기열을 무한정 쌓지 않고 즉시 실패
+ * - 유휴/수명 초과 커넥션 백그라운드 정리, 풀 메트릭(reactor.netty.connection.provider.*) 노출
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider apiConnectionProvider(HttpClientProperties properties) {
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("api")
+                .maxConnections(properties.getDefaults().getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEvictTimeout())
+                .maxLifeTime(properties.getTimeToLive())
+                .evictInBackground(properties.getIdleEvictTimeout())
+                .metrics(true);
+
+        // 제공자 호스트별 풀 크기 (풀은 호스트:포트 단위로 분리됨)
+        for (ApiProvider provider : ApiProvider.values()) {
+            int maxConnections = properties.providerOf(provider).getMaxConnections();
+            for (String host : provider.getHosts()) {
+                for (int port : new int[]{443, 80}) {
+                    builder.forRemoteHost(InetSocketAddress.createUnresolved(host, port),
+                            spec -> spec.maxConnections(maxConnections));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public ClientHttpConnector apiClientHttpConnector(ConnectionProvider apiConnectionProvider, HttpClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(apiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getDefaults().getConnectTimeout().toMillis())
+                .responseTimeout(properties.getDefaults().getReadTimeout())
+                // 제공자 호스트면 제공자별 응답 타임아웃 적용
+                .doOnRequest((request, connection) ->
+                        request.responseTimeout(readTimeoutOf(properties, request.resourceUrl())));
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * api.emulation.mode가 record/replay이면 Spring Boot가 주입하는 WebClient.Builder에 응답 녹화/재생 필터 적용 (부하 테스트용)
+     */
+    @Bean
+    public WebClientCustomizer apiEmulationWebClientCustomizer(ApiEmulator apiEmulator) {
+        return builder -> {
+            if (apiEmulator.isActive()) {
+                builder.filter(new EmulationExchangeFilter(apiEmulator));
+            }
+        };
+    }
+
+    private static Duration readTimeoutOf(HttpClientProperties properties, String url) {
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        return ApiProvider.fromHost(host)
+                .map(properties::providerOf)
+                .orElse(properties.getDefaults())
+                .getReadTimeout();
+    }
+}
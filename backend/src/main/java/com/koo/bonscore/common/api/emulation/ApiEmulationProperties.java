@@ -0,0 +1,87 @@
+package com.koo.bonscore.common.api.emulation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * ApiEmulationProperties.java
+ * 설명 : 외부 API 에뮬레이션(응답 녹화/재생, 지연·오류·타임아웃 주입) 설정 (부하 테스트용)
+ *        faults는 재생(replay) 모드에서만 적용되며, providers에서 생략한 값은 defaults 값을, defaults에서 생략한 값은 Fault 기본값을 사용한다.
+ *        providers 키는 제공자 태그(kakao, naver, google, kma, google-translate) 또는 호스트명([api.pwnedpasswords.com])
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.emulation")
+@Getter
+@Setter
+public class ApiEmulationProperties {
+    private Mode mode = Mode.OFF;                                       // off: 실제 호출, record: 실제 호출 + 응답 저장, replay: 저장된 응답 재생
+    private String fixtureDir = "fixtures/api";                         // 응답(fixture) 파일 저장 경로
+    private boolean fallbackToEndpoint = true;                          // 재생 시 같은 요청의 fixture가 없으면 같은 엔드포인트의 다른 fixture 사용
+    private List<String> redactedParams = List.of("serviceKey", "key"); // fixture 키/파일에서 제외할 인증 파라미터
+    private Fault defaults = new Fault();
+    private Map<String, Fault> providers = new HashMap<>();
+
+    /**
+     * 제공자 장애 주입 설정 조회 (providers 설정 위에 defaults, 기본값 순으로 생략한 값을 채움)
+     */
+    public Fault faultOf(String provider) {
+        Fault base = defaults.mergedOver(Fault.builtIn());
+        Fault fault = providers.get(provider);
+        return fault == null ? base : fault.mergedOver(base);
+    }
+
+    public enum Mode {
+        OFF, RECORD, REPLAY
+    }
+
+    @Getter
+    @Setter
+    public static class Fault {
+        // 생략(null)한 값은 상위 설정 값 사용
+        private Duration latency;           // 응답 전 기본 지연 시간 (기본 0)
+        private Duration latencyJitter;     // 지연 시간에 더할 무작위 시간, 0 ~ jitter (기본 0)
+        private Double errorRate;           // 503 오류 응답 비율, 0.0 ~ 1.0 (기본 0)
+        private Double timeoutRate;         // 타임아웃 비율, 0.0 ~ 1.0 (기본 0)
+        private Duration timeout;           // 타임아웃 주입 시 실패 전까지 대기 시간 (기본 10s)
+
+        /**
+         * 기본값 (장애 주입 없음)
+         */
+        static Fault builtIn() {
+            Fault fault = new Fault();
+            fault.latency = Duration.ZERO;
+            fault.latencyJitter = Duration.ZERO;
+            fault.errorRate = 0.0;
+            fault.timeoutRate = 0.0;
+            fault.timeout = Duration.ofSeconds(10);
+            return fault;
+        }
+
+        /**
+         * 이 설정에서 생략한 값을 base 값으로 채운 새 설정
+         */
+        Fault mergedOver(Fault base) {
+            Fault merged = new Fault();
+            merged.latency = Objects.requireNonNullElse(latency, base.latency);
+            merged.latencyJitter = Objects.requireNonNullElse(latencyJitter, base.latencyJitter);
+            merged.errorRate = Objects.requireNonNullElse(errorRate, base.errorRate);
+            merged.timeoutRate = Objects.requireNonNullElse(timeoutRate, base.timeoutRate);
+            merged.timeout = Objects.requireNonNullElse(timeout, base.timeout);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.koo.bonscore.common.api.emulation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * ApiEmulator.java
+ * 설명 : 외부 API 에뮬레이션 컴포넌트 (오프라인 부하 테스트용)
+ *
+ * - record : 실제 외부 API 응답을 fixture 파일(JSON)로 저장한다. 인증 파라미터(serviceKey, key)는 저장하지 않는다.
+ * - replay : 외부 API를 호출하지 않고 저장된 fixture로 응답한다. 같은 요청의 fixture가 없으면
+ *            같은 엔드포인트의 다른 fixture로 대체할 수 있다 (fallback-to-endpoint).
+ *            재생 시 제공자별 지연(latency + jitter), 503 오류, 타임아웃을 설정한 비율로 주입한다.
+ * HTTP 호출은 RestTemplate 인터셉터(EmulationRestTemplateInterceptor)와 WebClient 필터(EmulationExchangeFilter)가,
+ * HTTP 클라이언트를 직접 쓰지 않는 라이브러리 호출(Google 번역)은 execute(...)가 이 컴포넌트를 사용한다.
+ * 처리 결과는 Micrometer(api.emulation.requests, result=recorded/replayed/fallback/missing/error/timeout)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class ApiEmulator {
+
+    // WebClient 요청 본문은 필터에서 읽을 수 없으므로, 본문에 따라 응답이 달라지는 요청은 이 속성으로 본문 키를 전달
+    public static final String BODY_KEY_ATTRIBUTE = ApiEmulator.class.getName() + ".bodyKey";
+
+    private final ApiEmulationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Path fixtureDir;
+
+    private final Map<String, ApiFixture> fixturesByKey = new ConcurrentHashMap<>();
+    private final Map<String, List<ApiFixture>> fixturesByEndpoint = new ConcurrentHashMap<>();
+
+    public ApiEmulator(ApiEmulationProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.fixtureDir = Paths.get(properties.getFixtureDir());
+        if (isReplaying()) {
+            loadFixtures();
+        }
+        if (isActive()) {
+            log.warn("외부 API 에뮬레이션 활성화: mode={}, fixtureDir={}, fixtures={}",
+                    properties.getMode(), fixtureDir.toAbsolutePath(), fixturesByKey.size());
+        }
+    }
+
+    public boolean isActive() {
+        return properties.getMode() != ApiEmulationProperties.Mode.OFF;
+    }
+
+    public boolean isRecording() {
+        return properties.getMode() == ApiEmulationProperties.Mode.RECORD;
+    }
+
+    public boolean isReplaying() {
+        return properties.getMode() == ApiEmulationProperties.Mode.REPLAY;
+    }
+
+    /**
+     * 요청 식별 정보 생성
+     * @param provider 제공자 (providerOf(host))
+     * @param method   HTTP 메서드
+     * @param uri      요청 URI
+     * @param body     요청 본문 (없으면 null)
+     */
+    public FixtureRequest request(String provider, String method, URI uri, byte[] body) {
+        UriComponents redacted = redact(uri);
+        String path = Optional.ofNullable(redacted.getPath()).orElse("");
+        String endpoint = provider + " " + method + " " + path;
+        String query = normalizedQuery(redacted.getQueryParams());
+        String bodyHash = (body == null || body.length == 0) ? "" : sha256(body);
+        String key = sha256((endpoint + "?" + query + "#" + bodyHash).getBytes(StandardCharsets.UTF_8)).substring(0, 24);
+        return new FixtureRequest(provider, endpoint, redacted.toUriString(), key);
+    }
+
+    /**
+     * 호스트로 제공자 구분 (등록되지 않은 호스트는 호스트명 그대로)
+     */
+    public String providerOf(String host) {
+        return ApiProvider.fromHost(host).map(ApiProvider::getTag).orElse(host);
+    }
+
+    /**
+     * 실제 응답을 fixture로 저장 (record 모드)
+     */
+    public void record(FixtureRequest request, int status, String contentType, String body) {
+        ApiFixture fixture = new ApiFixture(request.key(), request.provider(), request.endpoint(), request.uri(), status, contentType, body);
+        index(fixture);
+        try {
+            Path file = fixtureFile(fixture);
+            Files.createDirectories(file.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), fixture);
+            count(request.provider(), "recorded");
+        } catch (IOException e) {
+            log.warn("fixture 저장 실패: uri={}, cause={}", request.uri(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 fixture 조회 (replay 모드)
+     * @return 같은 요청의 fixture, 없으면 (설정 시) 같은 엔드포인트의 다른 fixture, 그것도 없으면 empty
+     */
+    public Optional<ApiFixture> replay(FixtureRequest request) {
+        ApiFixture fixture = fixturesByKey.get(request.key());
+        if (fixture != null) {
+            count(request.provider(), "replayed");
+            return Optional.of(fixture);
+        }
+
+        List<ApiFixture> candidates = fixturesByEndpoint.get(request.endpoint());
+        if (properties.isFallbackToEndpoint() && candidates != null && !candidates.isEmpty()) {
+            count(request.provider(), "fallback");
+            // 같은 요청은 항상 같은 fixture로 대체되도록 키 기준으로 선택
+            return Optional.of(candidates.get(Math.floorMod(request.key().hashCode(), candidates.size())));
+        }
+
+        count(request.provider(), "missing");
+        log.warn("재생할 fixture 없음: {} (record 모드로 먼저 녹화하세요)", request.uri());
+        return Optional.empty();
+    }
+
+    /**
+     * 이번 재생 요청에 주입할 지연/장애 결정
+     */
+    public InjectedFault nextFault(String provider) {
+        ApiEmulationProperties.Fault fault = properties.faultOf(provider);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long jitterMillis = fault.getLatencyJitter().toMillis();
+        Duration latency = fault.getLatency().plusMillis(jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+
+        double roll = random.nextDouble();
+        FaultType type = FaultType.NONE;
+        if (roll < fault.getTimeoutRate()) {
+            type = FaultType.TIMEOUT;
+            count(provider, "timeout");
+        } else if (roll < fault.getTimeoutRate() + fault.getErrorRate()) {
+            type = FaultType.ERROR;
+            count(provider, "error");
+        }
+        return new InjectedFault(latency, type, fault.getTimeout());
+    }
+
+    /**
+     * HTTP 클라이언트를 직접 쓰지 않는 외부 API 호출(라이브러리 호출)을 에뮬레이션
+     * @param provider   제공자 (fixture 구분)
+     * @param operation  호출 구분 (예: translate)
+     * @param requestKey 요청 파라미터 (JSON으로 직렬화하여 fixture 키로 사용)
+     * @param type       응답 타입
+     * @param call       실제 호출
+     * @return off: 실제 호출 결과, record: 실제 호출 결과 (fixture로 저장), replay: fixture 응답
+     */
+    public <T> T execute(String provider, String operation, Object requestKey, TypeReference<T> type, Supplier<T> call) {
+        if (!isActive()) {
+            return call.get();
+        }
+
+        FixtureRequest request = request(provider, "CALL", URI.create("emulated://" + provider + "/" + operation), toJson(requestKey).getBytes(StandardCharsets.UTF_8));
+        if (isRecording()) {
+            T result = call.get();
+            record(request, 200, "application/json", toJson(result));
+            return result;
+        }
+
+        InjectedFault fault = nextFault(provider);
+        sleep(fault.latency());
+        if (fault.type() == FaultType.TIMEOUT) {
+            sleep(fault.timeout());
+            throw new UncheckedIOException(new SocketTimeoutException("emulated timeout: " + provider));
+        }
+        if (fault.type() == FaultType.ERROR) {
+            throw new IllegalStateException("emulated provider error: " + provider);
+        }
+
+        ApiFixture fixture = replay(request)
+                .orElseThrow(() -> new IllegalStateException("재생할 fixture 없음: " + request.uri()));
+        try {
+            return objectMapper.readValue(fixture.body(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("fixture 변환 실패: " + request.uri(), e);
+        }
+    }
+
+    /**
+     * 현재 스레드에서 지연 (RestTemplate 등 블로킹 호출용)
+     */
+    static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void loadFixtures() {
+        if (!Files.isDirectory(fixtureDir)) {
+            log.warn("fixture 경로가 없습니다: {}", fixtureDir.toAbsolutePath());
+            return;
+        }
+        try (Stream<Path> files = Files.walk(fixtureDir)) {
+            files.filter(file -> file.toString().endsWith(".json")).forEach(file -> {
+                try {
+                    index(objectMapper.readValue(file.toFile(), ApiFixture.class));
+                } catch (IOException e) {
+                    log.warn("fixture 로드 실패: {}, cause={}", file, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("fixture 경로 탐색 실패: {}, cause={}", fixtureDir.toAbsolutePath(), e.getMessage());
+        }
+    }
+
+    private void index(ApiFixture fixture) {
+        ApiFixture previous = fixturesByKey.put(fixture.key(), fixture);
+        List<ApiFixture> endpointFixtures = fixturesByEndpoint.computeIfAbsent(fixture.endpoint(), endpoint -> new CopyOnWriteArrayList<>());
+        if (previous != null) {
+            endpointFixtures.remove(previous);
+        }
+        endpointFixtures.add(fixture);
+    }
+
+    private Path fixtureFile(ApiFixture fixture) {
+        String path = fixture.endpoint().substring(fixture.endpoint().lastIndexOf(' ') + 1);
+        String name = path.substring(path.lastIndexOf('/') + 1).replaceAll("[^a-zA-Z0-9._-]", "_");
+        return fixtureDir.resolve(fixture.provider().replaceAll("[^a-zA-Z0-9._-]", "_"))
+                .resolve((name.isEmpty() ? "root" : name) + "-" + fixture.key() + ".json");
+    }
+
+    /**
+     * 인증 파라미터를 제외한 URI
+     */
+    private UriComponents redact(URI uri) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUri(uri);
+        properties.getRedactedParams().forEach(builder::replaceQueryParam);
+        return builder.build();
+    }
+
+    /**
+     * 쿼리 파라미터를 이름순으로 정렬하고 디코딩하여 연결 (인코딩 방식, 파라미터 순서와 무관한 키 생성)
+     */
+    private static String normalizedQuery(MultiValueMap<String, String> params) {
+        return new TreeMap<>(params).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().stream()
+                        .map(value -> value == null ? "" : URLDecoder.decode(value, StandardCharsets.UTF_8))
+                        .collect(Collectors.joining(",")))
+                .collect(Collectors.joining("&"));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("fixture 직렬화 실패", e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void count(String provider, String result) {
+        meterRegistry.counter("api.emulation.requests", "provider", provider, "result", result).increment();
+    }
+
+    /**
+     * fixture 요청 식별 정보
+     * @param provider 제공자
+     * @param endpoint 엔드포인트 (제공자 + 메서드 + 경로)
+     * @param uri      인증 파라미터를 제외한 URI
+     * @param key      요청 식별 키
+     */
+    public record FixtureRequest(String provider, String endpoint, String uri, String key) {
+    }
+
+    /**
+     * 재생 요청에 주입할 지연/장애
+     * @param latency 응답 전 지연 시간
+     * @param type    장애 유형
+     * @param timeout 타임아웃 주입 시 실패 전까지 대기 시간
+     */
+    public record InjectedFault(Duration latency, FaultType type, Duration timeout) {
+    }
+
+    public enum FaultType {
+        NONE, ERROR, TIMEOUT
+    }
+}
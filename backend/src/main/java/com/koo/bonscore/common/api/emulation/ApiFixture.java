@@ -0,0 +1,23 @@
+package com.koo.bonscore.common.api.emulation;
+
+/**
+ * <pre>
+ * ApiFixture.java
+ * 설명 : 녹화된 외부 API 응답 (fixture 파일 1개)
+ * </pre>
+ *
+ * @param key         요청 식별 키 (제공자, 메서드, 경로, 인증 파라미터를 제외한 쿼리, 요청 본문의 해시)
+ * @param provider    제공자 (태그 또는 호스트)
+ * @param endpoint    엔드포인트 (메서드 + 경로), 같은 요청의 fixture가 없을 때 대체 fixture를 찾는 기준
+ * @param uri         요청 URI (인증 파라미터 제외, 참고용)
+ * @param status      HTTP 상태 코드
+ * @param contentType 응답 Content-Type
+ * @param body        응답 본문
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public record ApiFixture(String key, String provider, String endpoint, String uri,
+                         int status, String contentType, String body) {
+}
@@ -0,0 +1,82 @@
+package com.koo.bonscore.common.api.emulation;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * EmulationExchangeFilter.java
+ * 설명 : WebClient 외부 API 호출의 응답 녹화/재생 필터 (ApiEmulator 사용)
+ *        - record : 실제 호출 후 응답 본문을 fixture로 저장하고, 읽은 본문으로 응답을 다시 만들어 반환
+ *        - replay : 실제 호출 없이 fixture로 응답 (지연, 503 오류, 타임아웃(WebClientRequestException) 주입)
+ *        요청 본문은 필터에서 읽을 수 없으므로, 본문에 따라 응답이 달라지는 요청은
+ *        ApiEmulator.BODY_KEY_ATTRIBUTE 속성으로 본문 키를 전달해야 한다.
+ *        지연은 Mono.delay로 주입하므로 이벤트 루프 스레드를 점유하지 않는다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public class EmulationExchangeFilter implements ExchangeFilterFunction {
+
+    private static final String ERROR_BODY = "{\"error\":\"emulated provider error\"}";
+    private static final String MISSING_BODY = "{\"error\":\"fixture not found\"}";
+
+    private final ApiEmulator emulator;
+
+    public EmulationExchangeFilter(ApiEmulator emulator) {
+        this.emulator = emulator;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String provider = emulator.providerOf(request.url().getHost());
+        byte[] bodyKey = request.attribute(ApiEmulator.BODY_KEY_ATTRIBUTE)
+                .map(key -> key.toString().getBytes(StandardCharsets.UTF_8))
+                .orElse(null);
+        ApiEmulator.FixtureRequest fixtureRequest = emulator.request(provider, request.method().name(), request.url(), bodyKey);
+
+        if (emulator.isReplaying()) {
+            return Mono.defer(() -> {
+                ApiEmulator.InjectedFault fault = emulator.nextFault(provider);
+                Mono<ClientResponse> response = switch (fault.type()) {
+                    case TIMEOUT -> Mono.delay(fault.timeout()).then(Mono.error(() -> new WebClientRequestException(
+                            new SocketTimeoutException("emulated read timeout: " + fixtureRequest.uri()),
+                            request.method(), request.url(), request.headers())));
+                    case ERROR -> Mono.just(response(503, MediaType.APPLICATION_JSON_VALUE, ERROR_BODY));
+                    case NONE -> Mono.fromSupplier(() -> emulator.replay(fixtureRequest)
+                            .map(fixture -> response(fixture.status(), fixture.contentType(), fixture.body()))
+                            .orElseGet(() -> response(404, MediaType.APPLICATION_JSON_VALUE, MISSING_BODY)));
+                };
+                return fault.latency().isZero() ? response : Mono.delay(fault.latency()).then(response);
+            });
+        }
+
+        return next.exchange(request).flatMap(response -> response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    String contentType = response.headers().contentType().map(MediaType::toString).orElse(null);
+                    emulator.record(fixtureRequest, response.statusCode().value(), contentType, body);
+                    return response.mutate().body(body).build();
+                }));
+    }
+
+    private static ClientResponse response(int status, String contentType, String body) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatusCode.valueOf(status));
+        if (contentType != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+        return builder.body(body == null ? "" : body).build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.koo.bonscore.common.api.emulation;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * EmulationRestTemplateInterceptor.java
+ * 설명 : RestTemplate 외부 API 호출의 응답 녹화/재생 인터셉터 (ApiEmulator 사용)
+ *        - record : 실제 호출 후 응답 본문을 fixture로 저장하고, 읽은 본문으로 응답을 다시 만들어 반환
+ *        - replay : 실제 호출 없이 fixture로 응답 (지연, 503 오류, 타임아웃(SocketTimeoutException) 주입)
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public class EmulationRestTemplateInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final byte[] ERROR_BODY = "{\"error\":\"emulated provider error\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MISSING_BODY = "{\"error\":\"fixture not found\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ApiEmulator emulator;
+
+    public EmulationRestTemplateInterceptor(ApiEmulator emulator) {
+        this.emulator = emulator;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String provider = emulator.providerOf(request.getURI().getHost());
+        ApiEmulator.FixtureRequest fixtureRequest = emulator.request(provider, request.getMethod().name(), request.getURI(), body);
+
+        if (emulator.isReplaying()) {
+            ApiEmulator.InjectedFault fault = emulator.nextFault(provider);
+            ApiEmulator.sleep(fault.latency());
+            if (fault.type() == ApiEmulator.FaultType.TIMEOUT) {
+                ApiEmulator.sleep(fault.timeout());
+                throw new SocketTimeoutException("emulated read timeout: " + fixtureRequest.uri());
+            }
+            if (fault.type() == ApiEmulator.FaultType.ERROR) {
+                return new FixtureResponse(503, MediaType.APPLICATION_JSON_VALUE, ERROR_BODY);
+            }
+            return emulator.replay(fixtureRequest)
+                    .map(fixture -> new FixtureResponse(fixture.status(), fixture.contentType(), bytes(fixture.body())))
+                    .orElseGet(() -> new FixtureResponse(404, MediaType.APPLICATION_JSON_VALUE, MISSING_BODY));
+        }
+
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            byte[] responseBody = StreamUtils.copyToByteArray(response.getBody());
+            String contentType = response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+            emulator.record(fixtureRequest, response.getStatusCode().value(), contentType, new String(responseBody, StandardCharsets.UTF_8));
+            return new FixtureResponse(response.getStatusCode().value(), contentType, responseBody);
+        }
+    }
+
+    private static byte[] bytes(String body) {
+        return body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 메모리에 있는 본문으로 만든 응답
+     */
+    private static class FixtureResponse implements ClientHttpResponse {
+        private final int status;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final byte[] body;
+
+        FixtureResponse(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.body = body;
+            if (contentType != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+            headers.setContentLength(body.length);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(status);
+        }
+
+        @Override
+        public String getStatusText() {
+            return "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+            // 메모리 본문이므로 정리할 자원 없음
+        }
+    }
+}
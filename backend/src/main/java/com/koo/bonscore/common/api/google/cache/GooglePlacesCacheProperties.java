@@ -0,0 +1,29 @@
+package com.koo.bonscore.common.api.google.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * GooglePlacesCacheProperties.java
+ * 설명 : Google Places place_id / 상세 정보 캐시 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.google.places-cache")
+@Getter
+@Setter
+public class GooglePlacesCacheProperties {
+    private Duration placeIdTtl = Duration.ofDays(30);     // (가게명 + 주소) -> place_id 유지 시간
+    private Duration notFoundTtl = Duration.ofHours(1);    // 가게를 찾지 못한 결과 유지 시간
+    private Duration detailsTtl = Duration.ofHours(6);     // 영업 상태/영업시간 유지 시간
+    private long maxSize = 20_000;                         // 캐시별 최대 항목 수
+}
@@ -0,0 +1,152 @@
+package com.koo.bonscore.common.api.google.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * TranslationCache.java
+ * 설명 : 번역 결과 2단계 캐시
+ *
+ * L1 : 애플리케이션 내부 Caffeine 캐시 (가장 빠름, 인스턴스별)
+ * L2 : Redis (인스턴스 간 공유, 재시작 후에도 유지)
+ * 키는 (원본 언어, 목표 언어, 정규화된 원문의 SHA-256 해시)로 구성된다.
+ * Redis 장애 시에는 L1만 사용하고 번역 호출은 정상적으로 진행된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class TranslationCache {
+
+    private static final String REDIS_KEY_PREFIX = "translate:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TranslationCacheProperties properties;
+    private final Cache<String, String> localCache;
+
+    public TranslationCache(StringRedisTemplate redisTemplate, TranslationCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaxSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "google.translate.local");
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 캐시 키 생성
+     * @param text       원문
+     * @param sourceLang 원본 언어
+     * @param targetLang 목표 언어
+     * @return "원본언어:목표언어:정규화된 원문 해시"
+     */
+    public String keyOf(String text, String sourceLang, String targetLang) {
+        return sourceLang + ":" + targetLang + ":" + sha256(normalize(text));
+    }
+
+    /**
+     * 여러 키의 번역 결과를 L1 -> L2 순서로 조회
+     * L2에서 찾은 결과는 L1에 다시 적재한다.
+     * @param keys 캐시 키 목록
+     * @return 캐시에 있는 키 -> 번역 결과 (없는 키는 포함되지 않음)
+     */
+    public Map<String, String> getAll(List<String> keys) {
+        Map<String, String> found = new HashMap<>(localCache.getAllPresent(keys));
+
+        LinkedHashSet<String> missSet = new LinkedHashSet<>(keys);
+        missSet.removeAll(found.keySet());
+        List<String> localMisses = new ArrayList<>(missSet);
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<String> redisValues = redisTemplate.opsForValue()
+                    .multiGet(localMisses.stream().map(key -> REDIS_KEY_PREFIX + key).toList());
+            if (redisValues != null) {
+                for (int i = 0; i < localMisses.size(); i++) {
+                    String value = redisValues.get(i);
+                    if (value != null) {
+                        found.put(localMisses.get(i), value);
+                        localCache.put(localMisses.get(i), value);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("번역 캐시(Redis) 조회 실패 - 로컬 캐시만 사용합니다: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 번역 결과를 L1, L2에 저장
+     * L2에는 한 번의 파이프라인으로 저장한다. (MSET은 만료 시간을 지정할 수 없으므로 SETEX를 파이프라인으로 묶음)
+     * @param translations 캐시 키 -> 번역 결과
+     */
+    public void putAll(Map<String, String> translations) {
+        if (translations.isEmpty()) {
+            return;
+        }
+        localCache.putAll(translations);
+
+        long ttlSeconds = properties.getRedisTtl().toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                // StringRedisTemplate은 연결을 StringRedisConnection으로 감싸서 전달
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                translations.forEach((key, value) -> stringConnection.setEx(REDIS_KEY_PREFIX + key, ttlSeconds, value));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("번역 캐시(Redis) 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 원문 정규화 (앞뒤 공백 제거, 연속 공백을 하나로)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ");
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] hash = md.digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM에서 지원되므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+}
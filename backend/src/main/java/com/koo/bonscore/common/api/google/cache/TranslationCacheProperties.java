@@ -0,0 +1,29 @@
+package com.koo.bonscore.common.api.google.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * TranslationCacheProperties.java
+ * 설명 : 번역 결과 캐시(L1: 로컬, L2: Redis) 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.google.translate-cache")
+@Getter
+@Setter
+public class TranslationCacheProperties {
+    private boolean enabled = true;
+    private long localMaxSize = 50_000;                 // L1 최대 항목 수
+    private Duration localTtl = Duration.ofHours(12);   // L1 유지 시간
+    private Duration redisTtl = Duration.ofDays(30);    // L2 유지 시간
+}
@@ -0,0 +1,29 @@
+package com.koo.bonscore.common.api.google.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * TranslateBatchProperties.java
+ * 설명 : Google 번역 요청 간 일괄 호출(micro-batching) 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.google.translate-batch")
+@Getter
+@Setter
+public class TranslateBatchProperties {
+    private boolean enabled = true;
+    private int maxBatchSize = 100;                        // 한 번의 번역 호출에 담을 최대 텍스트 수 (API 최대 128)
+    private Duration maxBatchWait = Duration.ofMillis(5);  // 일괄 호출 전 다른 요청을 기다리는 최대 시간
+    private Duration callTimeout = Duration.ofSeconds(5);  // 일괄 호출 결과를 기다리는 최대 시간 (초과 시 번역 실패로 처리)
+}
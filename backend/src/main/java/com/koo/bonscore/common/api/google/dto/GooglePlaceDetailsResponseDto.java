@@ -31,5 +31,21 @@ public class GooglePlaceDetailsResponseDto {
 
         @JsonProperty("weekday_text")
         private List<String> weekdayText; // ["월요일: 오전 10:00 ~ 오후 9:00", ...]
+
+        private List<Period> periods; // 주간 영업 구간 (open_now를 현재 시각 기준으로 다시 계산할 때 사용)
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Period {
+        private DayTime open;
+        private DayTime close; // 24시간 영업이면 없음
+
+        @Data
+        @NoArgsConstructor
+        public static class DayTime {
+            private int day;     // 0: 일요일 ~ 6: 토요일
+            private String time; // "HHmm" (예: "0930")
+        }
     }
 }
\ No newline at end of file
@@ -1,10 +1,21 @@
 package com.koo.bonscore.common.api.google.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koo.bonscore.common.api.google.cache.GooglePlacesCacheProperties;
 import com.koo.bonscore.common.api.google.dto.GoogleFindPlaceResponseDto;
 import com.koo.bonscore.common.api.google.dto.GooglePlaceDetailsResponseDto;
 import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
 import com.koo.bonscore.common.api.google.dto.BusinessStatus; // ★★★ Enum import
+import com.koo.bonscore.common.api.google.support.OpeningHoursCalculator;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.common.api.support.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
@@ -12,20 +23,80 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Optional;
 
+/**
+ * <pre>
+ * GooglePlacesService.java
+ * 설명 : Google Places API로 가게 영업 정보를 조회하는 서비스
+ *
+ * - (가게명 + 주소) -> place_id는 거의 변하지 않으므로 긴 TTL로 캐싱 (찾지 못한 결과는 짧게 캐싱)
+ * - place_id + 언어 -> 상세 정보(영업 상태, 영업시간)는 짧은 TTL로 캐싱
+ * - 현재 영업 여부는 캐시된 주간 영업 구간(periods)과 현재 시각으로 다시 계산
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
 @Slf4j
 @Service
 public class GooglePlacesService {
 
+    // 영업 여부 계산 기준 시간대 (서비스 대상 가게는 국내)
+    private static final ZoneId STORE_ZONE = ZoneId.of("Asia/Seoul");
+
     private final RestTemplate restTemplate;
     private final String apiKey;
     private final String baseUrl = "https://maps.googleapis.com/maps/api/place";
 
-    public GooglePlacesService(RestTemplate restTemplate, @Value("${api.google.key}") String apiKey) {
+    private final Cache<String, String> placeIdCache;
+    private final Cache<String, Boolean> notFoundCache;
+    private final Cache<String, GooglePlaceDetailsResponseDto> detailsCache;
+    private final SingleFlight singleFlight;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
+    private final Clock clock;
+
+    @Autowired
+    public GooglePlacesService(RestTemplate restTemplate, @Value("${api.google.key}") String apiKey,
+                               GooglePlacesCacheProperties cacheProperties, MeterRegistry meterRegistry, SingleFlight singleFlight,
+                               ApiQuotaGovernor quotaGovernor, ApiResilience apiResilience) {
+        this(restTemplate, apiKey, cacheProperties, meterRegistry, singleFlight, quotaGovernor, apiResilience, Clock.system(STORE_ZONE));
+    }
+
+    GooglePlacesService(RestTemplate restTemplate, String apiKey,
+                        GooglePlacesCacheProperties cacheProperties, MeterRegistry meterRegistry, SingleFlight singleFlight,
+                        ApiQuotaGovernor quotaGovernor, ApiResilience apiResilience, Clock clock) {
         this.restTemplate = restTemplate;
         this.apiKey = apiKey;
+        this.singleFlight = singleFlight;
+        this.quotaGovernor = quotaGovernor;
+        this.apiResilience = apiResilience;
+        this.clock = clock;
+        this.placeIdCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getPlaceIdTtl())
+                .recordStats()
+                .build();
+        this.notFoundCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getNotFoundTtl())
+                .recordStats()
+                .build();
+        this.detailsCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getDetailsTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, placeIdCache, "google.placeId");
+        CaffeineCacheMetrics.monitor(meterRegistry, notFoundCache, "google.placeNotFound");
+        CaffeineCacheMetrics.monitor(meterRegistry, detailsCache, "google.placeDetails");
     }
 
     /**
@@ -36,6 +107,21 @@ public class GooglePlacesService {
      * @return 상태와 영업시간 정보가 포함된 DTO
      */
     public StoreHoursResponseDto getStoreOpeningHours(String storeName, String address, String lang) {
+        return openingHours(storeName, address, lang, true);
+    }
+
+    /**
+     * 상세 정보 캐시를 거치지 않고 영업 정보를 다시 조회합니다. (인기 가게 refresh-ahead용, 조회 결과는 캐시에 저장)
+     * @param storeName 가게 이름
+     * @param address 주소
+     * @param lang 언어 코드
+     * @return 상태와 영업시간 정보가 포함된 DTO
+     */
+    public StoreHoursResponseDto refreshStoreOpeningHours(String storeName, String address, String lang) {
+        return openingHours(storeName, address, lang, false);
+    }
+
+    private StoreHoursResponseDto openingHours(String storeName, String address, String lang, boolean useDetailsCache) {
         String language = Optional.ofNullable(lang).filter(s -> !s.trim().isEmpty()).orElse("ko");
         String query = storeName + " " + address;
 
@@ -44,7 +130,7 @@ public class GooglePlacesService {
             // 1. Place ID 찾기 -> 2. Place Details 조회 -> 3. 최종 DTO로 변환
             // 각 단계에서 실패(empty) 시 orElseGet을 통해 적절한 에러 DTO 반환
             return findPlaceId(query, language)
-                    .flatMap(placeId -> getPlaceDetails(placeId, language))
+                    .flatMap(placeId -> getPlaceDetails(query, placeId, language, useDetailsCache))
                     .map(this::buildResponseFromDetails)
                     .orElseGet(() -> {
                         log.warn("가게를 찾을 수 없거나 상세 정보가 없습니다. query: {}", query);
@@ -57,9 +143,19 @@ public class GooglePlacesService {
     }
 
     /**
-     * Google의 'Find Place' API를 호출하여 Place ID를 Optional로 반환합니다.
+     * Place ID를 캐시에서 조회하고, 없으면 Google의 'Find Place' API를 호출하여 Optional로 반환합니다.
+     * 검색 결과가 없는 경우(ZERO_RESULTS)만 짧게 캐싱하고, 호출 실패나 할당량 초과 등은 캐싱하지 않습니다.
      */
     private Optional<String> findPlaceId(String query, String lang) {
+        String key = normalize(query);
+        String cachedPlaceId = placeIdCache.getIfPresent(key);
+        if (cachedPlaceId != null) {
+            return Optional.of(cachedPlaceId);
+        }
+        if (notFoundCache.getIfPresent(key) != null) {
+            return Optional.empty();
+        }
+
         URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl + "/findplacefromtext/json")
                 .queryParam("input", query)
                 .queryParam("inputtype", "textquery")
@@ -69,12 +165,24 @@ public class GooglePlacesService {
                 .build().toUri();
 
         try {
-            GoogleFindPlaceResponseDto response = restTemplate.getForObject(uri, GoogleFindPlaceResponseDto.class);
-            return Optional.ofNullable(response)
+            // 같은 검색어의 동시 호출은 한 번의 Google 호출로 병합
+            GoogleFindPlaceResponseDto response = singleFlight.execute("google.findPlace", SingleFlight.key(query, lang),
+                    () -> apiResilience.execute("google-places", () -> {
+                        quotaGovernor.acquire(ApiProvider.GOOGLE, "places");
+                        return restTemplate.getForObject(uri, GoogleFindPlaceResponseDto.class);
+                    }));
+            Optional<String> placeId = Optional.ofNullable(response)
                     .filter(r -> "OK".equals(r.getStatus()))
                     .map(GoogleFindPlaceResponseDto::getCandidates)
                     .filter(c -> !c.isEmpty())
                     .map(c -> c.get(0).getPlaceId());
+
+            if (placeId.isPresent()) {
+                placeIdCache.put(key, placeId.get());
+            } else if (response != null && ("ZERO_RESULTS".equals(response.getStatus()) || "OK".equals(response.getStatus()))) {
+                notFoundCache.put(key, Boolean.TRUE);
+            }
+            return placeId;
         } catch (HttpClientErrorException e) {
             log.error("findPlaceId API 호출 실패. Status: {}, Query: {}", e.getStatusCode(), query);
             return Optional.empty();
@@ -82,9 +190,16 @@ public class GooglePlacesService {
     }
 
     /**
-     * Google의 'Place Details' API를 호출하여 상세 정보를 Optional로 반환합니다.
+     * 상세 정보를 캐시에서 조회하고, 없으면(또는 useCache가 false이면) Google의 'Place Details' API를 호출하여 Optional로 반환합니다.
+     * 결과 객체가 있는 OK 응답만 캐싱하고, place_id가 더 이상 유효하지 않으면(NOT_FOUND) place_id 캐시에서도 제거합니다.
      */
-    private Optional<GooglePlaceDetailsResponseDto> getPlaceDetails(String placeId, String lang) {
+    private Optional<GooglePlaceDetailsResponseDto> getPlaceDetails(String query, String placeId, String lang, boolean useCache) {
+        String key = placeId + ":" + lang;
+        GooglePlaceDetailsResponseDto cachedDetails = useCache ? detailsCache.getIfPresent(key) : null;
+        if (cachedDetails != null) {
+            return Optional.of(cachedDetails);
+        }
+
         URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl + "/details/json")
                 .queryParam("place_id", placeId)
                 .queryParam("fields", "business_status,opening_hours")
@@ -93,9 +208,20 @@ public class GooglePlacesService {
                 .build().toUri();
 
         try {
-            GooglePlaceDetailsResponseDto response = restTemplate.getForObject(uri, GooglePlaceDetailsResponseDto.class);
-            return Optional.ofNullable(response)
+            // 같은 place_id의 동시 호출은 한 번의 Google 호출로 병합
+            GooglePlaceDetailsResponseDto response = singleFlight.execute("google.placeDetails", SingleFlight.key(placeId, lang),
+                    () -> apiResilience.execute("google-places", () -> {
+                        quotaGovernor.acquire(ApiProvider.GOOGLE, "places");
+                        return restTemplate.getForObject(uri, GooglePlaceDetailsResponseDto.class);
+                    }));
+            if (response != null && "NOT_FOUND".equals(response.getStatus())) {
+                placeIdCache.invalidate(normalize(query));
+            }
+
+            Optional<GooglePlaceDetailsResponseDto> details = Optional.ofNullable(response)
                     .filter(r -> "OK".equals(r.getStatus()));
+            details.filter(r -> r.getResult() != null).ifPresent(r -> detailsCache.put(key, r));
+            return details;
         } catch (HttpClientErrorException e) {
             log.error("getPlaceDetails API 호출 실패. Status: {}, PlaceID: {}", e.getStatusCode(), placeId);
             return Optional.empty();
@@ -122,11 +248,20 @@ public class GooglePlacesService {
             return StoreHoursResponseDto.noInfo();
         }
 
-        // 3. 정상적으로 영업시간 정보가 있는 경우
+        // 3. 정상적으로 영업시간 정보가 있는 경우 (현재 영업 여부는 주간 영업 구간으로 다시 계산, 구간 정보가 없으면 조회 시점 값 사용)
+        boolean open = OpeningHoursCalculator.isOpenAt(openingHours.getPeriods(), LocalDateTime.now(clock))
+                .orElse(openingHours.isOpenNow());
         return StoreHoursResponseDto.success(
-                openingHours.isOpenNow(),
+                open,
                 result.getBusinessStatus(),
                 openingHours.getWeekdayText()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시 키 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자 변환)
+     */
+    private static String normalize(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,11 +2,26 @@ package com.koo.bonscore.common.api.google.service;
 
 import com.google.cloud.translate.Translate;
 import com.google.cloud.translate.TranslateOptions;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.cloud.translate.Translation;
+import com.koo.bonscore.common.api.emulation.ApiEmulator;
+import com.koo.bonscore.common.api.google.cache.TranslationCache;
+import com.koo.bonscore.common.api.google.config.TranslateBatchProperties;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.MicroBatcher;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -14,6 +29,25 @@ import java.util.stream.Collectors;
 public class GoogleTranslateService {
 
     private final Translate translate = initTranslate();
+    private final TranslationCache translationCache;
+    private final ApiResilience apiResilience;
+    private final ApiEmulator apiEmulator;
+    private final TranslateBatchProperties batchProperties;
+    private final Executor translateBatchExecutor;
+    // 동시에 들어온 요청들의 캐시 미스 텍스트를 모아 한 번의 번역 호출로 처리
+    private final MicroBatcher<TranslationKey, String> batcher;
+
+    public GoogleTranslateService(TranslationCache translationCache, ApiResilience apiResilience, ApiEmulator apiEmulator,
+                                  TranslateBatchProperties batchProperties,
+                                  @Qualifier("translateBatchExecutor") Executor translateBatchExecutor) {
+        this.translationCache = translationCache;
+        this.apiResilience = apiResilience;
+        this.apiEmulator = apiEmulator;
+        this.batchProperties = batchProperties;
+        this.translateBatchExecutor = translateBatchExecutor;
+        this.batcher = new MicroBatcher<>("google.translate", batchProperties.getMaxBatchSize(),
+                batchProperties.getMaxBatchWait(), translateBatchExecutor, this::translateBatch);
+    }
 
     private static Translate initTranslate() {
         try {
@@ -26,30 +60,144 @@ public class GoogleTranslateService {
 
     /**
      * 여러 개의 텍스트를 한 번에 번역합니다. (이것이 더 효율적입니다)
+     * 번역 캐시(L1 로컬, L2 Redis)에 있는 텍스트는 재사용하고, 캐시에 없는 텍스트만 중복 제거 후 번역 API로 요청합니다.
+     * 캐시에 없는 텍스트는 동시에 들어온 다른 요청의 텍스트와 모아 한 번의 번역 API 호출로 처리합니다.
      * @param texts 번역할 텍스트 목록 (예: ["다운타우너 안국", "런던 베이글 뮤지엄"])
      * @param sourceLang 원본 언어 코드 (예: "ko")
      * @param targetLang 목표 언어 코드 (예: "en")
-     * @return 번역된 텍스트 목록
+     * @return 번역된 텍스트 목록 (입력 순서 유지)
      */
     public List<String> translateTexts(List<String> texts, String sourceLang, String targetLang) {
-        if (texts == null || texts.isEmpty() || translate == null) {
+        // 응답 재생(replay) 모드에서는 자격증명 없이도 저장된 번역 결과 사용
+        if (texts == null || texts.isEmpty() || (translate == null && !apiEmulator.isReplaying())) {
             return Collections.emptyList();
         }
 
+        if (!translationCache.isEnabled()) {
+            return translateMisses(texts, sourceLang, targetLang);
+        }
+
+        // 1. 캐시 키 생성 후 L1 -> L2 순서로 조회
+        List<String> keys = texts.stream()
+                .map(text -> translationCache.keyOf(text, sourceLang, targetLang))
+                .toList();
+        Map<String, String> cached = translationCache.getAll(keys);
+
+        // 2. 캐시에 없는 텍스트만 중복 제거하여 수집 (키 -> 원문)
+        Map<String, String> misses = new LinkedHashMap<>();
+        int hitCount = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            if (cached.containsKey(keys.get(i))) {
+                hitCount++;
+            } else {
+                misses.putIfAbsent(keys.get(i), texts.get(i));
+            }
+        }
+
+        // 3. 캐시 미스 텍스트만 번역 API 호출
+        Map<String, String> resolved = new HashMap<>(cached);
+        if (!misses.isEmpty()) {
+            List<String> missKeys = new ArrayList<>(misses.keySet());
+            List<String> translated = translateMisses(new ArrayList<>(misses.values()), sourceLang, targetLang);
+            if (translated.size() != missKeys.size()) {
+                // 번역 실패 시 기존과 동일하게 빈 리스트 반환 (호출부에서 원본 데이터로 대체)
+                return Collections.emptyList();
+            }
+
+            Map<String, String> fresh = new HashMap<>();
+            for (int i = 0; i < missKeys.size(); i++) {
+                fresh.put(missKeys.get(i), translated.get(i));
+            }
+            translationCache.putAll(fresh);
+            resolved.putAll(fresh);
+        }
+
+        log.debug("번역 요청 {}건 중 캐시 적중 {}건, API 번역 {}건", texts.size(), hitCount, misses.size());
+
+        // 4. 원래 입력 순서대로 결과 재구성
+        return keys.stream()
+                .map(resolved::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 캐시 미스 텍스트 번역
+     * 일괄 호출을 사용하면 다른 요청의 텍스트와 함께 모아(max-batch-wait 이내, 최대 max-batch-size건) 한 번에 번역하고,
+     * 같은 텍스트는 한 번만 번역한다. 응답 녹화/재생 중에는 녹화 키가 요청 단위로 유지되도록 바로 호출한다.
+     * 일괄 호출 결과는 call-timeout까지만 기다린다. (다른 요청과 공유하는 일괄 호출은 취소하지 않고, 이 호출의 대기만 중단)
+     * @return 번역된 텍스트 목록 (하나라도 실패하거나 시간이 초과되면 빈 리스트)
+     */
+    private List<String> translateMisses(List<String> texts, String sourceLang, String targetLang) {
+        if (!batchProperties.isEnabled() || apiEmulator.isActive()) {
+            return callTranslateApi(texts, sourceLang, targetLang);
+        }
+
+        List<CompletableFuture<String>> futures = texts.stream()
+                .map(text -> batcher.submit(new TranslationKey(text, sourceLang, targetLang)))
+                .toList();
         try {
-            // 2. 번역 API를 호출합니다.
-            List<Translation> translations = translate.translate(texts,
-                    Translate.TranslateOption.sourceLanguage(sourceLang),
-                    Translate.TranslateOption.targetLanguage(targetLang));
-
-            // 3. 결과 객체에서 번역된 텍스트만 추출하여 리스트로 만듭니다.
-            return translations.stream()
-                    .map(Translation::getTranslatedText)
-                    .collect(Collectors.toList());
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .orTimeout(batchProperties.getCallTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (Exception e) {
+            log.warn("Google 번역 일괄 호출 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 여러 요청의 텍스트를 언어 쌍별로 한 번의 번역 API 호출로 처리 (MicroBatcher의 batchLoader)
+     * 번역 실패 시 결과가 없는 키는 MicroBatcher가 예외로 완료한다.
+     */
+    private CompletableFuture<Map<TranslationKey, String>> translateBatch(List<TranslationKey> keys) {
+        Map<List<String>, List<TranslationKey>> keysByLanguage = keys.stream()
+                .collect(Collectors.groupingBy(key -> List.of(key.sourceLang(), key.targetLang()),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        return CompletableFuture.supplyAsync(() -> {
+            Map<TranslationKey, String> results = new HashMap<>();
+            keysByLanguage.forEach((language, group) -> {
+                List<String> translated = callTranslateApi(group.stream().map(TranslationKey::text).toList(),
+                        language.get(0), language.get(1));
+                if (translated.size() == group.size()) {
+                    for (int i = 0; i < group.size(); i++) {
+                        results.put(group.get(i), translated.get(i));
+                    }
+                }
+            });
+            log.debug("Google 번역 일괄 호출: 텍스트 {}건, 호출 {}회", keys.size(), keysByLanguage.size());
+            return results;
+        }, translateBatchExecutor);
+    }
+
+    /**
+     * Google 번역 API를 호출합니다.
+     * @return 번역된 텍스트 목록 (실패 시 빈 리스트)
+     */
+    private List<String> callTranslateApi(List<String> texts, String sourceLang, String targetLang) {
+        try {
+            // 2. 번역 API를 호출합니다. (서킷 오픈 시 즉시 실패하여 원본 데이터로 대체)
+            // (번역은 라이브러리 호출이므로 응답 녹화/재생은 HTTP 필터가 아닌 ApiEmulator.execute로 처리)
+            return apiResilience.execute("google-translate", () -> apiEmulator.execute("google-translate", "translate",
+                    List.of(texts, sourceLang, targetLang), new TypeReference<List<String>>() {},
+                    () -> translate.translate(texts,
+                                    Translate.TranslateOption.sourceLanguage(sourceLang),
+                                    Translate.TranslateOption.targetLanguage(targetLang))
+                            // 3. 결과 객체에서 번역된 텍스트만 추출하여 리스트로 만듭니다.
+                            .stream()
+                            .map(Translation::getTranslatedText)
+                            .collect(Collectors.toList())));
         } catch (Exception e) {
             log.error("Google 번역 API 호출 중 오류 발생: {}", e.getMessage(), e);
             // 번역 실패 시 비어있는 리스트를 반환하거나, 예외를 던질 수 있습니다.
             return Collections.emptyList();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 번역 키 (원문, 원본 언어, 목표 언어)
+     */
+    private record TranslationKey(String text, String sourceLang, String targetLang) {
+    }
+}
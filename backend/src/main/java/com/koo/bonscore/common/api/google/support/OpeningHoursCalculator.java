@@ -0,0 +1,88 @@
+package com.koo.bonscore.common.api.google.support;
+
+import com.koo.bonscore.common.api.google.dto.GooglePlaceDetailsResponseDto.Period;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * OpeningHoursCalculator.java
+ * 설명 : Google Places 주간 영업 구간(periods)으로 특정 시각의 영업 여부를 계산
+ *
+ * 영업 정보를 캐시에서 꺼내 쓸 때, 조회 시점의 open_now 대신 현재 시각 기준으로 영업 여부를 다시 계산하기 위해 사용한다.
+ * - 시각은 주 단위 분(일요일 00:00 = 0)으로 환산하여 비교
+ * - 자정/주말을 넘기는 구간(예: 토 22:00 ~ 일 02:00) 지원
+ * - close가 없는 구간은 24시간 영업으로 처리
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class OpeningHoursCalculator {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private OpeningHoursCalculator() {
+    }
+
+    /**
+     * 주어진 시각에 영업 중인지 계산
+     * @param periods 주간 영업 구간
+     * @param now     기준 시각 (가게 현지 시각)
+     * @return 영업 여부 (구간 정보가 없거나 형식이 올바르지 않으면 empty)
+     */
+    public static Optional<Boolean> isOpenAt(List<Period> periods, LocalDateTime now) {
+        if (periods == null || periods.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // DayOfWeek: 월(1) ~ 일(7) -> Google: 일(0) ~ 토(6)
+        int day = now.getDayOfWeek().getValue() % 7;
+        int nowMinute = day * MINUTES_PER_DAY + now.getHour() * 60 + now.getMinute();
+
+        for (Period period : periods) {
+            if (period.getOpen() == null) {
+                return Optional.empty();
+            }
+            if (period.getClose() == null) {
+                return Optional.of(true); // 24시간 영업
+            }
+
+            int open = toMinuteOfWeek(period.getOpen());
+            int close = toMinuteOfWeek(period.getClose());
+            if (open < 0 || close < 0) {
+                return Optional.empty();
+            }
+            if (close <= open) {
+                close += MINUTES_PER_WEEK; // 주말을 넘기는 구간
+            }
+
+            if ((nowMinute >= open && nowMinute < close)
+                    || (nowMinute + MINUTES_PER_WEEK >= open && nowMinute + MINUTES_PER_WEEK < close)) {
+                return Optional.of(true);
+            }
+        }
+        return Optional.of(false);
+    }
+
+    /**
+     * 요일 + "HHmm"을 주 단위 분으로 변환 (형식 오류 시 -1)
+     */
+    private static int toMinuteOfWeek(Period.DayTime dayTime) {
+        String time = dayTime.getTime();
+        if (time == null || time.length() != 4 || dayTime.getDay() < 0 || dayTime.getDay() > 6) {
+            return -1;
+        }
+        try {
+            int hour = Integer.parseInt(time.substring(0, 2));
+            int minute = Integer.parseInt(time.substring(2));
+            return dayTime.getDay() * MINUTES_PER_DAY + hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.koo.bonscore.common.api.kakao.geocode.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * KakaoGeocodeProperties.java
+ * 설명 : 주소/가게명 -> 좌표 변환(geocode) 캐시 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.kakao.geocode-cache")
+@Getter
+@Setter
+public class KakaoGeocodeProperties {
+    private Duration positiveTtl = Duration.ofDays(7);      // 좌표를 찾은 결과 유지 시간
+    private Duration negativeTtl = Duration.ofMinutes(10);  // 좌표를 찾지 못한 결과 유지 시간
+    private long maxSize = 20_000;                          // 캐시별 최대 항목 수
+}
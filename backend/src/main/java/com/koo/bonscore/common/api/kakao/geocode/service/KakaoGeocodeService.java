@@ -0,0 +1,194 @@
+package com.koo.bonscore.common.api.kakao.geocode.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koo.bonscore.common.api.kakao.geocode.config.KakaoGeocodeProperties;
+import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import com.koo.bonscore.common.api.kma.weather.dto.KakaoApiDto;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * KakaoGeocodeService.java
+ * 설명 : 주소/가게명을 좌표로 변환하는 공용 geocode 서비스 (날씨, 주변 상권에서 공통 사용)
+ *
+ * - 주소/검색어는 정규화(공백 정리, 소문자화)하여 캐시 키로 사용
+ * - 좌표를 찾은 결과는 긴 TTL의 positive 캐시에 저장
+ * - 찾지 못한 결과("not found")는 짧은 TTL의 negative 캐시에 저장하여 반복 호출을 방지
+ * - API 호출 실패(예외)는 캐싱하지 않음
+ * - 캐시 적중/미스 및 조회 결과는 Micrometer(kakao.geocode.lookups)로 노출
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Service
+public class KakaoGeocodeService {
+
+    private static final String KAKAO_KEYWORD_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
+
+    private final Cache<String, Object> positiveCache;
+    private final Cache<String, Boolean> negativeCache;
+
+    @Value("${api.kakao.key}")
+    private String kakaoApiKey;
+
+    // 주소 검색 API URL
+    @Value("${api.kakao.url}")
+    private String kakaoAddressUrl;
+
+    public KakaoGeocodeService(RestTemplate restTemplate, KakaoGeocodeProperties properties, MeterRegistry meterRegistry,
+                               ApiQuotaGovernor quotaGovernor, ApiResilience apiResilience) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.quotaGovernor = quotaGovernor;
+        this.apiResilience = apiResilience;
+        this.positiveCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getPositiveTtl())
+                .recordStats()
+                .build();
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, positiveCache, "kakao.geocode.positive");
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, "kakao.geocode.negative");
+    }
+
+    /**
+     * 주소를 좌표로 변환 (카카오 주소 검색 API)
+     * @param address 주소
+     * @return 좌표 (찾지 못하면 empty)
+     */
+    public Optional<KakaoApiDto.Document> findCoordinate(String address) {
+        return lookup("address", address, () -> fetchAddress(address), KakaoApiDto.Document.class);
+    }
+
+    /**
+     * 가게명(키워드)으로 첫 번째 장소를 조회 (카카오 키워드 검색 API)
+     * @param query 검색어 (가게명 등)
+     * @return 장소 정보 (찾지 못하면 empty)
+     */
+    public Optional<KakaoMapResponse.Document> findPlace(String query) {
+        return lookup("place", query, () -> fetchPlace(query), KakaoMapResponse.Document.class);
+    }
+
+    /**
+     * positive/negative 캐시를 확인한 뒤, 없으면 loader를 호출하여 결과를 캐싱
+     */
+    private <T> Optional<T> lookup(String type, String text, Supplier<T> loader, Class<T> resultType) {
+        String key = type + ":" + normalize(text);
+
+        Object cached = positiveCache.getIfPresent(key);
+        if (cached != null) {
+            record(type, "hit");
+            return Optional.of(resultType.cast(cached));
+        }
+        if (negativeCache.getIfPresent(key) != null) {
+            record(type, "negative_hit");
+            return Optional.empty();
+        }
+
+        T result = loader.get();
+        if (result == null) {
+            record(type, "not_found");
+            negativeCache.put(key, Boolean.TRUE);
+            return Optional.empty();
+        }
+
+        record(type, "miss");
+        positiveCache.put(key, result);
+        return Optional.of(result);
+    }
+
+    private KakaoApiDto.Document fetchAddress(String address) {
+        log.info("카카오 주소 검색 요청: address='{}'", address);
+
+        HttpEntity<String> entity = new HttpEntity<>(authHeaders());
+        try {
+            KakaoApiDto response = apiResilience.execute("kakao", () -> {
+                quotaGovernor.acquire(ApiProvider.KAKAO, "local");
+                return restTemplate.exchange(kakaoAddressUrl + "?query={query}", HttpMethod.GET, entity, KakaoApiDto.class, address).getBody();
+            });
+            if (response == null || response.getDocuments() == null) {
+                return null;
+            }
+            return response.getDocuments().stream().findFirst().orElse(null);
+        } catch (BsCoreException e) {
+            // 호출 한도 초과, 서킷 오픈 등은 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("Kakao 주소 검색 API 요청 실패: {}", e.getMessage());
+            throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
+        }
+    }
+
+    private KakaoMapResponse.Document fetchPlace(String query) {
+        log.info("카카오 키워드 검색 요청: query='{}'", query);
+
+        HttpEntity<String> entity = new HttpEntity<>(authHeaders());
+        try {
+            // RestTemplate.exchange에 URL 템플릿과 파라미터(query)를 직접 전달
+            KakaoMapResponse response = apiResilience.execute("kakao", () -> {
+                quotaGovernor.acquire(ApiProvider.KAKAO, "local");
+                return restTemplate.exchange(KAKAO_KEYWORD_SEARCH_URL + "?query={query}&size=1", HttpMethod.GET, entity, KakaoMapResponse.class, query).getBody();
+            });
+            if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
+                return null;
+            }
+            return response.getDocuments().get(0);
+        } catch (BsCoreException e) {
+            // 호출 한도 초과, 서킷 오픈 등은 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            log.error("Kakao API 요청 실패: {}", e.getMessage());
+            throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
+        }
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        return headers;
+    }
+
+    private void record(String type, String result) {
+        meterRegistry.counter("kakao.geocode.lookups", "type", type, "result", result).increment();
+    }
+
+    /**
+     * 주소/검색어 정규화 (앞뒤 공백 제거, 연속 공백을 하나로, 소문자화)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,124 @@
+package com.koo.bonscore.common.api.kakao.recomend.pool;
+
+import com.koo.bonscore.common.api.kakao.recomend.dto.RecommendedStoreDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <pre>
+ * RecommendationPool.java
+ * 설명 : 미리 수집해 둔 추천 가게 풀
+ *
+ * 백그라운드 수집기(RecommendationHarvester)가 가게를 추가하고, 추천 요청은 메모리의 스냅샷에서 무작위로 추출한다.
+ * 조회 경로는 락 없이 불변 스냅샷(배열)만 읽으며, 가게 식별은 카카오 place_url 기준으로 중복을 제거한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+public class RecommendationPool {
+
+    private final RecommendationPoolProperties properties;
+
+    // place_url -> 가게 (수집 스레드에서만 변경)
+    private final Map<String, PooledStore> stores = new LinkedHashMap<>();
+    // 조회용 불변 스냅샷
+    private volatile PooledStore[] snapshot = new PooledStore[0];
+
+    public RecommendationPool(RecommendationPoolProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("recommendation.pool.size", this, RecommendationPool::size)
+                .description("추천 가게 풀에 적재된 가게 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수집한 가게를 풀에 추가하고, 오래된 가게와 최대 크기를 넘는 가게를 제거한 뒤 스냅샷을 교체
+     * @param harvested 새로 수집한 가게 목록
+     */
+    public synchronized void addAll(Collection<PooledStore> harvested) {
+        harvested.forEach(store -> stores.put(store.placeUrl(), store));
+
+        Instant expiredBefore = Instant.now().minus(properties.getMaxAge());
+        stores.values().removeIf(store -> store.harvestedAt().isBefore(expiredBefore));
+
+        int overflow = stores.size() - properties.getPoolSize();
+        if (overflow > 0) {
+            stores.values().stream()
+                    .sorted(Comparator.comparing(PooledStore::harvestedAt))
+                    .limit(overflow)
+                    .map(PooledStore::placeUrl)
+                    .toList()
+                    .forEach(stores::remove);
+        }
+
+        snapshot = stores.values().toArray(new PooledStore[0]);
+    }
+
+    /**
+     * 풀에 이미 있는 가게인지 확인 (번역 전에 중복을 걸러내기 위함)
+     */
+    public synchronized boolean contains(String placeUrl) {
+        return stores.containsKey(placeUrl);
+    }
+
+    /**
+     * 풀에서 서로 다른 가게를 무작위로 추출
+     * @param count 추출할 가게 수
+     * @param lang  언어 코드 ("en"이면 미리 번역해 둔 이름/카테고리 사용)
+     * @return 추천 가게 목록 (풀이 count보다 작으면 빈 목록)
+     */
+    public List<RecommendedStoreDto> sample(int count, String lang) {
+        PooledStore[] current = snapshot;
+        if (current.length < count) {
+            return List.of();
+        }
+
+        // 부분 Fisher-Yates: 인덱스 배열의 앞 count개만 섞음
+        int[] indexes = new int[current.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<RecommendedStoreDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int j = random.nextInt(i, indexes.length);
+            int picked = indexes[j];
+            indexes[j] = indexes[i];
+            indexes[i] = picked;
+            result.add(current[picked].toDto(lang));
+        }
+        return result;
+    }
+
+    public int size() {
+        return snapshot.length;
+    }
+
+    /**
+     * 풀에 보관되는 가게 정보 (한국어 원본 + 미리 번역한 영어 이름/카테고리)
+     * 번역에 실패한 가게는 nameEn/categoryEn이 null이며, 영어 요청에도 원본을 반환한다.
+     */
+    public record PooledStore(String name, String address, String category, String placeUrl,
+                              String nameEn, String categoryEn, Instant harvestedAt) {
+
+        RecommendedStoreDto toDto(String lang) {
+            if ("en".equalsIgnoreCase(lang) && nameEn != null) {
+                return new RecommendedStoreDto(nameEn, address, categoryEn != null ? categoryEn : category, name, placeUrl);
+            }
+            return new RecommendedStoreDto(name, address, category, null, placeUrl);
+        }
+    }
+}
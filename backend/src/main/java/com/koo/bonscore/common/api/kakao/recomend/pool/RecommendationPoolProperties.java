@@ -0,0 +1,31 @@
+package com.koo.bonscore.common.api.kakao.recomend.pool;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * RecommendationPoolProperties.java
+ * 설명 : 랜덤 추천 가게 풀(pool) 수집 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.kakao.recommendation-pool")
+@Getter
+@Setter
+public class RecommendationPoolProperties {
+    private boolean enabled = true;                     // 풀 사용 여부 (false면 요청 시점에 카카오를 직접 호출)
+    private int poolSize = 600;                         // 풀에 유지할 최대 가게 수
+    private Duration refreshInterval = Duration.ofMinutes(10); // 수집 주기
+    private Duration maxAge = Duration.ofHours(24);     // 이 시간보다 오래 수집된 가게는 풀에서 제거
+    private int callsPerCycle = 10;                     // 수집 1회당 카카오 호출 수
+    private int dailyCallBudget = 1000;                 // 하루 최대 카카오 호출 수 (수집 전용)
+}
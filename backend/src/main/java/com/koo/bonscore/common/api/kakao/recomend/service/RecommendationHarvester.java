@@ -0,0 +1,105 @@
+package com.koo.bonscore.common.api.kakao.recomend.service;
+
+import com.koo.bonscore.common.api.kakao.recomend.dto.RecommendedStoreDto;
+import com.koo.bonscore.common.api.kakao.recomend.pool.RecommendationPool;
+import com.koo.bonscore.common.api.kakao.recomend.pool.RecommendationPool.PooledStore;
+import com.koo.bonscore.common.api.kakao.recomend.pool.RecommendationPoolProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * RecommendationHarvester.java
+ * 설명 : 랜덤 추천 가게 풀 수집기
+ *
+ * 주기적으로 서울 내 랜덤 좌표의 음식점/카페를 카카오에서 검색하고, 영어 번역까지 미리 수행하여 RecommendationPool에 적재한다.
+ * 수집 1회당 호출 수(calls-per-cycle)와 하루 호출 예산(daily-call-budget)을 넘지 않는다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationHarvester {
+
+    private final StoreRecommendationService storeRecommendationService;
+    private final RecommendationPool recommendationPool;
+    private final RecommendationPoolProperties properties;
+
+    // 하루 호출 예산 집계 (스케줄러 스레드에서만 접근)
+    private LocalDate budgetDate = LocalDate.now();
+    private int callsToday = 0;
+
+    /**
+     * 추천 가게 풀 수집 (기동 10초 후 시작, 이후 refresh-interval 간격)
+     */
+    @Scheduled(initialDelay = 10_000,
+            fixedDelayString = "#{@recommendationPoolProperties.refreshInterval.toMillis()}")
+    public void harvest() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int calls = reserveCalls(properties.getCallsPerCycle());
+        if (calls == 0) {
+            log.debug("[RECOMMEND] 오늘의 카카오 호출 예산({}회)을 모두 사용하여 수집을 건너뜁니다.", properties.getDailyCallBudget());
+            return;
+        }
+
+        try {
+            // 1. 랜덤 좌표 검색 후 풀에 없는 가게만 추림
+            List<RecommendedStoreDto> newStores = storeRecommendationService.searchRandomStores(Integer.MAX_VALUE, calls).stream()
+                    .filter(store -> !recommendationPool.contains(store.getPlaceUrl()))
+                    .toList();
+
+            // 2. 새 가게만 영어 번역 (실패하면 원본 그대로 반환됨)
+            List<RecommendedStoreDto> translated = newStores.isEmpty()
+                    ? newStores
+                    : storeRecommendationService.translateToEnglish(newStores);
+
+            // 3. 풀에 적재
+            Instant now = Instant.now();
+            List<PooledStore> harvested = new ArrayList<>(newStores.size());
+            for (int i = 0; i < newStores.size(); i++) {
+                RecommendedStoreDto ko = newStores.get(i);
+                RecommendedStoreDto en = translated.get(i);
+                boolean isTranslated = en.getNameKo() != null;
+                harvested.add(new PooledStore(ko.getName(), ko.getAddress(), ko.getCategory(), ko.getPlaceUrl(),
+                        isTranslated ? en.getName() : null,
+                        isTranslated ? en.getCategory() : null,
+                        now));
+            }
+            recommendationPool.addAll(harvested);
+
+            log.info("[RECOMMEND] 추천 가게 풀 수집 완료: 신규 {}곳, 풀 크기 {}곳, 오늘 호출 {}/{}회",
+                    harvested.size(), recommendationPool.size(), callsToday, properties.getDailyCallBudget());
+        } catch (Exception e) {
+            log.warn("[RECOMMEND] 추천 가게 풀 수집 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 하루 호출 예산에서 이번 수집에 사용할 호출 수를 차감
+     * @return 사용할 수 있는 호출 수 (0이면 예산 소진)
+     */
+    private int reserveCalls(int requested) {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(budgetDate)) {
+            budgetDate = today;
+            callsToday = 0;
+        }
+        int calls = Math.max(0, Math.min(requested, properties.getDailyCallBudget() - callsToday));
+        callsToday += calls;
+        return calls;
+    }
+}
@@ -1,10 +1,12 @@
 package com.koo.bonscore.common.api.kakao.recomend.service;
 
-import org.springframework.web.util.HtmlUtils;
+import com.koo.bonscore.common.api.kakao.recomend.pool.RecommendationPool;
+import com.koo.bonscore.common.api.kakao.recomend.pool.RecommendationPoolProperties;
 import com.koo.bonscore.common.api.google.service.GoogleTranslateService;
 import com.koo.bonscore.common.api.kakao.recomend.dto.RecommendedStoreDto;
 import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
 import com.koo.bonscore.common.api.kakao.surround.service.KakaoMapService;
+import com.koo.bonscore.common.util.text.TextNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,8 @@ public class StoreRecommendationService {
 
     private final KakaoMapService kakaoMapService;
     private final GoogleTranslateService googleTranslateService;
+    private final RecommendationPool recommendationPool;
+    private final RecommendationPoolProperties poolProperties;
 
     // 1. 서울을 포함하는 위도, 경도 범위 정의
     private static final double MIN_LATITUDE = 37.42;  // 남쪽
@@ -32,16 +36,46 @@ public class StoreRecommendationService {
 
     private static final int RECOMMENDATION_COUNT = 6;
 
+    // 특수 구분자 정의 (가게 이름이나 카테고리에 없을 만한 문자)
+    private static final String SEPARATOR = " ||| ";
+
     /**
-     * 서울 내 음식점 또는 카페를 랜덤으로 4곳 추천합니다.
+     * 서울 내 음식점 또는 카페를 랜덤으로 6곳 추천합니다.
+     * 백그라운드에서 미리 수집해 둔 풀에서 추출하며, 풀이 아직 채워지지 않았으면 카카오를 직접 호출합니다.
      */
     public List<RecommendedStoreDto> getRecommendedStores(String lang) {
-        // 중복 추천을 방지하기 위해 Set 사용
-        Set<RecommendedStoreDto> recommendedStores = new HashSet<>();
-        int maxRetries = 10; // 무한 루프 방지를 위한 최대 시도 횟수
+        if (poolProperties.isEnabled()) {
+            List<RecommendedStoreDto> sampled = recommendationPool.sample(RECOMMENDATION_COUNT, lang);
+            if (!sampled.isEmpty()) {
+                return sampled;
+            }
+            log.info("추천 가게 풀이 아직 채워지지 않았습니다(현재 {}곳). 카카오를 직접 호출합니다.", recommendationPool.size());
+        }
+
+        // 1. 목표 개수(6개)가 채워질 때까지 랜덤 좌표 검색 (무한 루프 방지를 위해 최대 10회)
+        List<RecommendedStoreDto> resultList = searchRandomStores(RECOMMENDATION_COUNT, 10).stream()
+                .limit(RECOMMENDATION_COUNT)
+                .toList();
 
-        // 3. 목표 개수(4개)가 채워질 때까지 반복
-        while (recommendedStores.size() < RECOMMENDATION_COUNT && maxRetries > 0) {
+        // 2. 영어 요청이면 이름과 카테고리 번역
+        if ("en".equalsIgnoreCase(lang) && !resultList.isEmpty()) {
+            return translateToEnglish(resultList);
+        }
+        return resultList;
+    }
+
+    /**
+     * 서울 내 랜덤 좌표를 중심으로 음식점/카페를 검색합니다. (반경 2km)
+     * @param targetCount 이 개수 이상 모이면 검색 중단
+     * @param maxCalls    최대 카카오 호출 횟수
+     * @return 검색된 가게 목록 (place_url 기준 중복 제거)
+     */
+    public List<RecommendedStoreDto> searchRandomStores(int targetCount, int maxCalls) {
+        // 중복 추천을 방지하기 위해 place_url을 키로 사용
+        Map<String, RecommendedStoreDto> recommendedStores = new LinkedHashMap<>();
+        int remainingCalls = maxCalls;
+
+        while (recommendedStores.size() < targetCount && remainingCalls > 0) {
             // 랜덤 좌표 생성
             String randomLongitude = String.valueOf(ThreadLocalRandom.current().nextDouble(MIN_LONGITUDE, MAX_LONGITUDE));
             String randomLatitude = String.valueOf(ThreadLocalRandom.current().nextDouble(MIN_LATITUDE, MAX_LATITUDE));
@@ -49,66 +83,63 @@ public class StoreRecommendationService {
             // 랜덤 카테고리 선택
             String randomCategory = CATEGORY_CODES.get(ThreadLocalRandom.current().nextInt(CATEGORY_CODES.size()));
 
-            // 카카오 API 호출하여 주변 가게 검색 (반경 2km)
-            KakaoMapResponse response = kakaoMapService.searchByCategory(randomCategory, randomLongitude, randomLatitude, 2000);
+            // 카카오 API 호출하여 주변 가게 검색 (반경 2km, 랜덤 좌표는 다시 조회하지 않으므로 geo-tile 캐시를 거치지 않음)
+            KakaoMapResponse response = kakaoMapService.searchByCategoryUncached(randomCategory, randomLongitude, randomLatitude, 2000);
 
             if (response != null && response.getDocuments() != null && !response.getDocuments().isEmpty()) {
-                // 검색된 결과를 DTO로 변환하여 Set에 추가
+                // 검색된 결과를 DTO로 변환하여 추가
                 response.getDocuments().stream()
                         .map(RecommendedStoreDto::from)
-                        .forEach(recommendedStores::add);
+                        .forEach(dto -> recommendedStores.putIfAbsent(dto.getPlaceUrl(), dto));
             }
-            maxRetries--;
+            remainingCalls--;
         }
 
-        List<RecommendedStoreDto> resultList = recommendedStores.stream()
-                .limit(RECOMMENDATION_COUNT)
-                .toList();
+        return new ArrayList<>(recommendedStores.values());
+    }
 
-        if ("en".equalsIgnoreCase(lang) && !resultList.isEmpty()) {
+    /**
+     * 가게 이름과 카테고리를 영어로 번역합니다.
+     * @param stores 한국어 가게 목록 (변경하지 않음)
+     * @return 번역된 가게 목록 (입력 순서 유지, nameKo에 원본 이름 설정). 번역에 실패하면 원본 목록을 그대로 반환
+     */
+    public List<RecommendedStoreDto> translateToEnglish(List<RecommendedStoreDto> stores) {
+        // 1. 이름과 카테고리를 구분자와 함께 합쳐서 리스트 생성
+        List<String> textsToTranslate = stores.stream()
+                .map(dto -> dto.getName() + SEPARATOR + dto.getCategory())
+                .collect(Collectors.toList());
+
+        // 2. 합쳐진 텍스트 리스트를 번역 서비스로 전달
+        List<String> translatedTexts = googleTranslateService.translateTexts(textsToTranslate, "ko", "en");
+
+        if (translatedTexts == null || translatedTexts.size() != stores.size()) {
+            log.warn("가게 정보 번역에 실패했거나 결과 개수가 일치하지 않습니다. 원본 데이터를 반환합니다.");
+            return stores;
+        }
+
+        // 3. 번역된 결과를 다시 분리하여 DTO에 각각 설정
+        List<RecommendedStoreDto> translatedStores = new ArrayList<>(stores.size());
+        for (int i = 0; i < stores.size(); i++) {
+            RecommendedStoreDto original = stores.get(i);
+
+            // HTML 엔티티를 일반 문자로 변환
+            String translatedText = TextNormalizer.unescape(translatedTexts.get(i));
+
+            // 구분자를 기준으로 번역된 문자열을 분리 (정규식 이스케이프 필요)
+            String[] parts = translatedText.split("\\s*\\|\\|\\|\\s*");
 
-            // 특수 구분자 정의 (가게 이름이나 카테고리에 없을 만한 문자)
-            final String SEPARATOR = " ||| ";
-
-            // 1. 이름과 카테고리를 구분자와 함께 합쳐서 리스트 생성
-            List<String> textsToTranslate = resultList.stream()
-                    .map(dto -> dto.getName() + SEPARATOR + dto.getCategory())
-                    .collect(Collectors.toList());
-
-            // 2. 합쳐진 텍스트 리스트를 번역 서비스로 전달
-            List<String> translatedTexts = googleTranslateService.translateTexts(textsToTranslate, "ko", "en");
-
-            // 3. 번역된 결과를 다시 분리하여 DTO에 각각 설정
-            if (translatedTexts != null && translatedTexts.size() == resultList.size()) {
-                for (int i = 0; i < resultList.size(); i++) {
-                    // 번역된 원본 텍스트
-                    String rawTranslatedText = translatedTexts.get(i);
-
-                    // HTML 엔티티를 일반 문자로 변환
-                    String translatedText = HtmlUtils.htmlUnescape(rawTranslatedText);
-
-                    // 구분자를 기준으로 번역된 문자열을 분리 (정규식 이스케이프 필요)
-                    String[] parts = translatedText.split("\\s*\\|\\|\\|\\s*");
-
-                    if (parts.length == 2) {
-                        // 분리된 결과를 각각 name과 category에 설정
-                        resultList.get(i).setNameKo(resultList.get(i).getName());
-                        resultList.get(i).setName(parts[0].trim());
-                        resultList.get(i).setCategory(parts[1].trim());
-                    } else {
-                        log.warn("번역 결과 분리 실패: '{}'. 원본 데이터를 유지합니다.", translatedText);
-                        // 분리에 실패하면 원본 한국어 이름만 영어로 덮어쓰는 등 예외처리 가능
-                        resultList.get(i).setName(translatedText.replace(SEPARATOR, " - "));
-                    }
-                }
+            RecommendedStoreDto translated = new RecommendedStoreDto(
+                    original.getName(), original.getAddress(), original.getCategory(), original.getName(), original.getPlaceUrl());
+            if (parts.length == 2) {
+                // 분리된 결과를 각각 name과 category에 설정
+                translated.setName(parts[0].trim());
+                translated.setCategory(parts[1].trim());
             } else {
-                log.warn("가게 정보 번역에 실패했거나 결과 개수가 일치하지 않습니다. 원본 데이터를 반환합니다.");
+                log.warn("번역 결과 분리 실패: '{}'. 원본 카테고리를 유지합니다.", translatedText);
+                translated.setName(translatedText.replace(SEPARATOR, " - "));
             }
+            translatedStores.add(translated);
         }
-
-        // 4. Set을 List로 변환하고, 4개만 잘라서 반환
-        return recommendedStores.stream()
-                .limit(RECOMMENDATION_COUNT)
-                .collect(Collectors.toList());
+        return translatedStores;
     }
 }
@@ -0,0 +1,123 @@
+package com.koo.bonscore.common.api.kakao.surround.cache;
+
+/**
+ * <pre>
+ * GeoHash.java
+ * 설명 : 위경도 좌표를 geohash 격자(타일)로 변환하는 유틸리티
+ *        같은 타일에 속한 좌표는 같은 geohash 문자열을 가지며, 타일 중심 좌표로 스냅할 수 있다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // 정밀도(1~12)별 타일 대각선 절반 길이(m, 적도 기준) = 타일 중심으로 스냅했을 때의 최대 오차
+    private static final double[] HALF_DIAGONAL_METERS = {
+            0, 3_535_000, 700_000, 110_000, 21_800, 3_460, 682, 108, 21.3, 3.4, 0.67, 0.11, 0.02
+    };
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표를 지정한 정밀도의 geohash 문자열로 변환
+     * @param latitude  위도
+     * @param longitude 경도
+     * @param precision geohash 길이 (1~12)
+     * @return geohash 문자열
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * geohash 타일의 중심 좌표를 반환
+     * @param geohash geohash 문자열
+     * @return [0] = 위도, [1] = 경도
+     */
+    public static double[] decodeCenter(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            int value = indexOf(geohash.charAt(i));
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean set = (value & mask) != 0;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (set) minLon = mid; else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (set) minLat = mid; else maxLat = mid;
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{(minLat + maxLat) / 2, (minLon + maxLon) / 2};
+    }
+
+    /**
+     * 타일 중심으로 스냅했을 때의 오차가 maxErrorMeters 이하가 되는 가장 거친(짧은) 정밀도를 반환
+     * @param maxErrorMeters 허용 오차(m)
+     * @param minPrecision   최소 정밀도
+     * @param maxPrecision   최대 정밀도
+     * @return geohash 정밀도
+     */
+    public static int precisionFor(double maxErrorMeters, int minPrecision, int maxPrecision) {
+        for (int precision = minPrecision; precision < maxPrecision; precision++) {
+            if (HALF_DIAGONAL_METERS[precision] <= maxErrorMeters) {
+                return precision;
+            }
+        }
+        return maxPrecision;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("유효하지 않은 geohash 문자입니다: " + c);
+    }
+}
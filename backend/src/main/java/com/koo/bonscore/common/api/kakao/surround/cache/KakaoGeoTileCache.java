@@ -0,0 +1,96 @@
+package com.koo.bonscore.common.api.kakao.surround.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiFunction;
+
+/**
+ * <pre>
+ * KakaoGeoTileCache.java
+ * 설명 : 카카오 주변 검색(카테고리/키워드 + 반경) 결과를 geohash 타일 단위로 캐싱하는 컴포넌트
+ *
+ * 요청 좌표를 검색 반경에 맞는 geohash 타일로 스냅하여 (검색 종류, 카테고리/키워드, 타일, 반경)을 키로 사용한다.
+ * 같은 타일 안의 요청은 타일 중심 좌표로 한 번만 카카오를 호출하고 결과를 공유한다.
+ * 캐시 적중/미스 통계는 Micrometer(cache.gets 등, cache=kakao.geoTile)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class KakaoGeoTileCache {
+
+    private final KakaoGeoTileCacheProperties properties;
+    private final Cache<TileKey, KakaoMapResponse> cache;
+
+    public KakaoGeoTileCache(KakaoGeoTileCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kakao.geoTile");
+    }
+
+    /**
+     * 타일 캐시에서 주변 검색 결과를 조회하고, 없으면 타일 중심 좌표로 loader를 호출하여 적재
+     * loader가 null을 반환하거나 예외를 던지면 캐싱하지 않는다.
+     * @param searchType 검색 종류 (category / keyword)
+     * @param term       카테고리 코드 또는 키워드
+     * @param longitude  요청 경도
+     * @param latitude   요청 위도
+     * @param radius     검색 반경(m)
+     * @param loader     (스냅된 경도, 스냅된 위도) -> 카카오 검색 결과
+     * @return 카카오 검색 결과
+     */
+    public KakaoMapResponse get(String searchType, String term, String longitude, String latitude, int radius,
+                                BiFunction<String, String, KakaoMapResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(longitude, latitude);
+        }
+
+        double lon;
+        double lat;
+        try {
+            lon = Double.parseDouble(longitude);
+            lat = Double.parseDouble(latitude);
+        } catch (NumberFormatException | NullPointerException e) {
+            // 좌표 형식이 올바르지 않으면 캐시 없이 원본 좌표로 호출
+            return loader.apply(longitude, latitude);
+        }
+
+        int precision = GeoHash.precisionFor(radius * properties.getMaxSnapErrorRatio(),
+                properties.getMinPrecision(), properties.getMaxPrecision());
+        String geohash = GeoHash.encode(lat, lon, precision);
+        TileKey key = new TileKey(searchType, term, geohash, radius);
+
+        return cache.get(key, k -> {
+            double[] center = GeoHash.decodeCenter(k.geohash());
+            log.debug("카카오 geo-tile 캐시 미스: {}", k);
+            return loader.apply(String.valueOf(center[1]), String.valueOf(center[0]));
+        });
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 타일 캐시 키 (검색 종류, 카테고리/키워드, geohash 타일, 반경)
+     */
+    record TileKey(String searchType, String term, String geohash, int radius) {
+    }
+}
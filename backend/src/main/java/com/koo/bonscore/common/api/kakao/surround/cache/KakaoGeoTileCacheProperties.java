@@ -0,0 +1,31 @@
+package com.koo.bonscore.common.api.kakao.surround.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * KakaoGeoTileCacheProperties.java
+ * 설명 : 카카오 주변 검색 geo-tile 캐시 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.kakao.geo-cache")
+@Getter
+@Setter
+public class KakaoGeoTileCacheProperties {
+    private boolean enabled = true;
+    private Duration ttl = Duration.ofHours(6);     // 캐시 유지 시간
+    private long maxSize = 20_000;                  // 최대 캐시 항목 수
+    private double maxSnapErrorRatio = 0.35;        // 검색 반경 대비 허용 스냅 오차 비율 (반경 500m -> 약 175m 이내)
+    private int minPrecision = 5;                   // geohash 최소 정밀도 (약 4.9km 타일)
+    private int maxPrecision = 8;                   // geohash 최대 정밀도 (약 38m 타일)
+}
@@ -2,13 +2,20 @@ package com.koo.bonscore.common.api.kakao.surround.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
+/**
+ * 주변 상권 데이터 dto
+ * 각 카운트가 null 이면 해당 카테고리 조회에 실패한 것(알 수 없음)을 의미한다.
+ * 가게 피처 저장소(Redis)에 JSON으로 저장되므로 빌더로 역직렬화한다.
+ */
 @Getter
 @Builder
+@Jacksonized
 public class SurroundingDataDto {
-    private int hotPlaceCount;      // 핫플레이스 개수 (맛집, 카페, 영화관 등)
-    private int competitorCount;    // 경쟁 가게 개수
-    private int subwayStationCount; // 지하철역 개수
-    private int universityCount;    // 대학교 개수
-    private int officeBuildingCount; // 오피스 빌딩 개수
+    private Integer hotPlaceCount;      // 핫플레이스 개수 (맛집, 카페, 영화관 등)
+    private Integer competitorCount;    // 경쟁 가게 개수
+    private Integer subwayStationCount; // 지하철역 개수
+    private Integer universityCount;    // 대학교 개수
+    private Integer officeBuildingCount; // 오피스 빌딩 개수
 }
@@ -1,6 +1,12 @@
 package com.koo.bonscore.common.api.kakao.surround.service;
 
+import com.koo.bonscore.common.api.kakao.geocode.service.KakaoGeocodeService;
+import com.koo.bonscore.common.api.kakao.surround.cache.KakaoGeoTileCache;
 import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.common.api.support.SingleFlight;
 import com.koo.bonscore.core.exception.custom.BsCoreException;
 import com.koo.bonscore.core.exception.enumType.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +24,11 @@ import org.springframework.web.client.RestTemplate;
 public class KakaoMapService {
 
     private final RestTemplate restTemplate;
+    private final KakaoGeoTileCache geoTileCache;
+    private final KakaoGeocodeService geocodeService;
+    private final SingleFlight singleFlight;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
 
     @Value("${api.kakao.key}")
     private String kakaoApiKey;
@@ -26,42 +37,26 @@ public class KakaoMapService {
     private static final String KAKAO_KEYWORD_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
 
 
-    public KakaoMapResponse.Document searchAndGetFirst(String query) {
-        // 기존 searchByKeyword(String, int) 대신 새로운 메서드를 호출합니다.
-        KakaoMapResponse response = searchByKeyword(query);
-        if (response != null && !response.getDocuments().isEmpty()) {
-            return response.getDocuments().get(0);
-        }
-        return null;
-    }
-
     /**
-     * 키워드로 장소 검색 (RestTemplate이 직접 인코딩하도록 변경)
+     * 가게명(키워드)으로 첫 번째 장소를 조회
+     * 공용 geocode 서비스(캐시 적용)를 통해 조회한다.
      */
-    public KakaoMapResponse searchByKeyword(String query) {
-        log.info("카카오 키워드 검색 요청: query='{}'", query);
-
-        // 요청 헤더 준비
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        // URL 템플릿 정의
-        String urlTemplate = KAKAO_KEYWORD_SEARCH_URL + "?query={query}&size=1";
-
-        try {
-            // RestTemplate.exchange에 URL 템플릿과 파라미터(query)를 직접 전달
-            return restTemplate.exchange(urlTemplate, HttpMethod.GET, entity, KakaoMapResponse.class, query).getBody();
-        } catch (Exception e) {
-            log.error("Kakao API 요청 실패: {}", e.getMessage());
-            throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
-        }
+    public KakaoMapResponse.Document searchAndGetFirst(String query) {
+        return geocodeService.findPlace(query).orElse(null);
     }
 
     /**
      * 특정 좌표 주변의 키워드별 장소 검색 (RestTemplate 인코딩 방식 적용)
+     * 좌표는 geo-tile 캐시에 의해 타일 중심으로 스냅되며, 같은 타일의 결과는 공유된다.
+     * 캐시 미스 시 같은 조건의 동시 호출은 한 번의 카카오 호출로 병합된다.
      */
     public KakaoMapResponse searchByKeyword(String keyword, String longitude, String latitude, int radius) {
+        return geoTileCache.get("keyword", keyword, longitude, latitude, radius,
+                (x, y) -> singleFlight.execute("kakao.keyword", SingleFlight.key(keyword, x, y, radius),
+                        () -> fetchByKeyword(keyword, x, y, radius)));
+    }
+
+    private KakaoMapResponse fetchByKeyword(String keyword, String longitude, String latitude, int radius) {
         log.info("카카오 주변 키워드 검색 요청: keyword='{}', lon={}, lat={}, radius={}", keyword, longitude, latitude, radius);
 
         HttpHeaders headers = new HttpHeaders();
@@ -71,15 +66,40 @@ public class KakaoMapService {
         String urlTemplate = KAKAO_KEYWORD_SEARCH_URL + "?query={keyword}&x={x}&y={y}&radius={radius}&size=15";
 
         try {
-            return restTemplate.exchange(urlTemplate, HttpMethod.GET, entity, KakaoMapResponse.class, keyword, longitude, latitude, radius).getBody();
+            return apiResilience.execute("kakao", () -> {
+                quotaGovernor.acquire(ApiProvider.KAKAO, "local");
+                return restTemplate.exchange(urlTemplate, HttpMethod.GET, entity, KakaoMapResponse.class, keyword, longitude, latitude, radius).getBody();
+            });
+        } catch (BsCoreException e) {
+            // 호출 한도 초과, 서킷 오픈 등은 그대로 전달하여 호출부에서 구분할 수 있도록 함
+            throw e;
         } catch (Exception e) {
             log.error("Kakao API 요청 실패: {}", e.getMessage());
             throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
         }
     }
 
-    // 카테고리 검색도 동일하게 수정해주면 좋습니다.
+    /**
+     * 특정 좌표 주변의 카테고리별 장소 검색
+     * 좌표는 geo-tile 캐시에 의해 타일 중심으로 스냅되며, 같은 타일의 결과는 공유된다.
+     * 캐시 미스 시 같은 조건의 동시 호출은 한 번의 카카오 호출로 병합된다.
+     */
     public KakaoMapResponse searchByCategory(String categoryCode, String longitude, String latitude, int radius) {
+        return geoTileCache.get("category", categoryCode, longitude, latitude, radius,
+                (x, y) -> singleFlight.execute("kakao.category", SingleFlight.key(categoryCode, x, y, radius),
+                        () -> fetchByCategory(categoryCode, x, y, radius)));
+    }
+
+    /**
+     * 특정 좌표 주변의 카테고리별 장소 검색 (geo-tile 캐시를 사용하지 않음)
+     * 추천 가게 수집처럼 다시 조회하지 않을 랜덤 좌표 검색용.
+     * 캐시에 적재하면 사용자가 실제로 조회한 타일이 밀려나므로 캐시를 거치지 않고 바로 호출한다.
+     */
+    public KakaoMapResponse searchByCategoryUncached(String categoryCode, String longitude, String latitude, int radius) {
+        return fetchByCategory(categoryCode, longitude, latitude, radius);
+    }
+
+    private KakaoMapResponse fetchByCategory(String categoryCode, String longitude, String latitude, int radius) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "KakaoAK " + kakaoApiKey);
         HttpEntity<String> entity = new HttpEntity<>(headers);
@@ -87,7 +107,12 @@ public class KakaoMapService {
         String urlTemplate = KAKAO_CATEGORY_SEARCH_URL + "?category_group_code={category_group_code}&x={x}&y={y}&radius={radius}&size=15";
 
         try {
-            return restTemplate.exchange(urlTemplate, HttpMethod.GET, entity, KakaoMapResponse.class, categoryCode, longitude, latitude, radius).getBody();
+            return apiResilience.execute("kakao", () -> {
+                quotaGovernor.acquire(ApiProvider.KAKAO, "local");
+                return restTemplate.exchange(urlTemplate, HttpMethod.GET, entity, KakaoMapResponse.class, categoryCode, longitude, latitude, radius).getBody();
+            });
+        } catch (BsCoreException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Kakao API 요청 실패: {}", e.getMessage());
             throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
@@ -0,0 +1,249 @@
+package com.koo.bonscore.common.api.kma.holiday.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * HolidayCalendarService.java
+ * 설명 : 연도별 공휴일 달력 서비스
+ *
+ * 공공데이터포털 특일 정보 API에서 연도 단위로 공휴일을 받아 메모리에 연도별 BitSet(1월 1일 기준 일차)으로 보관한다.
+ * - 애플리케이션 기동 시, 그리고 매일 새벽 스케줄러로 올해/내년 달력을 갱신
+ * - 마지막으로 정상 수신한 달력은 Redis에 저장하여, API 장애 시에도 이전 달력으로 동작
+ * - 공휴일이 하나도 없는 응답은 일시적인 오류 응답일 수 있으므로, 이전 달력(메모리 또는 Redis)이 있으면 덮어쓰지 않음
+ * - 날짜 조회는 네트워크 호출 없이 O(1)
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Service
+public class HolidayCalendarService {
+
+    private static final String REDIS_KEY_PREFIX = "holiday:calendar:";
+    private static final DateTimeFormatter LOCDATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 달력 적재에 실패한 연도는 이 시간 동안 재시도하지 않음 (요청마다 API를 호출하지 않도록)
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(10);
+
+    @Value("${api.kma.key}")
+    private String serviceKey;
+
+    @Value("${api.kma.holiday.url}")
+    private String apiUrl;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+
+    // 연도 -> 공휴일 일차(dayOfYear) 집합
+    private final Map<Integer, BitSet> calendars = new ConcurrentHashMap<>();
+    // 연도 -> 마지막 적재 실패 시각
+    private final Map<Integer, Instant> lastFailures = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HolidayCalendarService(RestTemplate restTemplate, ObjectMapper objectMapper, StringRedisTemplate redisTemplate) {
+        this(restTemplate, objectMapper, redisTemplate, Clock.systemDefaultZone());
+    }
+
+    HolidayCalendarService(RestTemplate restTemplate, ObjectMapper objectMapper, StringRedisTemplate redisTemplate, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * 특정 날짜가 공휴일인지 확인
+     * 해당 연도 달력이 아직 없으면 한 번 적재를 시도하고, 실패하면 공휴일이 아닌 것으로 처리한다.
+     * @param date 확인할 날짜
+     * @return 공휴일 여부
+     */
+    public boolean isHoliday(LocalDate date) {
+        BitSet calendar = calendars.get(date.getYear());
+        if (calendar == null && canRetry(date.getYear())) {
+            calendar = loadYear(date.getYear());
+        }
+        return calendar != null && calendar.get(date.getDayOfYear());
+    }
+
+    /**
+     * 연도의 공휴일 목록
+     * @param year 연도
+     * @return 공휴일 날짜 목록 (달력이 없으면 빈 목록)
+     */
+    public List<LocalDate> getHolidays(int year) {
+        List<LocalDate> holidays = new ArrayList<>();
+        BitSet calendar = calendars.get(year);
+        if (calendar != null) {
+            calendar.stream().forEach(dayOfYear -> holidays.add(LocalDate.ofYearDay(year, dayOfYear)));
+        }
+        return holidays;
+    }
+
+    /**
+     * 기동 시 올해/내년 달력 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 매일 새벽 3시 30분에 올해/내년 달력 갱신 (임시공휴일 지정 반영)
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void refresh() {
+        int thisYear = LocalDate.now(clock).getYear();
+        loadYear(thisYear);
+        loadYear(thisYear + 1);
+    }
+
+    /**
+     * 연도 달력을 API에서 받아 적재하고 Redis에 저장
+     * API 호출이 실패하면 Redis에 저장된 마지막 달력을 사용한다.
+     * 공휴일이 없는 응답을 받았는데 이전 달력이 있으면 이전 달력을 유지한다.
+     * @param year 연도
+     * @return 적재된 달력 (API, Redis 모두 실패하면 null)
+     */
+    private BitSet loadYear(int year) {
+        try {
+            List<LocalDate> holidays = fetchHolidays(year);
+            if (holidays.isEmpty()) {
+                BitSet previous = previousCalendar(year);
+                if (previous != null) {
+                    log.warn("[HOLIDAY] {}년 공휴일 API 응답에 공휴일이 없어 이전 달력을 유지합니다: {}일", year, previous.cardinality());
+                    calendars.put(year, previous);
+                    lastFailures.remove(year);
+                    return previous;
+                }
+            }
+            BitSet calendar = toBitSet(holidays);
+            calendars.put(year, calendar);
+            lastFailures.remove(year);
+            saveLastGood(year, holidays);
+            log.info("[HOLIDAY] {}년 공휴일 달력 갱신 완료: {}일", year, holidays.size());
+            return calendar;
+        } catch (Exception e) {
+            log.warn("[HOLIDAY] {}년 공휴일 API 조회 실패 - 저장된 달력을 사용합니다: {}", year, e.getMessage());
+        }
+
+        BitSet lastGood = loadLastGood(year);
+        if (lastGood != null) {
+            calendars.put(year, lastGood);
+        } else {
+            lastFailures.put(year, Instant.now(clock));
+        }
+        return lastGood;
+    }
+
+    /**
+     * 메모리 또는 Redis에 있는 공휴일이 하나 이상인 이전 달력 (없으면 null)
+     */
+    private BitSet previousCalendar(int year) {
+        BitSet current = calendars.get(year);
+        if (current != null && !current.isEmpty()) {
+            return current;
+        }
+        BitSet lastGood = loadLastGood(year);
+        return (lastGood != null && !lastGood.isEmpty()) ? lastGood : null;
+    }
+
+    private boolean canRetry(int year) {
+        Instant lastFailure = lastFailures.get(year);
+        return lastFailure == null || lastFailure.plus(RETRY_BACKOFF).isBefore(Instant.now(clock));
+    }
+
+    /**
+     * 공휴일 API에서 연도 전체 공휴일 조회
+     */
+    private List<LocalDate> fetchHolidays(int year) throws Exception {
+        String encodedServiceKey = URLEncoder.encode(URLDecoder.decode(serviceKey, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(apiUrl + "/getHoliDeInfo")
+                .queryParam("serviceKey", encodedServiceKey)
+                .queryParam("solYear", year)
+                .queryParam("numOfRows", 100);
+
+        String responseBody = restTemplate.getForObject(builder.toUriString(), String.class);
+
+        JsonNode root = objectMapper.readTree(responseBody);
+        JsonNode body = root.path("response").path("body");
+        String resultCode = root.path("response").path("header").path("resultCode").asText("00");
+        if (body.isMissingNode() || !"00".equals(resultCode)) {
+            throw new IllegalStateException("공휴일 API 응답이 올바르지 않습니다. resultCode=" + resultCode);
+        }
+
+        List<LocalDate> holidays = new ArrayList<>();
+        JsonNode itemsNode = body.path("items").path("item");
+        if (itemsNode.isArray()) {
+            for (JsonNode item : itemsNode) {
+                holidays.add(LocalDate.parse(String.valueOf(item.path("locdate").asLong()), LOCDATE_FORMAT));
+            }
+        } else if (!itemsNode.isMissingNode()) {
+            holidays.add(LocalDate.parse(String.valueOf(itemsNode.path("locdate").asLong()), LOCDATE_FORMAT));
+        }
+        return holidays;
+    }
+
+    private void saveLastGood(int year, List<LocalDate> holidays) {
+        try {
+            String value = String.join(",", holidays.stream().map(date -> date.format(LOCDATE_FORMAT)).toList());
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + year, value);
+        } catch (Exception e) {
+            log.warn("[HOLIDAY] {}년 공휴일 달력 Redis 저장 실패: {}", year, e.getMessage());
+        }
+    }
+
+    private BitSet loadLastGood(int year) {
+        try {
+            String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + year);
+            if (value == null) {
+                return null;
+            }
+            List<LocalDate> holidays = new ArrayList<>();
+            for (String token : value.split(",")) {
+                if (!token.isBlank()) {
+                    holidays.add(LocalDate.parse(token, LOCDATE_FORMAT));
+                }
+            }
+            return toBitSet(holidays);
+        } catch (Exception e) {
+            log.warn("[HOLIDAY] {}년 공휴일 달력 Redis 조회 실패: {}", year, e.getMessage());
+            return null;
+        }
+    }
+
+    private static BitSet toBitSet(List<LocalDate> holidays) {
+        BitSet calendar = new BitSet(367);
+        holidays.forEach(date -> calendar.set(date.getDayOfYear()));
+        return calendar;
+    }
+}
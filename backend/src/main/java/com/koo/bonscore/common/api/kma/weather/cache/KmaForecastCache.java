@@ -0,0 +1,122 @@
+package com.koo.bonscore.common.api.kma.weather.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.koo.bonscore.common.api.kma.weather.forecast.KmaForecast;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * KmaForecastCache.java
+ * 설명 : 기상청 단기예보 응답을 (격자 nx, ny, base_date, base_time) 단위로 캐싱하는 컴포넌트
+ *        응답 원문/DTO 대신 필요한 값만 담은 KmaForecast(기본형 배열)를 저장한다.
+ *
+ * 단기예보는 3시간 간격(02:10, 05:10, ... 23:10)으로 발표되므로,
+ * 각 항목은 다음 발표 시각(base_time + 3시간 10분)에 맞춰 만료된다.
+ * 같은 격자/발표시각에 대한 동시 요청은 하나의 기상청 호출 결과를 함께 기다린다.
+ * 호출부(날씨 섹션, 선조회 작업자)가 이미 작업 스레드이므로 기상청 호출은 호출한 스레드에서 수행한다.
+ * (다른 스레드 풀에 넘기고 기다리면 풀이 가득 찼을 때 작업자끼리 서로를 기다리게 됨)
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class KmaForecastCache {
+
+    private static final DateTimeFormatter BASE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BASE_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    // 발표 시각(base_time) 이후 다음 발표까지의 간격 (3시간 + 발표 지연 10분)
+    private static final Duration NEXT_PUBLICATION_OFFSET = Duration.ofHours(3).plusMinutes(10);
+    private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+    private final Cache<ForecastKey, KmaForecast> cache;
+
+    public KmaForecastCache(@Value("${api.kma.forecast-cache.max-size:5000}") long maxSize,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new NextPublicationExpiry(Clock.systemDefaultZone()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "kma.forecast");
+    }
+
+    /**
+     * 캐시된 예보를 반환하고, 없으면 loader로 기상청을 호출하여 적재
+     * loader는 호출한 스레드에서 실행되며, 같은 키에 대한 동시 요청은 하나의 loader 호출을 공유한다.
+     * 호출이 실패하면 캐싱하지 않고 loader의 예외를 그대로 전달한다.
+     * @param key    격자 및 발표시각 키
+     * @param loader 기상청 단기예보 API 호출
+     * @return 기상청 단기예보 응답
+     */
+    public KmaForecast get(ForecastKey key, Supplier<KmaForecast> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 예보가 캐시에 있는지 여부 (적재 중인 항목은 포함하지 않으며, 적재 완료를 기다리지 않음)
+     */
+    public boolean contains(ForecastKey key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    /**
+     * 격자 좌표와 발표시각으로 구성된 캐시 키
+     */
+    public record ForecastKey(int nx, int ny, String baseDate, String baseTime) {
+
+        /**
+         * 이 발표분이 다음 발표분으로 대체되는 시각
+         */
+        LocalDateTime nextPublication() {
+            LocalDate date = LocalDate.parse(baseDate, BASE_DATE_FORMAT);
+            LocalTime time = LocalTime.parse(baseTime, BASE_TIME_FORMAT);
+            return LocalDateTime.of(date, time).plus(NEXT_PUBLICATION_OFFSET);
+        }
+    }
+
+    /**
+     * 항목별 만료 시간을 다음 발표 시각까지로 설정하는 Expiry (이미 지났으면 최소 1분)
+     */
+    static class NextPublicationExpiry implements Expiry<ForecastKey, KmaForecast> {
+
+        private final Clock clock;
+
+        NextPublicationExpiry(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(ForecastKey key, KmaForecast value, long currentTime) {
+            Duration ttl = Duration.between(LocalDateTime.now(clock), key.nextPublication());
+            return (ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ForecastKey key, KmaForecast value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ForecastKey key, KmaForecast value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
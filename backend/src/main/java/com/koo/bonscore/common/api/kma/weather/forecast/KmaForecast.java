@@ -0,0 +1,152 @@
+package com.koo.bonscore.common.api.kma.weather.forecast;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ * KmaForecast.java
+ * 설명 : 기상청 단기예보 응답 중 날씨 응답에 필요한 값(기온 TMP, 하늘상태 SKY, 강수형태 PTY)만 담은 압축 구조
+ *
+ * 예보 시각(fcstDate, fcstTime의 시)마다 하나의 슬롯을 두고, 값은 기본형 배열에 저장한다.
+ * (발표분 1개당 최대 약 70개 슬롯, 항목 객체를 만들지 않으므로 격자별 캐시에 오래 보관해도 메모리 부담이 적음)
+ * - 기온은 0.1도 단위 정수로 저장 (예: "12" -> 120, "-3.5" -> -35)
+ * - 값이 없거나 숫자가 아니면 MISSING
+ * KmaForecastParser가 생성하며, 생성 후에는 변경되지 않는다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class KmaForecast {
+
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private final int[] slots;               // 예보 시각 키 (yyyyMMdd * 100 + 시)
+    private final int[] temperatureTenths;   // 기온 (0.1도 단위)
+    private final int[] sky;                 // 하늘상태 코드
+    private final int[] precipitation;       // 강수형태 코드
+
+    private KmaForecast(int[] slots, int[] temperatureTenths, int[] sky, int[] precipitation) {
+        this.slots = slots;
+        this.temperatureTenths = temperatureTenths;
+        this.sky = sky;
+        this.precipitation = precipitation;
+    }
+
+    /**
+     * 예보 시각 슬롯 수
+     */
+    public int size() {
+        return slots.length;
+    }
+
+    /**
+     * 지정 시각의 슬롯, 없으면 그 이후 가장 가까운 예보 시각의 슬롯
+     * @param date yyyyMMdd
+     * @param hour 시 (0 ~ 23)
+     * @return 슬롯 인덱스 (지정 시각 이후 예보가 없으면 -1)
+     */
+    public int indexAtOrAfter(int date, int hour) {
+        int target = slotKey(date, hour);
+        int found = -1;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] >= target && (found < 0 || slots[i] < slots[found])) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 기온 (기상청 표기와 같은 형식, 예: "12", "-3.5"), 값이 없으면 null
+     */
+    public String temperature(int index) {
+        int tenths = temperatureTenths[index];
+        if (tenths == MISSING) {
+            return null;
+        }
+        if (tenths % 10 == 0) {
+            return Integer.toString(tenths / 10);
+        }
+        return (tenths < 0 ? "-" : "") + Math.abs(tenths / 10) + "." + Math.abs(tenths % 10);
+    }
+
+    /**
+     * 하늘상태 코드 (1: 맑음, 3: 구름많음, 4: 흐림), 값이 없으면 null
+     */
+    public String sky(int index) {
+        return code(sky[index]);
+    }
+
+    /**
+     * 강수형태 코드 (0: 없음, 1: 비, 2: 비/눈, 3: 눈, 4: 소나기), 값이 없으면 null
+     */
+    public String precipitation(int index) {
+        return code(precipitation[index]);
+    }
+
+    private static String code(int value) {
+        return value == MISSING ? null : Integer.toString(value);
+    }
+
+    static int slotKey(int date, int hour) {
+        return date * 100 + hour;
+    }
+
+    /**
+     * 파싱 중 슬롯을 채우는 빌더 (같은 예보 시각의 값은 같은 슬롯에 모음)
+     */
+    static final class Builder {
+        private int[] slots = new int[32];
+        private int[] temperatureTenths = new int[32];
+        private int[] sky = new int[32];
+        private int[] precipitation = new int[32];
+        private int size;
+
+        void temperature(int date, int hour, int tenths) {
+            int index = slot(date, hour); // 슬롯 추가 시 배열이 교체되므로 먼저 계산
+            temperatureTenths[index] = tenths;
+        }
+
+        void sky(int date, int hour, int code) {
+            int index = slot(date, hour);
+            sky[index] = code;
+        }
+
+        void precipitation(int date, int hour, int code) {
+            int index = slot(date, hour);
+            precipitation[index] = code;
+        }
+
+        KmaForecast build() {
+            return new KmaForecast(Arrays.copyOf(slots, size), Arrays.copyOf(temperatureTenths, size),
+                    Arrays.copyOf(sky, size), Arrays.copyOf(precipitation, size));
+        }
+
+        /**
+         * 예보 시각의 슬롯 인덱스 (없으면 추가)
+         * 응답은 예보 시각 순으로 정렬되어 있으므로 마지막 슬롯부터 찾는다.
+         */
+        private int slot(int date, int hour) {
+            int key = slotKey(date, hour);
+            for (int i = size - 1; i >= 0; i--) {
+                if (slots[i] == key) {
+                    return i;
+                }
+            }
+            if (size == slots.length) {
+                int capacity = size * 2;
+                slots = Arrays.copyOf(slots, capacity);
+                temperatureTenths = Arrays.copyOf(temperatureTenths, capacity);
+                sky = Arrays.copyOf(sky, capacity);
+                precipitation = Arrays.copyOf(precipitation, capacity);
+            }
+            slots[size] = key;
+            temperatureTenths[size] = MISSING;
+            sky[size] = MISSING;
+            precipitation[size] = MISSING;
+            return size++;
+        }
+    }
+}
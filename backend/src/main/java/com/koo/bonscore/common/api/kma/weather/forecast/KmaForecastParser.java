@@ -0,0 +1,262 @@
+package com.koo.bonscore.common.api.kma.weather.forecast;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <pre>
+ * KmaForecastParser.java
+ * 설명 : 기상청 단기예보(getVilageFcst) JSON 응답 스트리밍 파서
+ *
+ * 응답 전체를 DTO(KmaApiDto) 항목 객체로 바인딩하지 않고 Jackson 토큰 스트림을 순회하며
+ * response.body.items.item[] 중 TMP, SKY, PTY 항목의 값만 KmaForecast(기본형 배열)에 담는다.
+ * - 그 외 카테고리 항목과 필드는 객체를 만들지 않고 건너뜀 (필드명은 Jackson 심볼 테이블의 공유 문자열, 값은 문자 버퍼에서 직접 비교/파싱)
+ * - 항목 내 필드 순서와 무관하게 동작 (예보값은 항목이 끝날 때 카테고리에 따라 해석)
+ * - item 배열이 없으면(NO_DATA, 인증 오류 등) header의 resultCode/resultMsg를 담아 IllegalStateException 발생
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class KmaForecastParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final int CATEGORY_OTHER = 0;
+    private static final int CATEGORY_TMP = 1;
+    private static final int CATEGORY_SKY = 2;
+    private static final int CATEGORY_PTY = 3;
+
+    private KmaForecastParser() {
+    }
+
+    /**
+     * 기상청 단기예보 응답 파싱
+     * @param in 응답 본문 (UTF-8 JSON)
+     * @return 기온/하늘상태/강수형태 예보
+     * @throws IOException           JSON이 아닌 응답(XML 오류 응답 등)이거나 읽기 실패
+     * @throws IllegalStateException 응답에 예보 항목(item 배열)이 없음
+     */
+    public static KmaForecast parse(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            State state = new State();
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("기상청 API 응답이 JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "response".equals(name)) {
+                    parseResponse(parser, state);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (!state.hasItems) {
+                throw new IllegalStateException("기상청 API 응답이 올바르지 않습니다. resultCode="
+                        + state.resultCode + ", resultMsg=" + state.resultMsg);
+            }
+            return state.forecast.build();
+        }
+    }
+
+    // response { header { resultCode, resultMsg }, body { items { item [] } } }
+    private static void parseResponse(JsonParser parser, State state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && "header".equals(name)) {
+                parseHeader(parser, state);
+            } else if (token == JsonToken.START_OBJECT && "body".equals(name)) {
+                parseBody(parser, state);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void parseHeader(JsonParser parser, State state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("resultCode".equals(name)) {
+                state.resultCode = parser.getValueAsString();
+            } else if ("resultMsg".equals(name)) {
+                state.resultMsg = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void parseBody(JsonParser parser, State state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            // 결과가 없으면 items가 빈 문자열("")로 오는 경우가 있음
+            if (parser.nextToken() == JsonToken.START_OBJECT && "items".equals(name)) {
+                parseItems(parser, state);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void parseItems(JsonParser parser, State state) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "item".equals(name)) {
+                state.hasItems = true;
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        parseItem(parser, state);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // item { baseDate, baseTime, category, fcstDate, fcstTime, fcstValue, nx, ny }
+    private static void parseItem(JsonParser parser, State state) throws IOException {
+        int category = CATEGORY_OTHER;
+        int fcstDate = KmaForecast.MISSING;
+        int fcstTime = KmaForecast.MISSING;
+        state.valueLength = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "category" -> category = category(parser, token);
+                case "fcstDate" -> fcstDate = integer(parser, token);
+                case "fcstTime" -> fcstTime = integer(parser, token);
+                case "fcstValue" -> state.copyValue(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (category == CATEGORY_OTHER || fcstDate == KmaForecast.MISSING || fcstTime == KmaForecast.MISSING) {
+            return;
+        }
+        int hour = fcstTime / 100;
+        switch (category) {
+            case CATEGORY_TMP -> state.forecast.temperature(fcstDate, hour, tenths(state.value, state.valueLength));
+            case CATEGORY_SKY -> state.forecast.sky(fcstDate, hour, integer(state.value, 0, state.valueLength));
+            case CATEGORY_PTY -> state.forecast.precipitation(fcstDate, hour, integer(state.value, 0, state.valueLength));
+            default -> { }
+        }
+    }
+
+    private static int category(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.VALUE_STRING || parser.getTextLength() != 3) {
+            return CATEGORY_OTHER;
+        }
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (matches(text, offset, 'T', 'M', 'P')) {
+            return CATEGORY_TMP;
+        }
+        if (matches(text, offset, 'S', 'K', 'Y')) {
+            return CATEGORY_SKY;
+        }
+        if (matches(text, offset, 'P', 'T', 'Y')) {
+            return CATEGORY_PTY;
+        }
+        return CATEGORY_OTHER;
+    }
+
+    private static boolean matches(char[] text, int offset, char c0, char c1, char c2) {
+        return text[offset] == c0 && text[offset + 1] == c1 && text[offset + 2] == c2;
+    }
+
+    // 문자열("20261017") 또는 숫자(20261017) 값을 정수로
+    private static int integer(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return integer(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return KmaForecast.MISSING;
+    }
+
+    // 부호 없는/음수 정수 문자열 파싱 (숫자가 아니면 MISSING)
+    private static int integer(char[] text, int offset, int length) {
+        if (length <= 0) {
+            return KmaForecast.MISSING;
+        }
+        boolean negative = text[offset] == '-';
+        int start = negative ? offset + 1 : offset;
+        int end = offset + length;
+        if (start == end || end - start > 9) {
+            return KmaForecast.MISSING;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text[i];
+            if (c < '0' || c > '9') {
+                return KmaForecast.MISSING;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    // 기온 문자열("12", "-3.5")을 0.1도 단위 정수로 (소수 둘째 자리 이하는 버림)
+    private static int tenths(char[] text, int length) {
+        int dot = -1;
+        for (int i = 0; i < length; i++) {
+            if (text[i] == '.') {
+                dot = i;
+                break;
+            }
+        }
+        if (dot < 0) {
+            int whole = integer(text, 0, length);
+            return whole == KmaForecast.MISSING ? KmaForecast.MISSING : whole * 10;
+        }
+        int whole = dot == 1 && text[0] == '-' ? 0 : integer(text, 0, dot);
+        if (whole == KmaForecast.MISSING || dot + 1 >= length || text[dot + 1] < '0' || text[dot + 1] > '9') {
+            return KmaForecast.MISSING;
+        }
+        int fraction = text[dot + 1] - '0';
+        boolean negative = text[0] == '-';
+        return negative ? whole * 10 - fraction : whole * 10 + fraction;
+    }
+
+    /**
+     * 파싱 상태 (예보값은 항목이 끝날 때 해석하므로 재사용 버퍼에 복사해 둠)
+     */
+    private static final class State {
+        private final KmaForecast.Builder forecast = new KmaForecast.Builder();
+        private final char[] value = new char[32];
+        private int valueLength = -1;
+        private boolean hasItems;
+        private String resultCode;
+        private String resultMsg;
+
+        void copyValue(JsonParser parser, JsonToken token) throws IOException {
+            if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+                parser.skipChildren();
+                valueLength = -1;
+                return;
+            }
+            int length = parser.getTextLength();
+            if (length > value.length) {
+                valueLength = -1; // 기상청 예보값은 짧은 문자열이므로 긴 값은 무시
+                return;
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), value, 0, length);
+            valueLength = length;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.koo.bonscore.common.api.kma.weather.prefetch;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * ForecastPrefetchProperties.java
+ * 설명 : 기상청 단기예보 선조회(prefetch) 설정
+ *        인기 격자(nx, ny)의 예보를 발표 직후 미리 조회하여 캐시에 적재한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.kma.prefetch")
+@Getter
+@Setter
+public class ForecastPrefetchProperties {
+    private boolean enabled = true;                             // 선조회 사용 여부 (false면 인기 격자 집계만 수행)
+    private String cron = "0 15 2,5,8,11,14,17,20,23 * * *";    // 선조회 시각 (발표 시각 base_time + 15분, Asia/Seoul)
+    private int topN = 200;                                     // 선조회 1회당 최대 격자 수 (인기순)
+    private int concurrency = 4;                                // 동시 기상청 호출 수 (apiTaskExecutor core-pool-size의 절반 이하)
+    private int dailyCallBudget = 2000;                         // 하루 최대 기상청 호출 수 (선조회 전용)
+    private Duration halfLife = Duration.ofHours(6);            // 인기도 반감기 (요청이 없으면 이 시간마다 점수가 절반으로 감소)
+    private double minScore = 0.5;                              // 선조회 대상 최소 인기도 (요청 1회 = 1점)
+    private int maxTrackedCells = 5000;                         // 인기도를 집계할 최대 격자 수 (초과 시 점수 낮은 격자부터 제거)
+}
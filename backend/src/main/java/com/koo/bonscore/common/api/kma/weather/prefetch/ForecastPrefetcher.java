@@ -0,0 +1,172 @@
+package com.koo.bonscore.common.api.kma.weather.prefetch;
+
+import com.koo.bonscore.common.api.kma.weather.prefetch.GridPopularity.GridCell;
+import com.koo.bonscore.common.api.kma.weather.service.WeatherService;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * ForecastPrefetcher.java
+ * 설명 : 인기 격자 기상청 단기예보 선조회(prefetch) 스케줄러
+ *
+ * 단기예보 발표 직후(기본 base_time + 15분) 인기도 상위 격자(top-n)의 새 발표분을 미리 조회하여 KmaForecastCache에 적재한다.
+ * 발표 직후 첫 사용자 요청이 기상청 응답을 기다리지 않고 캐시에서 응답받도록 하기 위함이다.
+ * - 동시 호출 수(concurrency)만큼의 작업자가 apiTaskExecutor에서 격자 목록을 나누어 조회
+ * - 이미 캐시에 있는 격자는 호출하지 않으며, 하루 호출 예산(daily-call-budget)을 넘지 않음
+ * - 호출 한도 초과/서킷 오픈(BsCoreException) 시 이번 선조회를 중단하여 사용자 요청에 한도를 남김
+ * 결과는 Micrometer(kma.forecast.prefetch, result=fetched/cached/failed/skipped)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class ForecastPrefetcher {
+
+    private final WeatherService weatherService;
+    private final GridPopularity gridPopularity;
+    private final ForecastPrefetchProperties properties;
+    private final Executor apiTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 하루 호출 예산 집계 (스케줄러 스레드에서만 접근)
+    private LocalDate budgetDate = LocalDate.now();
+    private int callsToday = 0;
+
+    public ForecastPrefetcher(WeatherService weatherService, GridPopularity gridPopularity,
+                              ForecastPrefetchProperties properties,
+                              @Qualifier("apiTaskExecutor") Executor apiTaskExecutor, MeterRegistry meterRegistry) {
+        this.weatherService = weatherService;
+        this.gridPopularity = gridPopularity;
+        this.properties = properties;
+        this.apiTaskExecutor = apiTaskExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 단기예보 발표 직후 인기 격자 선조회
+     */
+    @Scheduled(cron = "#{@forecastPrefetchProperties.cron}", zone = "Asia/Seoul")
+    public void prefetch() {
+        gridPopularity.prune();
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<GridCell> cells = gridPopularity.top(properties.getTopN());
+        int budget = remainingBudget();
+        if (cells.isEmpty() || budget == 0) {
+            log.debug("[KMA] 예보 선조회 건너뜀: 대상 격자 {}개, 남은 호출 예산 {}회", cells.size(), budget);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Result result = prefetch(cells, budget);
+        callsToday += result.calls();
+
+        log.info("[KMA] 예보 선조회 완료: 대상 {}개, 적재 {}개, 캐시 적중 {}개, 실패 {}개, 건너뜀 {}개 ({}ms), 오늘 호출 {}/{}회",
+                cells.size(), result.fetched(), result.cached(), result.failed(), result.skipped(),
+                (System.nanoTime() - startedAt) / 1_000_000, callsToday, properties.getDailyCallBudget());
+    }
+
+    /**
+     * 격자 목록을 concurrency개 작업자가 나누어 선조회
+     * @param cells  인기순 격자 목록
+     * @param budget 이번 선조회에서 사용할 수 있는 최대 호출 수
+     */
+    Result prefetch(List<GridCell> cells, int budget) {
+        Queue<GridCell> queue = new ConcurrentLinkedQueue<>(cells);
+        AtomicInteger remaining = new AtomicInteger(budget);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+        AtomicInteger fetched = new AtomicInteger();
+        AtomicInteger cached = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        Runnable worker = () -> {
+            // 호출 예산을 먼저 1회 차감하고, 캐시에 있어 호출하지 않았으면 되돌림
+            while (!stopped.get() && remaining.getAndDecrement() > 0) {
+                GridCell cell = queue.poll();
+                if (cell == null) {
+                    remaining.incrementAndGet();
+                    break;
+                }
+                try {
+                    if (weatherService.prefetchForecast(cell.nx(), cell.ny())) {
+                        fetched.incrementAndGet();
+                        count("fetched");
+                    } else {
+                        remaining.incrementAndGet();
+                        cached.incrementAndGet();
+                        count("cached");
+                    }
+                } catch (BsCoreException e) {
+                    // 호출 한도 초과 또는 서킷 오픈: 남은 격자는 사용자 요청 시 조회
+                    stopped.set(true);
+                    failed.incrementAndGet();
+                    count("failed");
+                    log.warn("[KMA] 예보 선조회 중단: {}", e.getMessage());
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    count("failed");
+                    log.debug("[KMA] 격자 예보 선조회 실패: nx={}, ny={}, reason={}", cell.nx(), cell.ny(), e.getMessage());
+                }
+            }
+        };
+
+        int workers = Math.max(1, Math.min(properties.getConcurrency(), cells.size()));
+        CompletableFuture<?>[] running = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            running[i] = CompletableFuture.runAsync(worker, apiTaskExecutor);
+        }
+        CompletableFuture.allOf(running).join();
+
+        int skipped = queue.size();
+        if (skipped > 0) {
+            meterRegistry.counter("kma.forecast.prefetch", "result", "skipped").increment(skipped);
+        }
+        return new Result(budget - Math.max(0, remaining.get()), fetched.get(), cached.get(), failed.get(), skipped);
+    }
+
+    /**
+     * 오늘 남은 선조회 호출 예산
+     */
+    private int remainingBudget() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(budgetDate)) {
+            budgetDate = today;
+            callsToday = 0;
+        }
+        return Math.max(0, properties.getDailyCallBudget() - callsToday);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("kma.forecast.prefetch", "result", result).increment();
+    }
+
+    /**
+     * 선조회 결과
+     * @param calls   사용한 호출 예산 (적재 + 호출 실패)
+     * @param fetched 새로 적재한 격자 수
+     * @param cached  이미 캐시에 있던 격자 수
+     * @param failed  실패 격자 수
+     * @param skipped 예산 소진/중단으로 조회하지 않은 격자 수
+     */
+    record Result(int calls, int fetched, int cached, int failed, int skipped) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.koo.bonscore.common.api.kma.weather.prefetch;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * GridPopularity.java
+ * 설명 : 기상청 격자(nx, ny)별 조회 인기도 집계
+ *
+ * 요청 1회마다 1점을 더하고, 점수는 반감기(half-life)마다 절반으로 감소한다. (지수 감쇠 카운터)
+ * 격자마다 마지막 갱신 시각의 점수만 저장하고, 조회 시점의 점수는 경과 시간으로 계산하므로 주기적인 감쇠 작업이 필요 없다.
+ * 집계 격자 수가 max-tracked-cells의 2배를 넘으면 점수가 낮은 격자부터 정리한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+public class GridPopularity {
+
+    private final ForecastPrefetchProperties properties;
+    private final Clock clock;
+    private final Map<GridCell, Score> scores = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GridPopularity(ForecastPrefetchProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    GridPopularity(ForecastPrefetchProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 격자 조회 1회 기록
+     */
+    public void record(int nx, int ny) {
+        long now = clock.millis();
+        long halfLifeMillis = halfLifeMillis();
+        scores.merge(new GridCell(nx, ny), new Score(1.0, now),
+                (previous, one) -> new Score(previous.valueAt(now, halfLifeMillis) + 1.0, now));
+
+        if (scores.size() > properties.getMaxTrackedCells() * 2L) {
+            prune();
+        }
+    }
+
+    /**
+     * 현재 인기도 상위 격자 목록 (min-score 미만 격자 제외)
+     * @param limit 최대 격자 수
+     * @return 인기도 내림차순 격자 목록
+     */
+    public List<GridCell> top(int limit) {
+        long now = clock.millis();
+        long halfLifeMillis = halfLifeMillis();
+        return scores.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().valueAt(now, halfLifeMillis)))
+                .filter(entry -> entry.getValue() >= properties.getMinScore())
+                .sorted(Map.Entry.<GridCell, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 현재 인기도 (집계되지 않은 격자는 0)
+     */
+    public double scoreOf(int nx, int ny) {
+        Score score = scores.get(new GridCell(nx, ny));
+        return score == null ? 0 : score.valueAt(clock.millis(), halfLifeMillis());
+    }
+
+    /**
+     * min-score 미만 격자를 제거하고, 그래도 max-tracked-cells를 넘으면 점수가 낮은 격자부터 제거
+     */
+    public void prune() {
+        long now = clock.millis();
+        long halfLifeMillis = halfLifeMillis();
+        scores.entrySet().removeIf(entry -> entry.getValue().valueAt(now, halfLifeMillis) < properties.getMinScore());
+
+        int overflow = scores.size() - properties.getMaxTrackedCells();
+        if (overflow > 0) {
+            scores.entrySet().stream()
+                    .sorted(Comparator.comparingDouble(entry -> entry.getValue().valueAt(now, halfLifeMillis)))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(scores::remove);
+        }
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    private long halfLifeMillis() {
+        return Math.max(1, properties.getHalfLife().toMillis());
+    }
+
+    /**
+     * 기상청 격자 좌표
+     */
+    public record GridCell(int nx, int ny) {
+    }
+
+    /**
+     * 마지막 갱신 시각의 점수
+     */
+    private record Score(double value, long updatedAt) {
+
+        /**
+         * 지정 시각의 감쇠된 점수
+         */
+        double valueAt(long now, long halfLifeMillis) {
+            long elapsed = Math.max(0, now - updatedAt);
+            return value * Math.pow(0.5, (double) elapsed / halfLifeMillis);
+        }
+    }
+}
@@ -1,19 +1,28 @@
 package com.koo.bonscore.common.api.kma.weather.service;
 
 
+import com.koo.bonscore.common.api.kakao.geocode.service.KakaoGeocodeService;
+import com.koo.bonscore.common.api.kma.weather.cache.KmaForecastCache;
 import com.koo.bonscore.common.api.kma.weather.config.GpsTransfer;
 import com.koo.bonscore.common.api.kma.weather.dto.KakaoApiDto;
-import com.koo.bonscore.common.api.kma.weather.dto.KmaApiDto;
 import com.koo.bonscore.common.api.kma.weather.dto.WeatherResponseDto;
-import lombok.RequiredArgsConstructor;
+import com.koo.bonscore.common.api.kma.weather.forecast.KmaForecast;
+import com.koo.bonscore.common.api.kma.weather.forecast.KmaForecastParser;
+import com.koo.bonscore.common.api.kma.weather.prefetch.GridPopularity;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.common.api.support.SingleFlight;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
@@ -22,22 +31,44 @@ import java.util.Map;
 import java.util.Objects;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WeatherService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient webClient;
+    private final KmaForecastCache forecastCache;
+    private final KakaoGeocodeService geocodeService;
+    private final SingleFlight singleFlight;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
+    private final GridPopularity gridPopularity;
 
     @Value("${api.kma.key}")
     private String kmaServiceKey;
     @Value("${api.kma.url}")
     private String kmaBaseUrl;
-    @Value("${api.kakao.key}")
-    private String kakaoRestApiKey;
-    @Value("${api.kakao.url}")
-    private String kakaoBaseUrl;
 
+    // WebClient는 공용 커넥션 설정(WebClientConfig)으로 한 번만 생성하여 재사용
+    public WeatherService(WebClient.Builder webClientBuilder, KmaForecastCache forecastCache,
+                          KakaoGeocodeService geocodeService, SingleFlight singleFlight,
+                          ApiQuotaGovernor quotaGovernor, ApiResilience apiResilience, GridPopularity gridPopularity) {
+        this.webClient = webClientBuilder.build();
+        this.forecastCache = forecastCache;
+        this.geocodeService = geocodeService;
+        this.singleFlight = singleFlight;
+        this.quotaGovernor = quotaGovernor;
+        this.apiResilience = apiResilience;
+        this.gridPopularity = gridPopularity;
+    }
+
+    /**
+     * 주소 기준 현재 날씨 조회
+     * 같은 주소에 대한 동시 요청은 좌표 변환부터 예보 조회까지 한 번만 수행하고 결과를 공유한다.
+     */
     public WeatherResponseDto getTodayWeather(String address) {
+        return singleFlight.execute("kma.weather", SingleFlight.key(address), () -> fetchTodayWeather(address));
+    }
+
+    private WeatherResponseDto fetchTodayWeather(String address) {
         // 1. 주소 -> 위경도 변환
         KakaoApiDto.Document coordinate = getCoordinate(address);
         double lat = Double.parseDouble(coordinate.getY());
@@ -47,38 +78,44 @@ public class WeatherService {
         GpsTransfer gpsTransfer = new GpsTransfer(lat, lon);
         int nx = gpsTransfer.getNx();
         int ny = gpsTransfer.getNy();
+        gridPopularity.record(nx, ny); // 인기 격자 선조회(ForecastPrefetcher) 대상 집계
 
-        // 3. 기상청 단기예보 API 호출
-        KmaApiDto kmaApiResponse = callKmaApi(nx, ny);
+        // 3. 기상청 단기예보 조회 (격자/발표시각 단위 캐시, 미스 시 API 호출)
+        KmaForecastCache.ForecastKey forecastKey = currentForecastKey(nx, ny);
+        KmaForecast forecast = forecastCache.get(forecastKey, () -> callKmaApi(forecastKey));
 
-        // 4. API 응답에서 필요한 데이터만 파싱하여 DTO로 변환
-        return parseKmaResponse(kmaApiResponse);
+        // 4. 현재 시각의 예보를 DTO로 변환
+        return toWeatherResponse(forecast);
     }
 
-    // 1. 주소를 좌표로 변환 (카카오 API)
-    private KakaoApiDto.Document getCoordinate(String address) {
-        WebClient webClient = webClientBuilder.baseUrl(kakaoBaseUrl).build();
+    /**
+     * 격자의 현재 발표분 예보를 미리 조회하여 캐시에 적재 (인기 격자 선조회용)
+     * @return 기상청을 호출했으면 true, 이미 캐시에 있으면 false
+     */
+    public boolean prefetchForecast(int nx, int ny) {
+        KmaForecastCache.ForecastKey forecastKey = currentForecastKey(nx, ny);
+        if (forecastCache.contains(forecastKey)) {
+            return false;
+        }
+        forecastCache.get(forecastKey, () -> callKmaApi(forecastKey));
+        return true;
+    }
 
-        KakaoApiDto response = webClient.get()
-                .uri(uriBuilder -> uriBuilder.queryParam("query", address).build())
-                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoRestApiKey)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(KakaoApiDto.class)
-                .block(); // 동기 방식
+    // 현재 시각 기준 발표분의 캐시 키
+    private KmaForecastCache.ForecastKey currentForecastKey(int nx, int ny) {
+        Map<String, String> baseDateTime = getBaseDateTime();
+        return new KmaForecastCache.ForecastKey(nx, ny, baseDateTime.get("baseDate"), baseDateTime.get("baseTime"));
+    }
 
-        return Objects.requireNonNull(response).getDocuments().stream().findFirst()
+    // 1. 주소를 좌표로 변환 (공용 geocode 서비스, 캐시 적용)
+    private KakaoApiDto.Document getCoordinate(String address) {
+        return geocodeService.findCoordinate(address)
                 .orElseThrow(() -> new IllegalArgumentException("주소에 해당하는 좌표를 찾을 수 없습니다: " + address));
     }
 
-    // 3. 기상청 API 호출
-    private KmaApiDto callKmaApi(int nx, int ny) {
-        WebClient webClient = webClientBuilder.baseUrl(kmaBaseUrl).build();
-
-        // 오늘 날짜와 현재 시간 기준으로 base_date, base_time 계산
-        Map<String, String> baseDateTime = getBaseDateTime();
-        String baseDate = baseDateTime.get("baseDate");
-        String baseTime = baseDateTime.get("baseTime");
+    // 3. 기상청 API 호출 (응답은 DTO 바인딩 없이 필요한 값만 스트리밍 파싱, 올바르지 않은 응답은 캐싱하지 않음)
+    private KmaForecast callKmaApi(KmaForecastCache.ForecastKey forecastKey) {
+        log.info("기상청 단기예보 API 호출: {}", forecastKey);
 
         // numOfRows를 넉넉하게 설정하여 현재 시간대의 모든 카테고리 데이터를 한번에 가져옴
         String uri = UriComponentsBuilder.fromHttpUrl(kmaBaseUrl)
@@ -86,47 +123,50 @@ public class WeatherService {
                 .queryParam("pageNo", 1)
                 .queryParam("numOfRows", 1000) // 충분한 개수
                 .queryParam("dataType", "JSON")
-                .queryParam("base_date", baseDate)
-                .queryParam("base_time", baseTime)
-                .queryParam("nx", nx)
-                .queryParam("ny", ny)
+                .queryParam("base_date", forecastKey.baseDate())
+                .queryParam("base_time", forecastKey.baseTime())
+                .queryParam("nx", forecastKey.nx())
+                .queryParam("ny", forecastKey.ny())
                 .build(true)
                 .toUriString();
 
-        return webClient.get()
-                .uri(uri)
-                .accept(MediaType.APPLICATION_JSON)
-                .retrieve()
-                .bodyToMono(KmaApiDto.class)
-                .block();
-    }
-
-    // 4. 기상청 응답 파싱
-    private WeatherResponseDto parseKmaResponse(KmaApiDto kmaApiResponse) {
-        if (kmaApiResponse == null || kmaApiResponse.getResponse() == null ||
-                kmaApiResponse.getResponse().getBody() == null || kmaApiResponse.getResponse().getBody().getItems() == null) {
+        DataBuffer body = apiResilience.execute("kma", () -> {
+            quotaGovernor.acquire(ApiProvider.KMA, "forecast");
+            return webClient.get()
+                    .uri(uri)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .bodyToMono(DataBuffer.class)
+                    .block();
+        });
+        if (body == null) {
             throw new RuntimeException("기상청 API 응답이 올바르지 않습니다.");
         }
 
-        Map<String, String> weatherData = new HashMap<>();
-
-        // 현재 시간과 가장 가까운 예보 시간을 찾기 위함
-        String now = LocalTime.now().format(DateTimeFormatter.ofPattern("HH00"));
+        try (InputStream in = body.asInputStream(true)) {
+            return KmaForecastParser.parse(in);
+        } catch (IOException e) {
+            throw new RuntimeException("기상청 API 응답이 올바르지 않습니다.", e);
+        }
+    }
 
-        for (KmaApiDto.Item item : kmaApiResponse.getResponse().getBody().getItems().getItem()) {
-            if (item.getFcstTime().equals(now)) {
-                weatherData.put(item.getCategory(), item.getFcstValue());
-            }
+    // 4. 현재 시각의 예보 추출 (오늘 현재 시각, 없으면 그 이후 가장 가까운 예보 시각)
+    private WeatherResponseDto toWeatherResponse(KmaForecast forecast) {
+        LocalDateTime now = LocalDateTime.now();
+        int today = Integer.parseInt(now.format(DateTimeFormatter.BASIC_ISO_DATE));
+        int index = forecast.indexAtOrAfter(today, now.getHour());
+        if (index < 0) {
+            throw new RuntimeException("기상청 API 응답에 현재 시각의 예보가 없습니다.");
         }
 
         return WeatherResponseDto.builder()
-                .temperature(weatherData.getOrDefault("TMP", "N/A"))
-                .sky(mapSkyStatus(weatherData.getOrDefault("SKY", "N/A")))
-                .precipitation(mapPrecipitationStatus(weatherData.getOrDefault("PTY", "N/A")))
+                .temperature(Objects.requireNonNullElse(forecast.temperature(index), "N/A"))
+                .sky(mapSkyStatus(Objects.requireNonNullElse(forecast.sky(index), "N/A")))
+                .precipitation(mapPrecipitationStatus(Objects.requireNonNullElse(forecast.precipitation(index), "N/A")))
                 .build();
     }
 
-    // 기상청 API는 특정 시간에만 데이터를 제공하므로, 현재 시간에 맞는 base_date, base_time을 계산해야 함
+    // 기상청 API는 특정 시간에만 데이터를 제공하므로, 현재 시간에 맞는 base_date, base_time을 계산해야 함 (오늘 날짜와 현재 시간 기준)
     private Map<String, String> getBaseDateTime() {
         Map<String, String> result = new HashMap<>();
         LocalDateTime now = LocalDateTime.now();
@@ -3,6 +3,10 @@ package com.koo.bonscore.common.api.naver;
 import com.koo.bonscore.common.api.naver.config.NaverProperties;
 import com.koo.bonscore.common.api.naver.dto.NaverApiResponseDto;
 import com.koo.bonscore.common.api.naver.dto.blog.NaverBlogSearchResponseDto;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.common.api.support.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.RequestEntity;
@@ -21,8 +25,25 @@ public class NaverApiClient {
 
     private final RestTemplate restTemplate;
     private final NaverProperties naverProperties;
+    private final SingleFlight singleFlight;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
 
+    /**
+     * 지역 검색 (같은 검색어의 동시 호출은 한 번의 네이버 호출로 병합)
+     */
     public NaverApiResponseDto searchLocal(String query) {
+        return singleFlight.execute("naver.local", SingleFlight.key(query), () -> fetchLocal(query));
+    }
+
+    /**
+     * 블로그 검색 (같은 검색어의 동시 호출은 한 번의 네이버 호출로 병합)
+     */
+    public NaverBlogSearchResponseDto searchBlog(String query) {
+        return singleFlight.execute("naver.blog", SingleFlight.key(query), () -> fetchBlog(query));
+    }
+
+    private NaverApiResponseDto fetchLocal(String query) {
         log.info("Naver API - 지역 검색 호출: query={}", query);
 
         URI uri = UriComponentsBuilder
@@ -42,7 +63,11 @@ public class NaverApiClient {
                 .header("X-Naver-Client-Secret", naverProperties.getSecret())
                 .build();
 
-        ResponseEntity<NaverApiResponseDto> result = restTemplate.exchange(req, NaverApiResponseDto.class);
+        ResponseEntity<NaverApiResponseDto> result = apiResilience.execute("naver-local", () -> {
+            // 지역/블로그 검색은 같은 검색 API 한도를 공유
+            quotaGovernor.acquire(ApiProvider.NAVER, "search");
+            return restTemplate.exchange(req, NaverApiResponseDto.class);
+        });
 
         if (!result.getStatusCode().is2xxSuccessful()) {
             log.error("Naver API 호출 실패. Status: {}, Body: {}", result.getStatusCode(), result.getBody());
@@ -50,11 +75,11 @@ public class NaverApiClient {
             return new NaverApiResponseDto(); // 혹은 커스텀 예외 발생
         }
 
-        log.info("Naver API 응답: {}", result.getBody());
+        log.debug("Naver API 응답: {}", result.getBody());
         return result.getBody();
     }
 
-    public NaverBlogSearchResponseDto searchBlog(String query) {
+    private NaverBlogSearchResponseDto fetchBlog(String query) {
         log.info("Naver API - 블로그 검색 호출: query={}", query);
 
         URI uri = UriComponentsBuilder
@@ -73,14 +98,17 @@ public class NaverApiClient {
                 .build();
 
         // <-- 변경점 2: 반환 DTO 클래스 변경
-        ResponseEntity<NaverBlogSearchResponseDto> result = restTemplate.exchange(req, NaverBlogSearchResponseDto.class);
+        ResponseEntity<NaverBlogSearchResponseDto> result = apiResilience.execute("naver-blog", () -> {
+            quotaGovernor.acquire(ApiProvider.NAVER, "search");
+            return restTemplate.exchange(req, NaverBlogSearchResponseDto.class);
+        });
 
         if (!result.getStatusCode().is2xxSuccessful()) {
             log.error("Naver API 블로그 검색 호출 실패. Status: {}, Body: {}", result.getStatusCode(), result.getBody());
             return new NaverBlogSearchResponseDto(); // 실패 시 빈 객체 반환
         }
 
-        log.info("Naver API 블로그 검색 응답: {}", result.getBody());
+        log.debug("Naver API 블로그 검색 응답: {}", result.getBody());
         return result.getBody();
     }
 }
@@ -1,18 +1,46 @@
 package com.koo.bonscore.common.api.naver;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.koo.bonscore.common.api.emulation.ApiEmulator;
+import com.koo.bonscore.common.api.naver.config.NaverDataLabProperties;
+import com.koo.bonscore.common.api.naver.dto.datalab.Data;
 import com.koo.bonscore.common.api.naver.dto.datalab.DataLabRequestDto;
 import com.koo.bonscore.common.api.naver.dto.datalab.DataLabResponseDto;
 import com.koo.bonscore.common.api.naver.dto.datalab.KeywordGroup;
+import com.koo.bonscore.common.api.naver.dto.datalab.Result;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.common.api.support.MicroBatcher;
+import com.koo.bonscore.common.api.support.SingleFlight;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,60 +50,211 @@ public class NaverDataLabService {
     private final String clientId;
     private final String clientSecret;
     private static final String API_URL = "https://openapi.naver.com/v1/datalab/search";
+    // 데이터랩 API 한 번의 요청에 담을 수 있는 최대 키워드 그룹 수
+    private static final int MAX_KEYWORD_GROUPS = 5;
+
+    // 검색 트렌드 캐시 (월 단위 트렌드는 하루에 한 번만 바뀜)
+    private final AsyncCache<TrendKey, DataLabResponseDto> trendCache;
+    // 캐시 미스를 모아 한 번의 데이터랩 호출로 조회
+    private final MicroBatcher<TrendKey, DataLabResponseDto> batcher;
+    private final SingleFlight singleFlight;
+    private final ApiQuotaGovernor quotaGovernor;
+    private final ApiResilience apiResilience;
+    private final Duration callTimeout;
 
     // application.yml에 등록한 값을 주입받음
-    public NaverDataLabService(@Value("${api.naver.client.id}") String clientId,
-                               @Value("${api.naver.client.secret}") String clientSecret) {
+    public NaverDataLabService(WebClient.Builder webClientBuilder,
+                               @Value("${api.naver.client.id}") String clientId,
+                               @Value("${api.naver.client.secret}") String clientSecret,
+                               NaverDataLabProperties properties,
+                               MeterRegistry meterRegistry,
+                               SingleFlight singleFlight,
+                               ApiQuotaGovernor quotaGovernor,
+                               ApiResilience apiResilience,
+                               @Qualifier("apiTaskExecutor") Executor apiTaskExecutor) {
+        this.singleFlight = singleFlight;
+        this.quotaGovernor = quotaGovernor;
+        this.apiResilience = apiResilience;
+        this.callTimeout = properties.getCallTimeout();
         this.clientId = clientId;
         this.clientSecret = clientSecret;
-        this.webClient = WebClient.builder()
+        this.webClient = webClientBuilder
                 .baseUrl(API_URL)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("X-Naver-Client-Id", clientId)
                 .defaultHeader("X-Naver-Client-Secret", clientSecret)
                 .build();
+        this.trendCache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofDays(1))
+                .recordStats()
+                .buildAsync();
+        this.batcher = new MicroBatcher<>("naver.datalab", Math.min(properties.getMaxBatchSize(), MAX_KEYWORD_GROUPS),
+                properties.getMaxBatchWait(), apiTaskExecutor, this::fetchTrends);
+        CaffeineCacheMetrics.monitor(meterRegistry, trendCache.synchronous(), "naver.datalab");
     }
 
     /**
      * 특정 키워드의 최근 3개월간 검색량 트렌드를 조회하는 메서드
+     * 하루 단위로 캐싱하며, 캐시 미스는 동시에 들어온 다른 미스와 모아 한 번의 데이터랩 호출(최대 5개 그룹)로 조회한다.
+     * 일괄 조회 결과는 call-timeout까지만 기다린다. (공유하는 캐시 항목은 취소하지 않고, 이 호출의 대기만 중단)
      * @param query 분석할 키워드 (가게 이름 등)
      * @return DataLabResponseDto API 응답 결과
      */
     public DataLabResponseDto getSearchTrend(String query) {
         log.info("네이버 데이터랩 검색 트렌드 조회 시작: query=[{}]", query);
 
+        TrendKey key = new TrendKey(query, LocalDate.now());
+        // 같은 키워드의 동시 요청은 하나의 캐시 조회/일괄 조회 결과를 공유
+        return await("naver.datalab", query, () -> trendCache.get(key, (k, executor) -> batcher.submit(k)));
+    }
+
+    /**
+     * 캐시 값과 관계없이 검색 트렌드를 다시 조회하여 캐시에 저장 (인기 가게 refresh-ahead용)
+     * @param query 분석할 키워드 (가게 이름 등)
+     * @return DataLabResponseDto API 응답 결과
+     */
+    public DataLabResponseDto refreshSearchTrend(String query) {
+        log.info("네이버 데이터랩 검색 트렌드 다시 조회: query=[{}]", query);
+
+        TrendKey key = new TrendKey(query, LocalDate.now());
+        // 다시 조회에 실패하면 기존 캐시 값을 유지
+        return await("naver.datalab.refresh", query, () -> batcher.submit(key).thenApply(trend -> {
+            if (trend != null) {
+                trendCache.put(key, CompletableFuture.completedFuture(trend));
+            }
+            return trend;
+        }));
+    }
+
+    /**
+     * 검색 트렌드 조회 결과를 call-timeout까지 기다림
+     * @param group  동시 요청 병합 그룹
+     * @param query  분석할 키워드
+     * @param lookup 캐시 조회 또는 일괄 조회 요청
+     */
+    private DataLabResponseDto await(String group, String query, Supplier<CompletableFuture<DataLabResponseDto>> lookup) {
+        try {
+            DataLabResponseDto response = singleFlight.execute(group, SingleFlight.key(query),
+                    () -> lookup.get().copy()
+                            .orTimeout(callTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                            .join());
+            log.info("네이버 데이터랩 검색 트렌드 조회 성공");
+            return response;
+        } catch (Exception e) {
+            if (ApiResilience.isUnavailable(e)) {
+                // 서킷 오픈/동시 호출 수 초과는 호출부에서 "unavailable"로 처리할 수 있도록 그대로 전달
+                throw new BsCoreException(ErrorCode.API_UNAVAILABLE);
+            }
+            log.error("네이버 데이터랩 API 호출 중 오류 발생", e);
+            // 실제 서비스에서는 커스텀 예외를 던지는 것이 좋습니다.
+            throw new RuntimeException("데이터랩 API 호출에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 여러 키워드의 트렌드를 한 번의 데이터랩 호출로 조회 (MicroBatcher의 batchLoader)
+     * 조회 기준일이 다른 키가 섞여 있으면 기준일별로 나누어 호출한다.
+     */
+    private CompletableFuture<Map<TrendKey, DataLabResponseDto>> fetchTrends(List<TrendKey> keys) {
+        Map<LocalDate, List<TrendKey>> keysByDate = keys.stream()
+                .collect(Collectors.groupingBy(TrendKey::endDate, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<Map<TrendKey, DataLabResponseDto>>> calls = keysByDate.entrySet().stream()
+                .map(entry -> fetchTrends(entry.getKey(), entry.getValue()))
+                .toList();
+
+        return CompletableFuture.allOf(calls.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<TrendKey, DataLabResponseDto> merged = new HashMap<>();
+                    calls.forEach(call -> merged.putAll(call.join()));
+                    return merged;
+                });
+    }
+
+    private CompletableFuture<Map<TrendKey, DataLabResponseDto>> fetchTrends(LocalDate endDate, List<TrendKey> keys) {
         // 최근 3개월 날짜 설정
-        LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusMonths(3);
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-        // API 요청 본문(Body) 생성
-        KeywordGroup keywordGroup = KeywordGroup.builder()
-                .groupName(query)
-                .keywords(Collections.singletonList(query))
-                .build();
+        // API 요청 본문(Body) 생성 - 키워드마다 하나의 그룹
+        List<KeywordGroup> keywordGroups = keys.stream()
+                .map(key -> KeywordGroup.builder()
+                        .groupName(key.query())
+                        .keywords(Collections.singletonList(key.query()))
+                        .build())
+                .toList();
 
         DataLabRequestDto requestDto = DataLabRequestDto.builder()
                 .startDate(startDate.format(formatter))
                 .endDate(endDate.format(formatter))
                 .timeUnit("month") // "date", "week", "month" 중 선택
-                .keywordGroups(Collections.singletonList(keywordGroup))
+                .keywordGroups(keywordGroups)
                 .build();
 
-        // WebClient를 이용한 비동기 API 호출
-        try {
-            DataLabResponseDto response = webClient.post()
-                    .bodyValue(requestDto) // 요청 DTO를 body에 담음
-                    .retrieve() // 응답을 받기 시작
-                    .bodyToMono(DataLabResponseDto.class) // 응답 body를 DTO로 변환
-                    .block(); // 동기식으로 결과를 기다림
+        log.info("네이버 데이터랩 API 호출: 키워드 그룹 {}개", keywordGroups.size());
 
-            log.info("네이버 데이터랩 검색 트렌드 조회 성공");
-            return response;
-        } catch (Exception e) {
-            log.error("네이버 데이터랩 API 호출 중 오류 발생", e);
-            // 실제 서비스에서는 커스텀 예외를 던지는 것이 좋습니다.
-            throw new RuntimeException("데이터랩 API 호출에 실패했습니다.");
+        // WebClient를 이용한 비동기 API 호출 (스레드를 점유하지 않음)
+        return apiResilience.executeAsync("naver-datalab", () -> {
+                    // 일괄 조회 1회가 데이터랩 호출 1회 (키워드 수와 무관)
+                    quotaGovernor.acquire(ApiProvider.NAVER, "datalab");
+                    return webClient.post()
+                            // 응답 녹화/재생 시 요청 구분 키 (조회 키워드, 부하 테스트용)
+                            .attribute(ApiEmulator.BODY_KEY_ATTRIBUTE, keys.stream().map(TrendKey::query).collect(Collectors.joining(",")))
+                            .bodyValue(requestDto) // 요청 DTO를 body에 담음
+                            .retrieve() // 응답을 받기 시작
+                            .bodyToMono(DataLabResponseDto.class) // 응답 body를 DTO로 변환
+                            .toFuture();
+                })
+                .thenApply(response -> splitResponse(response, keys));
+    }
+
+    /**
+     * 여러 그룹이 담긴 응답을 키워드별 단일 그룹 응답으로 분리
+     * 데이터랩의 ratio는 요청에 포함된 전체 그룹 중 최댓값을 100으로 한 상대값이므로,
+     * 그룹별로 자신의 최댓값을 100으로 다시 환산하여 단독으로 조회한 것과 같은 값을 만든다.
+     */
+    private static Map<TrendKey, DataLabResponseDto> splitResponse(DataLabResponseDto response, List<TrendKey> keys) {
+        Map<TrendKey, DataLabResponseDto> split = new HashMap<>();
+        if (response == null || response.getResults() == null) {
+            return split;
+        }
+
+        Map<String, TrendKey> keyByQuery = keys.stream()
+                .collect(Collectors.toMap(TrendKey::query, Function.identity(), (a, b) -> a));
+        for (Result result : response.getResults()) {
+            TrendKey key = keyByQuery.get(result.getTitle());
+            if (key != null) {
+                split.put(key, new DataLabResponseDto(response.getStartDate(), response.getEndDate(), response.getTimeUnit(),
+                        Collections.singletonList(rescale(result))));
+            }
+        }
+        return split;
+    }
+
+    private static Result rescale(Result result) {
+        if (result.getData() == null || result.getData().isEmpty()) {
+            return result;
         }
+        double max = result.getData().stream()
+                .map(Data::getRatio)
+                .filter(Objects::nonNull)
+                .mapToDouble(Double::doubleValue)
+                .max()
+                .orElse(0);
+        if (max <= 0) {
+            return result;
+        }
+
+        List<Data> rescaled = result.getData().stream()
+                .map(data -> new Data(data.getPeriod(), data.getRatio() == null ? null : data.getRatio() * 100 / max))
+                .toList();
+        return new Result(result.getTitle(), result.getKeywords(), rescaled);
+    }
+
+    /**
+     * 트렌드 캐시 키 (키워드, 조회 기준일)
+     */
+    record TrendKey(String query, LocalDate endDate) {
     }
 }
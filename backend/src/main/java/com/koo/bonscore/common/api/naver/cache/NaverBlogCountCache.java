@@ -0,0 +1,116 @@
+package com.koo.bonscore.common.api.naver.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.koo.bonscore.common.api.naver.NaverApiClient;
+import com.koo.bonscore.common.api.naver.config.NaverBlogCacheProperties;
+import com.koo.bonscore.common.api.naver.dto.blog.NaverBlogSearchResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+/**
+ * <pre>
+ * NaverBlogCountCache.java
+ * 설명 : 가게별 네이버 블로그 리뷰 수 캐시
+ *
+ * 블로그 리뷰 수는 하루 단위로 천천히 변하므로 (주소 + 가게명) 검색어 단위로 캐싱한다.
+ * - refresh-after가 지난 항목은 기존 값을 즉시 반환하고 apiTaskExecutor에서 백그라운드로 갱신 (stale-while-revalidate)
+ * - 같은 키의 동시 갱신/최초 조회는 한 번의 네이버 호출로 합쳐짐
+ * - 백그라운드 갱신이 실패하면 기존 값을 유지
+ * - refreshBlogCount는 캐시 값과 관계없이 다시 조회한 값을 기다려 반환 (인기 가게 refresh-ahead용)
+ * 기존 값이 얼마나 오래되었는지는 ageOf로 확인한다. (가게 피처 저장소에 남은 유효 시간만큼만 저장하기 위함)
+ * 캐시 통계는 Micrometer(cache=naver.blogCount)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class NaverBlogCountCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final LoadingCache<String, Integer> cache;
+
+    @Autowired
+    public NaverBlogCountCache(NaverApiClient naverApiClient,
+                               NaverBlogCacheProperties properties,
+                               MeterRegistry meterRegistry,
+                               @Qualifier("apiTaskExecutor") Executor apiTaskExecutor) {
+        this(naverApiClient, properties, meterRegistry, apiTaskExecutor, Ticker.systemTicker());
+    }
+
+    NaverBlogCountCache(NaverApiClient naverApiClient, NaverBlogCacheProperties properties, MeterRegistry meterRegistry,
+                        Executor apiTaskExecutor, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(properties.getRefreshAfter())
+                .expireAfterWrite(properties.getExpireAfter())
+                .ticker(ticker)
+                .maximumSize(properties.getMaxSize())
+                .executor(apiTaskExecutor)
+                .recordStats()
+                .build(query -> {
+                    log.debug("네이버 블로그 리뷰 수 조회(캐시 미스/갱신): query={}", query);
+                    NaverBlogSearchResponseDto response = naverApiClient.searchBlog(query);
+                    return (response != null) ? response.getTotal() : 0;
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "naver.blogCount");
+    }
+
+    /**
+     * 블로그 리뷰 수 조회
+     * @param query 검색어 (주소 + 가게명)
+     * @return 블로그 리뷰 총 개수
+     */
+    public int getBlogCount(String query) {
+        return cache.get(normalize(query));
+    }
+
+    /**
+     * 캐시된 블로그 리뷰 수를 조회(또는 갱신)한 후 지난 시간
+     * @param query 검색어 (주소 + 가게명)
+     * @return 캐시 항목의 나이 (캐시에 없으면 0)
+     */
+    public Duration ageOf(String query) {
+        String key = normalize(query);
+        return cache.policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(key))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * 캐시 값과 관계없이 네이버에서 다시 조회하여 캐시에 저장 (실패 시 예외를 그대로 전달)
+     * @param query 검색어 (주소 + 가게명)
+     * @return 블로그 리뷰 총 개수
+     */
+    public int refreshBlogCount(String query) {
+        try {
+            return cache.refresh(normalize(query)).join();
+        } catch (CompletionException e) {
+            throw (e.getCause() instanceof RuntimeException cause) ? cause : e;
+        }
+    }
+
+    /**
+     * 캐시 키 정규화 (앞뒤 공백 제거, 연속 공백 축약, 소문자 변환)
+     */
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+package com.koo.bonscore.common.api.naver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * NaverBlogCacheProperties.java
+ * 설명 : 네이버 블로그 리뷰 수 캐시 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.naver.blog-cache")
+@Getter
+@Setter
+public class NaverBlogCacheProperties {
+    private Duration refreshAfter = Duration.ofHours(12); // 이 시간이 지난 항목은 조회 시 기존 값을 반환하고 백그라운드에서 갱신
+    private Duration expireAfter = Duration.ofDays(7);    // 이 시간이 지나도록 갱신되지 않은 항목은 제거 (다음 조회는 동기 호출)
+    private long maxSize = 50_000;                        // 최대 항목 수
+}
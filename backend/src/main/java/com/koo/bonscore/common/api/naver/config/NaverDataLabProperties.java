@@ -0,0 +1,29 @@
+package com.koo.bonscore.common.api.naver.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * <pre>
+ * NaverDataLabProperties.java
+ * 설명 : 네이버 데이터랩 검색 트렌드 캐시/일괄 조회 설정
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.naver.datalab")
+@Getter
+@Setter
+public class NaverDataLabProperties {
+    private int maxBatchSize = 5;                           // 한 번의 데이터랩 호출에 담을 최대 키워드 그룹 수 (API 최대 5)
+    private Duration maxBatchWait = Duration.ofMillis(20);  // 일괄 호출 전 다른 요청을 기다리는 최대 시간
+    private long cacheMaxSize = 10_000;                     // 트렌드 캐시 최대 항목 수 (항목은 하루 단위로 만료)
+    private Duration callTimeout = Duration.ofSeconds(5);   // 일괄 조회 결과를 기다리는 최대 시간 (초과 시 호출 실패로 처리)
+}
@@ -1,5 +1,6 @@
 package com.koo.bonscore.common.api.naver.dto.datalab;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -7,6 +8,7 @@ import lombok.ToString;
 @Getter
 @ToString
 @NoArgsConstructor
+@AllArgsConstructor
 public class Data {
     private String period;
     private Double ratio; // 검색량 비율
@@ -1,5 +1,6 @@
 package com.koo.bonscore.common.api.naver.dto.datalab;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -9,6 +10,7 @@ import java.util.List;
 @Getter
 @ToString
 @NoArgsConstructor
+@AllArgsConstructor
 public class DataLabResponseDto {
     private String startDate;
     private String endDate;
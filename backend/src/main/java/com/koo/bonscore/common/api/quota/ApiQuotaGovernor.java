@@ -0,0 +1,197 @@
+package com.koo.bonscore.common.api.quota;
+
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * ApiQuotaGovernor.java
+ * 설명 : 외부 API 호출 한도 관리 컴포넌트 (모든 백엔드 노드가 Redis로 공유)
+ *
+ * - 제공자/엔드포인트별 토큰 버킷(초당 호출 수)과 일일 예산을 Redis Lua 스크립트로 원자적으로 차감한다.
+ * - 초당 한도를 넘으면 max-wait 안에서 토큰이 채워질 때까지 기다리고, 그래도 부족하거나
+ *   일일 예산이 소진되면 BsCoreException(API_QUOTA_EXCEEDED)으로 즉시 실패한다.
+ *   호출하는 쪽은 이 예외를 잡아 캐시된 값으로 대체하거나 그대로 실패시킬 수 있다.
+ * - Redis 장애 시에는 호출을 허용(fail-open)하여 한도 관리가 서비스 장애로 번지지 않도록 한다.
+ * - 결과는 Micrometer(api.quota.requests, result=allowed/throttled/budget_exhausted/fail_open)로,
+ *   일일 사용량은 api.quota.daily.used / api.quota.daily.budget 게이지로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class ApiQuotaGovernor {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long DAY_KEY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(2);
+    private static final long MIN_SLEEP_MILLIS = 5;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> QUOTA_SCRIPT = loadScript();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApiQuotaProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    // 제공자/엔드포인트별 마지막으로 확인한 일일 사용량 (클러스터 전체 기준)
+    private final Map<String, AtomicLong> dailyUsed = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiQuotaGovernor(StringRedisTemplate redisTemplate, ApiQuotaProperties properties, MeterRegistry meterRegistry) {
+        this(redisTemplate, properties, meterRegistry, Clock.system(QUOTA_ZONE));
+    }
+
+    ApiQuotaGovernor(StringRedisTemplate redisTemplate, ApiQuotaProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * 외부 API 호출 1건에 대한 허용을 요청 (실제 호출 직전에 호출)
+     * @param provider 제공자
+     * @param endpoint 엔드포인트 구분 (설정의 limits 키, 예: search, local)
+     * @throws BsCoreException 초당 한도 초과(max-wait 초과) 또는 일일 예산 소진 시 API_QUOTA_EXCEEDED
+     */
+    public void acquire(ApiProvider provider, String endpoint) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ApiQuotaProperties.Limit limit = properties.limitOf(provider, endpoint).orElse(null);
+        if (limit == null) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + limit.getMaxWait().toNanos();
+        while (true) {
+            List<?> result;
+            try {
+                result = execute(provider, endpoint, limit);
+            } catch (Exception e) {
+                log.warn("API 호출 한도 확인 실패(Redis) - 호출을 허용합니다. provider={}, endpoint={}, cause={}",
+                        provider.getTag(), endpoint, e.getMessage());
+                count(provider, endpoint, "fail_open");
+                return;
+            }
+
+            boolean allowed = toLong(result.get(0)) == 1;
+            long waitMillis = toLong(result.get(1));
+            usage(provider, endpoint, limit).set(toLong(result.get(2)));
+
+            if (allowed) {
+                count(provider, endpoint, "allowed");
+                return;
+            }
+            if (waitMillis < 0) {
+                count(provider, endpoint, "budget_exhausted");
+                log.warn("외부 API 일일 호출 예산 소진: provider={}, endpoint={}, budget={}",
+                        provider.getTag(), endpoint, limit.getDailyBudget());
+                throw new BsCoreException(ErrorCode.API_QUOTA_EXCEEDED);
+            }
+
+            long sleepNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(MIN_SLEEP_MILLIS, waitMillis));
+            if (System.nanoTime() + sleepNanos > deadline) {
+                count(provider, endpoint, "throttled");
+                throw new BsCoreException(ErrorCode.API_QUOTA_EXCEEDED);
+            }
+            sleep(sleepNanos);
+        }
+    }
+
+    private List<?> execute(ApiProvider provider, String endpoint, ApiQuotaProperties.Limit limit) {
+        // {provider.endpoint} 해시 태그로 두 키를 같은 Redis Cluster 슬롯에 배치
+        String prefix = "quota:{" + provider.getTag() + "." + endpoint + "}:";
+        String day = LocalDate.now(clock).format(DAY_FORMAT);
+
+        List<?> result = redisTemplate.execute(QUOTA_SCRIPT,
+                List.of(prefix + "bucket", prefix + "day:" + day),
+                String.valueOf(limit.getPermitsPerSecond()),
+                String.valueOf(limit.effectiveBurst()),
+                String.valueOf(limit.getDailyBudget()),
+                String.valueOf(DAY_KEY_TTL_SECONDS));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("호출 한도 스크립트 결과가 올바르지 않습니다: " + result);
+        }
+        return result;
+    }
+
+    /**
+     * 제공자/엔드포인트별 일일 사용량 게이지 (처음 사용 시 등록)
+     */
+    private AtomicLong usage(ApiProvider provider, String endpoint, ApiQuotaProperties.Limit limit) {
+        return dailyUsed.computeIfAbsent(provider.getTag() + "." + endpoint, key -> {
+            AtomicLong used = new AtomicLong();
+            Gauge.builder("api.quota.daily.used", used, AtomicLong::get)
+                    .description("외부 API 오늘 호출 수 (모든 노드 합계, 마지막 확인 값)")
+                    .tag("provider", provider.getTag())
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            Gauge.builder("api.quota.daily.budget", limit, ApiQuotaProperties.Limit::getDailyBudget)
+                    .description("외부 API 일일 호출 예산 (0이면 제한 없음)")
+                    .tag("provider", provider.getTag())
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            return used;
+        });
+    }
+
+    private void count(ApiProvider provider, String endpoint, String result) {
+        Counter.builder("api.quota.requests")
+                .description("외부 API 호출 한도 확인 결과")
+                .tag("provider", provider.getTag())
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BsCoreException(ErrorCode.API_QUOTA_EXCEEDED);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> loadScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/api-quota.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+}
@@ -0,0 +1,54 @@
+package com.koo.bonscore.common.api.quota;
+
+import com.koo.bonscore.common.api.support.ApiProvider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * ApiQuotaProperties.java
+ * 설명 : 외부 API 호출 한도 설정 (제공자 -> 엔드포인트 -> 한도)
+ *        설정하지 않은 제공자/엔드포인트는 호출 한도를 적용하지 않는다.
+ *        한도는 모든 백엔드 노드가 Redis에서 공유하므로, 노드 수와 무관하게 API 키 단위로 설정한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.quota")
+@Getter
+@Setter
+public class ApiQuotaProperties {
+    private boolean enabled = true;                                          // 호출 한도 적용 여부
+    private Map<ApiProvider, Map<String, Limit>> limits = new EnumMap<>(ApiProvider.class);
+
+    /**
+     * 제공자/엔드포인트 한도 조회
+     * @return 한도 (설정이 없으면 empty)
+     */
+    public Optional<Limit> limitOf(ApiProvider provider, String endpoint) {
+        return Optional.ofNullable(limits.get(provider)).map(endpoints -> endpoints.get(endpoint));
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private double permitsPerSecond = 0;            // 초당 허용 호출 수 (0이면 초당 제한 없음)
+        private int burst = 0;                          // 순간 최대 호출 수 (0이면 permitsPerSecond 올림값)
+        private long dailyBudget = 0;                   // 일일 최대 호출 수 (0이면 일일 제한 없음, Asia/Seoul 기준 자정 초기화)
+        private Duration maxWait = Duration.ZERO;       // 초당 한도 초과 시 최대 대기 시간 (0이면 즉시 실패)
+
+        public int effectiveBurst() {
+            return burst > 0 ? burst : (int) Math.max(1, Math.ceil(permitsPerSecond));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.koo.bonscore.common.api.resilience;
+
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * <pre>
+ * ApiResilience.java
+ * 설명 : 외부 API별 서킷 브레이커 + 동시 호출 제한(bulkhead) + 재시도(jitter 포함) 적용 컴포넌트
+ *
+ * - 호출 순서 : 재시도 -> 서킷 브레이커 -> bulkhead -> 실제 호출
+ * - bulkhead는 API별 동시 호출 수를 제한하여, 느린 외부 API가 요청 스레드를 모두 점유하지 못하게 한다.
+ *   자리가 없으면 기다리지 않고 거절하므로 다른 API(로그인 등)의 응답 시간에 영향을 주지 않는다.
+ * - 서킷이 열려 있거나 bulkhead가 가득 차면 BsCoreException(API_UNAVAILABLE)으로 즉시 실패하며,
+ *   호출하는 쪽은 이 예외를 잡아 캐시된 값이나 "unavailable" 섹션으로 대체한다.
+ * - 재시도는 연결 실패, 타임아웃, 5xx 같은 일시적 오류에만 지수 백오프 + 무작위 편차로 수행한다.
+ * - 4xx 응답(429 제외)과 BsCoreException(호출 한도 초과 등)은 제공자 장애로 집계하지 않는다.
+ * - 상태와 결과는 resilience4j Micrometer 메트릭(resilience4j.circuitbreaker.*, bulkhead.*, retry.*)으로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Slf4j
+@Component
+public class ApiResilience {
+
+    private final ApiResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
+
+    // 비동기 호출의 재시도 대기용 스케줄러
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "api-retry-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ApiResilience(ApiResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * 외부 API 동기 호출
+     * @param name API 구분 (설정의 instances 키, 예: kakao, naver-blog)
+     * @param call 외부 API 호출
+     * @return 호출 결과
+     * @throws BsCoreException 서킷 오픈 또는 동시 호출 수 초과 시 API_UNAVAILABLE (그 외 호출 예외는 그대로 전달)
+     */
+    public <T> T execute(String name, Supplier<T> call) {
+        Supplier<T> decorated = Retry.decorateSupplier(retry(name),
+                CircuitBreaker.decorateSupplier(circuitBreaker(name),
+                        Bulkhead.decorateSupplier(bulkhead(name), call)));
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw unavailable(name, e);
+        }
+    }
+
+    /**
+     * 외부 API 비동기 호출 (WebClient 등 CompletionStage를 반환하는 호출)
+     * @param name API 구분 (설정의 instances 키)
+     * @param call 외부 API 호출 (호출할 때마다 새 요청을 시작해야 함)
+     * @return 호출 결과 future (서킷 오픈 또는 동시 호출 수 초과 시 API_UNAVAILABLE로 완료)
+     */
+    public <T> CompletableFuture<T> executeAsync(String name, Supplier<? extends CompletionStage<T>> call) {
+        Supplier<CompletionStage<T>> decorated = Retry.decorateCompletionStage(retry(name), retryScheduler,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker(name),
+                        Bulkhead.decorateCompletionStage(bulkhead(name), call::get)));
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        decorated.get().whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = unwrap(error);
+            result.completeExceptionally(cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException
+                    ? unavailable(name, cause) : cause);
+        });
+        return result;
+    }
+
+    /**
+     * 서킷 오픈/동시 호출 수 초과로 호출하지 못한 경우인지 확인 (호출부의 fallback 판단용)
+     */
+    public static boolean isUnavailable(Throwable e) {
+        return unwrap(e) instanceof BsCoreException bsCoreException
+                && ErrorCode.API_UNAVAILABLE.getCode().equals(bsCoreException.getErrorCode());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    private CircuitBreaker circuitBreaker(String name) {
+        return circuitBreakerRegistry.circuitBreaker(name, () -> {
+            ApiResilienceProperties.Policy policy = properties.policyOf(name);
+            return CircuitBreakerConfig.custom()
+                    .failureRateThreshold(policy.getFailureRateThreshold())
+                    .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+                    .slowCallDurationThreshold(policy.getSlowCallDurationThreshold())
+                    .slidingWindowSize(policy.getSlidingWindowSize())
+                    .minimumNumberOfCalls(policy.getMinimumNumberOfCalls())
+                    .waitDurationInOpenState(policy.getWaitDurationInOpenState())
+                    .permittedNumberOfCallsInHalfOpenState(policy.getPermittedCallsInHalfOpenState())
+                    .ignoreException(ApiResilience::isNotProviderFailure)
+                    .build();
+        });
+    }
+
+    private Bulkhead bulkhead(String name) {
+        return bulkheadRegistry.bulkhead(name, () -> {
+            ApiResilienceProperties.Policy policy = properties.policyOf(name);
+            return BulkheadConfig.custom()
+                    .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+                    .maxWaitDuration(policy.getMaxWait())
+                    .build();
+        });
+    }
+
+    private Retry retry(String name) {
+        return retryRegistry.retry(name, () -> {
+            ApiResilienceProperties.Policy policy = properties.policyOf(name);
+            return RetryConfig.custom()
+                    .maxAttempts(Math.max(1, policy.getMaxAttempts()))
+                    .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(policy.getRetryWait(), 2.0, policy.getRetryJitter()))
+                    .retryOnException(ApiResilience::isTransient)
+                    .build();
+        });
+    }
+
+    private static BsCoreException unavailable(String name, Throwable cause) {
+        log.warn("외부 API 호출 차단: api={}, reason={}", name, cause.getMessage());
+        return new BsCoreException(ErrorCode.API_UNAVAILABLE);
+    }
+
+    /**
+     * 재시도할 일시적 오류인지 확인 (연결 실패, 타임아웃, 5xx)
+     */
+    static boolean isTransient(Throwable e) {
+        Throwable cause = unwrap(e);
+        return cause instanceof ResourceAccessException
+                || cause instanceof HttpServerErrorException
+                || cause instanceof WebClientRequestException
+                || (cause instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError())
+                || cause instanceof IOException
+                || cause instanceof TimeoutException;
+    }
+
+    /**
+     * 서킷 브레이커 실패율에서 제외할 예외인지 확인 (요청 오류, 호출 한도 초과, bulkhead 거절)
+     */
+    static boolean isNotProviderFailure(Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof BsCoreException || cause instanceof BulkheadFullException) {
+            return true;
+        }
+        if (cause instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() != 429;
+        }
+        if (cause instanceof WebClientResponseException response) {
+            return response.getStatusCode().is4xxClientError() && response.getStatusCode().value() != 429;
+        }
+        return false;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,102 @@
+package com.koo.bonscore.common.api.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * ApiResilienceProperties.java
+ * 설명 : 외부 API별 서킷 브레이커, 동시 호출 제한(bulkhead), 재시도 설정
+ *        instances에서 생략한 값은 defaults 값을, defaults에서 생략한 값은 Policy 기본값을 사용한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+@ConfigurationProperties(prefix = "api.resilience")
+@Getter
+@Setter
+public class ApiResilienceProperties {
+    private Policy defaults = new Policy();
+    private Map<String, Policy> instances = new HashMap<>();
+
+    /**
+     * API 설정 조회 (instances 설정 위에 defaults, 기본값 순으로 생략한 값을 채움)
+     */
+    public Policy policyOf(String name) {
+        Policy base = defaults.mergedOver(Policy.builtIn());
+        Policy instance = instances.get(name);
+        return instance == null ? base : instance.mergedOver(base);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 서킷 브레이커 (생략(null)한 값은 상위 설정 값 사용)
+        private Float failureRateThreshold;             // 실패율(%)이 이 값 이상이면 서킷 오픈 (기본 50)
+        private Float slowCallRateThreshold;            // 느린 호출 비율(%)이 이 값 이상이면 서킷 오픈 (기본 80)
+        private Duration slowCallDurationThreshold;     // 이 시간 이상 걸린 호출은 느린 호출로 집계 (기본 3s)
+        private Integer slidingWindowSize;              // 실패율 계산에 사용할 최근 호출 수 (기본 20)
+        private Integer minimumNumberOfCalls;           // 실패율 계산을 시작할 최소 호출 수 (기본 10)
+        private Duration waitDurationInOpenState;       // 서킷 오픈 유지 시간, 이후 half-open (기본 30s)
+        private Integer permittedCallsInHalfOpenState;  // half-open 상태에서 허용할 시험 호출 수 (기본 3)
+
+        // 동시 호출 제한 (bulkhead)
+        private Integer maxConcurrentCalls;             // 동시에 진행할 수 있는 최대 호출 수 (기본 20)
+        private Duration maxWait;                       // 자리가 없을 때 기다리는 최대 시간, 0이면 즉시 거절 (기본 0)
+
+        // 재시도
+        private Integer maxAttempts;                    // 최대 시도 횟수, 최초 호출 포함 1이면 재시도 없음 (기본 2)
+        private Duration retryWait;                     // 첫 재시도 전 대기 시간, 이후 2배씩 증가 (기본 200ms)
+        private Double retryJitter;                     // 대기 시간 무작위 편차 비율, 0.5 = ±50% (기본 0.5)
+
+        /**
+         * 기본값
+         */
+        static Policy builtIn() {
+            Policy policy = new Policy();
+            policy.failureRateThreshold = 50f;
+            policy.slowCallRateThreshold = 80f;
+            policy.slowCallDurationThreshold = Duration.ofSeconds(3);
+            policy.slidingWindowSize = 20;
+            policy.minimumNumberOfCalls = 10;
+            policy.waitDurationInOpenState = Duration.ofSeconds(30);
+            policy.permittedCallsInHalfOpenState = 3;
+            policy.maxConcurrentCalls = 20;
+            policy.maxWait = Duration.ZERO;
+            policy.maxAttempts = 2;
+            policy.retryWait = Duration.ofMillis(200);
+            policy.retryJitter = 0.5;
+            return policy;
+        }
+
+        /**
+         * 이 설정에서 생략한 값을 base 값으로 채운 새 설정
+         */
+        Policy mergedOver(Policy base) {
+            Policy merged = new Policy();
+            merged.failureRateThreshold = Objects.requireNonNullElse(failureRateThreshold, base.failureRateThreshold);
+            merged.slowCallRateThreshold = Objects.requireNonNullElse(slowCallRateThreshold, base.slowCallRateThreshold);
+            merged.slowCallDurationThreshold = Objects.requireNonNullElse(slowCallDurationThreshold, base.slowCallDurationThreshold);
+            merged.slidingWindowSize = Objects.requireNonNullElse(slidingWindowSize, base.slidingWindowSize);
+            merged.minimumNumberOfCalls = Objects.requireNonNullElse(minimumNumberOfCalls, base.minimumNumberOfCalls);
+            merged.waitDurationInOpenState = Objects.requireNonNullElse(waitDurationInOpenState, base.waitDurationInOpenState);
+            merged.permittedCallsInHalfOpenState = Objects.requireNonNullElse(permittedCallsInHalfOpenState, base.permittedCallsInHalfOpenState);
+            merged.maxConcurrentCalls = Objects.requireNonNullElse(maxConcurrentCalls, base.maxConcurrentCalls);
+            merged.maxWait = Objects.requireNonNullElse(maxWait, base.maxWait);
+            merged.maxAttempts = Objects.requireNonNullElse(maxAttempts, base.maxAttempts);
+            merged.retryWait = Objects.requireNonNullElse(retryWait, base.retryWait);
+            merged.retryJitter = Objects.requireNonNullElse(retryJitter, base.retryJitter);
+            return merged;
+        }
+    }
+}
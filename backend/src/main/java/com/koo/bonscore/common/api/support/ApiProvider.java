@@ -0,0 +1,48 @@
+package com.koo.bonscore.common.api.support;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * ApiProvider.java
+ * 설명 : 외부 API 제공자 구분
+ *        제공자별 커넥션 풀, 타임아웃, 메트릭 태그 등을 구분할 때 사용한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Getter
+public enum ApiProvider {
+    KAKAO("kakao", List.of("dapi.kakao.com")),
+    NAVER("naver", List.of("openapi.naver.com")),
+    GOOGLE("google", List.of("maps.googleapis.com")),
+    KMA("kma", List.of("apis.data.go.kr"));
+
+    private final String tag;           // 메트릭 태그 값
+    private final List<String> hosts;   // 제공자 API 호스트
+
+    ApiProvider(String tag, List<String> hosts) {
+        this.tag = tag;
+        this.hosts = hosts;
+    }
+
+    /**
+     * 호스트 이름으로 제공자 조회
+     * @param host 요청 호스트
+     * @return 제공자 (등록되지 않은 호스트면 empty)
+     */
+    public static Optional<ApiProvider> fromHost(String host) {
+        if (host == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(provider -> provider.hosts.contains(host.toLowerCase()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,148 @@
+package com.koo.bonscore.common.api.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * MicroBatcher.java
+ * 설명 : 짧은 시간 동안 들어온 개별 조회 요청을 모아 한 번의 일괄(batch) 호출로 처리하는 범용 컴포넌트
+ *
+ * - submit(key)로 들어온 요청은 대기열에 쌓이고, max-batch-size에 도달하거나 max-wait가 지나면 한 번에 batchLoader로 전달된다.
+ * - 대기 중인 같은 키의 요청은 하나의 future를 공유한다.
+ * - batchLoader가 결과를 돌려주지 않은 키, batchLoader 실패는 해당 요청들의 future를 예외로 완료한다.
+ * 외부 API가 한 번의 호출로 여러 건을 조회할 수 있을 때(예: 데이터랩 키워드 그룹 5개) 호출 수를 줄이기 위해 사용한다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ *
+ * @param <K> 조회 키
+ * @param <V> 조회 결과
+ */
+@Slf4j
+public class MicroBatcher<K, V> {
+
+    private final String name;
+    private final int maxBatchSize;
+    private final Executor flushTrigger;
+    private final Function<List<K>, CompletableFuture<Map<K, V>>> batchLoader;
+
+    // 대기 중인 요청 (키 -> 결과 future), 삽입 순서 유지
+    private final Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled = false;
+
+    /**
+     * @param name         로그용 이름
+     * @param maxBatchSize 한 번에 처리할 최대 키 수
+     * @param maxWait      첫 요청 이후 일괄 호출까지 최대 대기 시간
+     * @param executor     대기 시간 이후 일괄 호출을 실행할 executor
+     * @param batchLoader  키 목록 -> (키 -> 결과) 비동기 일괄 조회
+     */
+    public MicroBatcher(String name, int maxBatchSize, Duration maxWait, Executor executor,
+                        Function<List<K>, CompletableFuture<Map<K, V>>> batchLoader) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.flushTrigger = CompletableFuture.delayedExecutor(maxWait.toMillis(), TimeUnit.MILLISECONDS, executor);
+        this.batchLoader = batchLoader;
+    }
+
+    /**
+     * 조회 요청을 대기열에 추가
+     * @param key 조회 키
+     * @return 일괄 조회 후 완료되는 결과 future
+     */
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future;
+        List<Map.Entry<K, CompletableFuture<V>>> fullBatch = null;
+
+        synchronized (this) {
+            future = pending.get(key);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flushTrigger.execute(this::flushPending);
+            }
+        }
+
+        // 배치가 가득 찼으면 대기하지 않고 즉시 호출 (락 밖에서)
+        if (fullBatch != null) {
+            load(fullBatch);
+        }
+        return future;
+    }
+
+    /**
+     * 대기 시간이 지나면 남아 있는 요청을 일괄 처리
+     */
+    private void flushPending() {
+        List<List<Map.Entry<K, CompletableFuture<V>>>> batches = new ArrayList<>();
+        synchronized (this) {
+            flushScheduled = false;
+            while (!pending.isEmpty()) {
+                batches.add(drain());
+            }
+        }
+        batches.forEach(this::load);
+    }
+
+    /**
+     * 대기열에서 최대 maxBatchSize개를 꺼냄 (락 안에서 호출)
+     */
+    private List<Map.Entry<K, CompletableFuture<V>>> drain() {
+        List<Map.Entry<K, CompletableFuture<V>>> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        Iterator<Map.Entry<K, CompletableFuture<V>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            Map.Entry<K, CompletableFuture<V>> entry = iterator.next();
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    private void load(List<Map.Entry<K, CompletableFuture<V>>> batch) {
+        List<K> keys = batch.stream().map(Map.Entry::getKey).toList();
+        log.debug("[{}] 일괄 조회: {}건", name, keys.size());
+
+        CompletableFuture<Map<K, V>> result;
+        try {
+            result = batchLoader.apply(keys);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((values, error) -> {
+            for (Map.Entry<K, CompletableFuture<V>> entry : batch) {
+                if (error != null) {
+                    entry.getValue().completeExceptionally(error);
+                } else if (values == null || values.get(entry.getKey()) == null) {
+                    entry.getValue().completeExceptionally(
+                            new IllegalStateException("[" + name + "] 일괄 조회 결과 없음: " + entry.getKey()));
+                } else {
+                    entry.getValue().complete(values.get(entry.getKey()));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.koo.bonscore.common.api.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * SingleFlight.java
+ * 설명 : 동일한 외부 API 호출 병합(single-flight) 컴포넌트
+ *
+ * 같은 (group, key)로 동시에 들어온 호출 중 첫 번째 호출(leader)만 실제로 외부 API를 호출하고,
+ * 나머지 호출은 진행 중인 호출의 결과(또는 예외)를 함께 기다린다.
+ * 호출이 끝나면 바로 제거되므로 캐시와 달리 오래된 결과를 반환하지 않는다.
+ * 병합 현황은 Micrometer(api.singleflight.calls, result=leader/shared)로 노출된다.
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+@Component
+public class SingleFlight {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("api.singleflight.inflight", inFlight, Map::size)
+                .description("진행 중인 외부 API 호출 수 (병합 기준)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 (group, key)의 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 호출
+     * @param group 호출 구분 (메트릭 태그, 예: naver.blog)
+     * @param key   정규화된 요청 파라미터 (key(...)로 생성)
+     * @param call  외부 API 호출
+     * @return 호출 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, String key, Supplier<T> call) {
+        String flightKey = group + "|" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            count(group, "shared");
+            return (T) await(existing);
+        }
+
+        count(group, "leader");
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 요청 파라미터로 병합 키 생성 (앞뒤 공백 제거, 연속 공백 축약, 소문자 변환)
+     */
+    public static String key(Object... parts) {
+        return Arrays.stream(parts)
+                .map(part -> part == null ? "" : WHITESPACE.matcher(part.toString().trim()).replaceAll(" ").toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining("|"));
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // leader가 던진 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String group, String result) {
+        Counter.builder("api.singleflight.calls")
+                .description("외부 API 호출 병합 결과 (leader: 실제 호출, shared: 진행 중인 호출 결과 공유)")
+                .tag("group", group)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
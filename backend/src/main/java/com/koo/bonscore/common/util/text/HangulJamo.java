@@ -0,0 +1,96 @@
+package com.koo.bonscore.common.util.text;
+
+/**
+ * <pre>
+ * HangulJamo.java
+ * 설명 : 한글 음절을 자모(호환용 자모) 단위로 분해하는 유틸리티 (자동완성 색인/검색 키 생성용)
+ *
+ * 입력 중인 글자도 완성된 글자의 접두어가 되도록 음절과 겹자모를 모두 기본 자모로 분해한다.
+ * - "본스" -> "ㅂㅗㄴㅅㅡ" ("보", "본", "본ㅅ" 모두 접두어)
+ * - 겹모음/겹받침 분해: "과" -> "ㄱㅗㅏ" ("고"가 접두어), "닭" -> "ㄷㅏㄹㄱ" ("달"이 접두어)
+ * - 공백은 제거하고 영문은 소문자로 변환, 그 외 문자는 그대로 유지
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    // 초성 19자
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 중성 21자 (겹모음은 기본 모음으로 분해)
+    private static final String[] MEDIALS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    // 종성 28자 (없음 포함, 겹받침은 기본 자음으로 분해)
+    private static final String[] FINALS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+    /**
+     * HangulJamo 클래스는 인스턴스화할 수 없다.
+     */
+    private HangulJamo() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 자모 분해
+     * @param text 원문 (예: "본스 커피")
+     * @return 공백을 제거하고 자모로 분해한 문자열 (예: "ㅂㅗㄴㅅㅡㅋㅓㅍㅣ"), null이면 빈 문자열
+     */
+    public static String decompose(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                sb.append(INITIALS.charAt(index / (MEDIAL_COUNT * FINAL_COUNT)));
+                sb.append(MEDIALS[(index / FINAL_COUNT) % MEDIAL_COUNT]);
+                sb.append(FINALS[index % FINAL_COUNT]);
+            } else if (!Character.isWhitespace(c)) {
+                String compound = splitCompoundJamo(c);
+                if (compound != null) {
+                    sb.append(compound);
+                } else {
+                    sb.append(Character.toLowerCase(c));
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    // 입력 중 단독으로 쓰인 겹모음/겹받침 (ㄳ, ㅘ 등), 겹자모가 아니면 null
+    private static String splitCompoundJamo(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,227 @@
+package com.koo.bonscore.common.util.text;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * <pre>
+ * TextNormalizer.java
+ * 설명 : 외부 API 결과(가게명, 주소, 번역 결과) 정규화 유틸리티
+ *
+ * 검색 결과와 추천 가게마다 실행되는 변환을 정규식과 중간 배열 없이 문자열을 한 번 순회하여 처리한다.
+ * 기존 구현과 결과가 같아야 하므로 각 메서드에 대응하는 기존 코드를 함께 적어 둔다.
+ * - 변환할 문자(태그, 엔티티)가 없으면 입력 문자열을 그대로 반환 (할당 없음)
+ * - 자주 쓰이는 엔티티(&amp;amp; &amp;lt; &amp;gt; &amp;quot; &amp;#39;) 외의 엔티티가 있으면 HtmlUtils로 처리
+ * </pre>
+ *
+ * @author  : koobonsang
+ * @version : 1.0
+ * @since   : 2026-10-17
+ */
+public final class TextNormalizer {
+
+    /**
+     * TextNormalizer 클래스는 인스턴스화할 수 없다.
+     */
+    private TextNormalizer() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * HTML 태그 제거 후 HTML 엔티티 변환
+     * 기존 코드: {@code HtmlUtils.htmlUnescape(Pattern.compile("<[^>]*>").matcher(text).replaceAll(""))}
+     * @param text 네이버 검색 결과 제목 등 (예: "&lt;b&gt;본스&lt;/b&gt; 커피&amp;amp;베이커리")
+     * @return 태그가 제거되고 엔티티가 변환된 문자열 (예: "본스 커피&amp;베이커리"), null이면 null
+     */
+    public static String stripTagsAndUnescape(String text) {
+        if (text == null) {
+            return null;
+        }
+        int tag = text.indexOf('<');
+        String stripped = (tag < 0) ? text : stripTags(text, tag);
+        return unescape(stripped);
+    }
+
+    /**
+     * HTML 엔티티 변환
+     * 기존 코드: {@code HtmlUtils.htmlUnescape(text)}
+     * @param text 번역 결과 등
+     * @return 엔티티가 변환된 문자열, null이면 null
+     */
+    public static String unescape(String text) {
+        if (text == null) {
+            return null;
+        }
+        int amp = text.indexOf('&');
+        if (amp < 0) {
+            return text;
+        }
+
+        StringBuilder sb = new StringBuilder(text.length());
+        sb.append(text, 0, amp);
+        int i = amp;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c != '&') {
+                sb.append(c);
+                i++;
+                continue;
+            }
+            // 모든 '&'가 자주 쓰이는 엔티티로 시작하는 경우에만 직접 변환 (그 외 엔티티나 단독 '&'는 HtmlUtils와 결과가 같도록 위임)
+            if (text.startsWith("amp;", i + 1)) {
+                sb.append('&');
+                i += 5;
+            } else if (text.startsWith("lt;", i + 1)) {
+                sb.append('<');
+                i += 4;
+            } else if (text.startsWith("gt;", i + 1)) {
+                sb.append('>');
+                i += 4;
+            } else if (text.startsWith("quot;", i + 1)) {
+                sb.append('"');
+                i += 6;
+            } else if (text.startsWith("#39;", i + 1)) {
+                sb.append('\'');
+                i += 5;
+            } else {
+                return HtmlUtils.htmlUnescape(text);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 주소를 간단 주소(앞 두 단어)와 상세 주소(나머지)로 분리
+     * 기존 코드: {@code split(" ")}으로 나눈 단어가 3개 이상이면 [0] + " " + [1], 나머지를 " "로 연결 (그 외에는 전체가 간단 주소)
+     * @param fullAddress 전체 주소 (예: "서울특별시 종로구 종로 1")
+     * @return 간단 주소 "서울특별시 종로구", 상세 주소 "종로 1"
+     */
+    public static Address splitKoreanAddress(String fullAddress) {
+        if (fullAddress == null || fullAddress.isEmpty()) {
+            return new Address(fullAddress, "");
+        }
+        // split()은 끝의 빈 단어를 버리므로 끝의 공백은 무시
+        int end = fullAddress.length();
+        while (end > 0 && fullAddress.charAt(end - 1) == ' ') {
+            end--;
+        }
+        int first = fullAddress.indexOf(' ');
+        int second = (first < 0 || first >= end) ? -1 : fullAddress.indexOf(' ', first + 1);
+        if (second < 0 || second >= end) {
+            return new Address(fullAddress, "");
+        }
+        // [0] + " " + [1] 은 두 번째 공백 앞까지, 나머지 단어를 " "로 연결한 결과는 두 번째 공백 뒤부터
+        return new Address(fullAddress.substring(0, second), fullAddress.substring(second + 1, end));
+    }
+
+    /**
+     * 번역된 영문 주소를 간단 주소(뒤의 두 요소)와 상세 주소(나머지)로 분리
+     * 기존 코드: {@code split(",\\s*")}으로 나눈 요소가 2개 이상이면 뒤의 두 요소를 ", "로 연결하고, 나머지를 ", "로 연결
+     * (그 외에는 전체가 간단 주소)
+     * @param translatedFullAddress 번역된 전체 주소 (예: "8 Dongsomun-ro 6-gil, Seongbuk-gu, Seoul")
+     * @return 간단 주소 "Seongbuk-gu, Seoul", 상세 주소 "8 Dongsomun-ro 6-gil"
+     */
+    public static Address splitEnglishAddress(String translatedFullAddress) {
+        if (translatedFullAddress == null || translatedFullAddress.isEmpty()) {
+            return new Address("", "");
+        }
+        String text = translatedFullAddress;
+
+        // 1. 요소 수 (split()은 끝의 빈 요소를 버림)
+        int tokens = countTokens(text);
+        if (tokens < 2) {
+            return new Address(translatedFullAddress, "");
+        }
+
+        // 2. 앞의 요소는 상세 주소, 뒤의 두 요소는 간단 주소로 연결
+        StringBuilder detail = new StringBuilder();
+        StringBuilder simple = new StringBuilder();
+        int start = 0;
+        for (int index = 0; index < tokens; index++) {
+            int comma = text.indexOf(',', start);
+            int tokenEnd = (comma < 0) ? text.length() : comma;
+            if (index < tokens - 2) {
+                if (index > 0) {
+                    detail.append(", ");
+                }
+                detail.append(text, start, tokenEnd);
+            } else {
+                if (index == tokens - 1) {
+                    simple.append(", ");
+                }
+                simple.append(text, start, tokenEnd);
+            }
+            if (comma < 0) {
+                break;
+            }
+            start = separatorEnd(text, comma);
+        }
+        return new Address(simple.toString(), detail.toString());
+    }
+
+    /**
+     * split(",\\s*") 결과의 요소 수 (끝의 빈 요소 제외)
+     */
+    private static int countTokens(String text) {
+        int count = 0;
+        int nonEmptyCount = 0;
+        int start = 0;
+        while (true) {
+            int comma = text.indexOf(',', start);
+            int tokenEnd = (comma < 0) ? text.length() : comma;
+            count++;
+            if (tokenEnd > start) {
+                nonEmptyCount = count;
+            }
+            if (comma < 0) {
+                return nonEmptyCount;
+            }
+            start = separatorEnd(text, comma);
+        }
+    }
+
+    // 쉼표와 그 뒤의 공백 문자(\s) 다음 위치
+    private static int separatorEnd(String text, int comma) {
+        int i = comma + 1;
+        while (i < text.length() && isRegexWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    // 정규식 \s 와 같은 공백 문자 집합
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // "<[^>]*>" 제거 (닫는 '>'가 없는 '<'부터는 그대로 유지)
+    private static String stripTags(String text, int firstTag) {
+        StringBuilder sb = new StringBuilder(text.length());
+        sb.append(text, 0, firstTag);
+        int i = firstTag;
+        int length = text.length();
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                int close = text.indexOf('>', i + 1);
+                if (close < 0) {
+                    sb.append(text, i, length);
+                    break;
+                }
+                i = close + 1;
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 분리된 주소
+     * @param simple 간단 주소
+     * @param detail 상세 주소
+     */
+    public record Address(String simple, String detail) {
+    }
+}
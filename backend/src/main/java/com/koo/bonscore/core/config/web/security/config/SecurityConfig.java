@@ -5,6 +5,7 @@ import com.koo.bonscore.core.config.web.security.filter.JwtAuthenticationFilter;
 import com.koo.bonscore.core.config.web.security.filter.RedirectValidationFilter;
 import com.koo.bonscore.core.config.web.security.handler.CustomAccessDeniedHandler;
 import com.koo.bonscore.core.config.web.security.handler.OAuth2LoginSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -68,6 +69,7 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // JWT 인증 필터 추가
                 .addFilterBefore(new RedirectValidationFilter(), JwtAuthenticationFilter.class) // 검증되지 않은 리다이렉트 및 포워드 방어
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()       // SSE 등 비동기 응답 완료 시 재디스패치 (최초 요청에서 인가 완료)
                         .requestMatchers("/login/oauth2/**", "/oauth2/**").permitAll()// oauth 인증(social)
                         .requestMatchers("/api/auth/**").permitAll()                    // 로그인 API는 인증 없이 허용
                         .requestMatchers("/api/public-key/**").permitAll()              // 공개키 get
@@ -61,9 +61,13 @@ public enum ErrorCode {
     // 409 Conflict
     PREVENT_DOUBLE_REQUEST(HttpStatus.CONFLICT, "ER_009", "이미 처리 중인 요청입니다. 잠시 후 다시 시도해주세요."),
 
+    // 429 Too Many Requests
+    API_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "EX_002", "외부 API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
     // 503 Service Unavailable (예시)
     FILE_STORAGE_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "F002", "파일 저장에 실패했습니다."),
-    KAKAO_API_FAILURE(HttpStatus.SERVICE_UNAVAILABLE, "EX_001", "외부 API 연동 중 오류가 발생했습니다. (카카오 지도)");
+    KAKAO_API_FAILURE(HttpStatus.SERVICE_UNAVAILABLE, "EX_001", "외부 API 연동 중 오류가 발생했습니다. (카카오 지도)"),
+    API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EX_003", "외부 API가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
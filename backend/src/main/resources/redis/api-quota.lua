@@ -0,0 +1,49 @@
+-- 외부 API 호출 한도 (토큰 버킷 + 일일 예산)
+-- KEYS[1] : 토큰 버킷 (hash: tokens, ts)
+-- KEYS[2] : 일일 사용량 카운터
+-- ARGV[1] : 초당 허용 호출 수 (0 이하면 초당 제한 없음)
+-- ARGV[2] : 버킷 최대 크기 (burst)
+-- ARGV[3] : 일일 예산 (0 이하면 일일 제한 없음)
+-- ARGV[4] : 일일 카운터 TTL (초)
+-- 반환 : { 허용 여부(1/0), 다시 시도까지 대기 시간(ms, 일일 예산 소진이면 -1), 오늘 사용량 }
+
+-- 모든 노드가 같은 시계를 쓰도록 Redis 서버 시간을 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local rate = tonumber(ARGV[1])
+local burst = tonumber(ARGV[2])
+local budget = tonumber(ARGV[3])
+
+local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+if budget > 0 and used >= budget then
+    return { 0, -1, used }
+end
+
+if rate > 0 then
+    local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+    local tokens = tonumber(bucket[1])
+    local ts = tonumber(bucket[2])
+    if tokens == nil or ts == nil then
+        tokens = burst
+        ts = now
+    end
+
+    tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+    local ttl = math.ceil(burst / rate * 1000) + 1000
+
+    if tokens < 1 then
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+        redis.call('PEXPIRE', KEYS[1], ttl)
+        return { 0, math.ceil((1 - tokens) * 1000 / rate), used }
+    end
+
+    redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - 1), 'ts', now)
+    redis.call('PEXPIRE', KEYS[1], ttl)
+end
+
+used = redis.call('INCR', KEYS[2])
+if used == 1 then
+    redis.call('EXPIRE', KEYS[2], tonumber(ARGV[4]))
+end
+return { 1, 0, used }
@@ -0,0 +1,116 @@
+package com.koo.bonscore.biz.analysis.autocomplete;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.biz.analysis.dto.StoreSuggestionDto;
+import com.koo.bonscore.common.api.naver.dto.NaverItemDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StoreAutocompleteIndex 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 입력 중인 글자(초성/받침만 입력, 겹모음 입력 중)와 이름 중 단어의 접두어로도 제안한다
+ *  - 같은 가게가 다시 검색되면 점수가 올라 먼저 제안되고, 최대 제안 수를 넘지 않는다
+ *  - 최대 가게 수를 넘으면 점수가 낮은 가게부터 제거한다
+ *  - 스냅샷으로 저장한 색인을 다시 불러올 수 있다
+ */
+@DisplayName("StoreAutocompleteIndex")
+class StoreAutocompleteIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("입력 중인 글자와 이름 중 단어의 접두어로 제안한다")
+    void suggest_MatchesPartialSyllablesAndWordStarts() {
+        StoreAutocompleteIndex index = index(properties());
+        index.addAll(List.of(item("<b>본스</b> 커피 강남점"), item("과일&amp;빙수"), item("닭갈비 본가")));
+
+        assertThat(names(index.suggest("본ㅅ"))).containsExactly("본스 커피 강남점");
+        assertThat(names(index.suggest("본스커"))).containsExactly("본스 커피 강남점");
+        assertThat(names(index.suggest("커피 강"))).containsExactly("본스 커피 강남점");
+        assertThat(names(index.suggest("고"))).containsExactly("과일&빙수");
+        assertThat(names(index.suggest("달"))).containsExactly("닭갈비 본가");
+        assertThat(names(index.suggest("본"))).containsExactlyInAnyOrder("본스 커피 강남점", "닭갈비 본가");
+        assertThat(index.suggest("카페")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자주 검색된 가게를 먼저 제안하고, 최대 제안 수만큼만 반환한다")
+    void suggest_OrdersByScoreAndLimitsSuggestions() {
+        StoreAutocompleteProperties properties = properties();
+        properties.setMaxSuggestions(2);
+        StoreAutocompleteIndex index = index(properties);
+
+        index.addAll(List.of(item("스타벅스 강남점"), item("스타벅스 역삼점"), item("스시 오마카세")));
+        index.addAll(List.of(item("스시 오마카세")));
+        index.addAll(List.of(item("스시 오마카세"), item("스타벅스 역삼점")));
+
+        assertThat(names(index.suggest("스"))).containsExactly("스시 오마카세", "스타벅스 역삼점");
+        assertThat(names(index.suggest("스타"))).containsExactly("스타벅스 역삼점", "스타벅스 강남점");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("최대 가게 수를 넘으면 점수가 낮은 가게부터 제거한다")
+    void addAll_WhenFull_PrunesLowestScores() {
+        StoreAutocompleteProperties properties = properties();
+        properties.setMaxEntries(10);
+        StoreAutocompleteIndex index = index(properties);
+        index.addAll(List.of(item("인기 식당")));
+        index.addAll(List.of(item("인기 식당")));
+
+        List<NaverItemDto> others = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            others.add(item("식당 " + i + "호점"));
+        }
+        index.addAll(others);
+
+        assertThat(index.size()).isEqualTo(9);
+        assertThat(names(index.suggest("인기"))).containsExactly("인기 식당");
+        assertThat(index.suggest("식당")).hasSize(9);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 색인을 다시 불러온다")
+    void saveSnapshot_ThenLoadSnapshot_RestoresIndex() {
+        StoreAutocompleteProperties properties = properties();
+        StoreAutocompleteIndex index = index(properties);
+        index.addAll(List.of(item("스타벅스 강남점"), item("스타벅스 역삼점")));
+        index.addAll(List.of(item("스타벅스 역삼점")));
+        index.saveSnapshot();
+
+        StoreAutocompleteIndex restored = index(properties);
+        restored.loadSnapshot();
+
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(names(restored.suggest("스타"))).containsExactly("스타벅스 역삼점", "스타벅스 강남점");
+        assertThat(restored.suggest("역삼").get(0).getSimpleAddress()).isEqualTo("서울특별시 강남구");
+    }
+
+    private StoreAutocompleteProperties properties() {
+        StoreAutocompleteProperties properties = new StoreAutocompleteProperties();
+        properties.setSnapshotPath(tempDir.resolve("autocomplete/stores.json").toString());
+        return properties;
+    }
+
+    private static StoreAutocompleteIndex index(StoreAutocompleteProperties properties) {
+        return new StoreAutocompleteIndex(properties, new ObjectMapper());
+    }
+
+    private static NaverItemDto item(String title) {
+        return new NaverItemDto(title, "서울특별시 강남구 테헤란로 123", "서울특별시 강남구 역삼동 1-1");
+    }
+
+    private static List<String> names(List<StoreSuggestionDto> suggestions) {
+        return suggestions.stream().map(StoreSuggestionDto::getName).toList();
+    }
+}
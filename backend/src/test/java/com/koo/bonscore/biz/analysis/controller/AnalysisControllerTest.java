@@ -0,0 +1,191 @@
+package com.koo.bonscore.biz.analysis.controller;
+
+import com.koo.bonscore.biz.analysis.hot.HotStoreTracker;
+import com.koo.bonscore.biz.analysis.service.AnalysisService;
+import com.koo.bonscore.biz.analysis.service.FullAnalysisService;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureStore;
+import com.koo.bonscore.biz.auth.service.CustomOAuth2UserService;
+import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
+import com.koo.bonscore.common.api.google.service.GooglePlacesService;
+import com.koo.bonscore.common.api.kakao.recomend.service.StoreRecommendationService;
+import com.koo.bonscore.common.api.kma.holiday.service.HolidayService;
+import com.koo.bonscore.common.api.kma.weather.dto.WeatherResponseDto;
+import com.koo.bonscore.common.api.kma.weather.service.WeatherService;
+import com.koo.bonscore.common.api.naver.NaverDataLabService;
+import com.koo.bonscore.core.config.web.WebConfig;
+import com.koo.bonscore.core.config.web.security.config.JwtTokenProvider;
+import com.koo.bonscore.core.config.web.security.config.LoginSessionManager;
+import com.koo.bonscore.core.config.web.security.config.SecurityConfig;
+import com.koo.bonscore.core.config.web.security.handler.CustomAccessDeniedHandler;
+import com.koo.bonscore.core.config.web.security.handler.OAuth2LoginSuccessHandler;
+import com.koo.bonscore.log.service.UserActivityLogService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.oauth2.client.servlet.OAuth2ClientAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * AnalysisController 통합 분석 스트리밍(SSE) 슬라이스 테스트
+ *
+ * 실제 SecurityConfig와 FullAnalysisService를 로드하고, 섹션 조회 서비스만 Mock으로 대체한다.
+ *
+ * 핵심 검증 대상
+ *  - 섹션마다 이벤트 하나씩, 마지막에 complete 이벤트를 보낸다
+ *  - 타임아웃된 섹션은 실패 사유 timeout으로 전송된다
+ *  - 비동기 재디스패치(DispatcherType.ASYNC)는 통과하지만, 인증 없는 최초 요청은 스트리밍 없이 로그인 페이지로 리다이렉트된다
+ */
+@WebMvcTest(
+        value = AnalysisController.class,
+        excludeAutoConfiguration = OAuth2ClientAutoConfiguration.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebConfig.class),
+        properties = {"cors.allowed-origins=http://localhost:3000", "api.analysis.full-timeout-ms=300"}
+)
+@Import({SecurityConfig.class, CustomAccessDeniedHandler.class, FullAnalysisService.class, AnalysisControllerTest.SectionExecutorConfig.class})
+@DisplayName("AnalysisController")
+class AnalysisControllerTest {
+
+    private static final String STREAM_URL = "/api/analysis/full/stream";
+    private static final String TOKEN = "access-token";
+    private static final String[] SECTIONS = {"details", "weather", "holiday", "searchTrend", "openingInfo", "surroundings"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // 섹션 조회 서비스
+    @MockitoBean private AnalysisService analysisService;
+    @MockitoBean private WeatherService weatherService;
+    @MockitoBean private HolidayService holidayService;
+    @MockitoBean private NaverDataLabService naverDataLabService;
+    @MockitoBean private GooglePlacesService googlePlacesService;
+    @MockitoBean private StoreFeatureStore storeFeatureStore;
+
+    // AnalysisController의 나머지 의존 빈
+    @MockitoBean private StoreRecommendationService storeRecommendationService;
+    @MockitoBean private HotStoreTracker hotStoreTracker;
+
+    // SecurityConfig, JwtAuthenticationFilter가 의존하는 빈
+    @MockitoBean private JwtTokenProvider jwtTokenProvider;
+    @MockitoBean private LoginSessionManager loginSessionManager;
+    @MockitoBean private CustomOAuth2UserService customOAuth2UserService;
+    @MockitoBean private OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+    @MockitoBean private ClientRegistrationRepository clientRegistrationRepository;
+    @MockitoBean private UserActivityLogService userActivityLogService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        given(googlePlacesService.getStoreOpeningHours(any(), any(), any())).willReturn(StoreHoursResponseDto.notFound());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("섹션마다 이벤트를 보내고, 마지막에 complete 이벤트를 보낸다")
+    void streamFullAnalysis_SendsEventPerSectionThenComplete() throws Exception {
+        // given
+        given(weatherService.getTodayWeather("서울 강남구")).willReturn(WeatherResponseDto.builder().temperature("21").build());
+
+        // when
+        String body = stream();
+
+        // then
+        for (String section : SECTIONS) {
+            assertThat(body).contains("event:" + section + "\n");
+        }
+        assertThat(body).contains("event:complete\ndata:{\"sections\":6}");
+        assertThat(body.indexOf("event:complete")).isGreaterThan(body.lastIndexOf("\"success\":true"));
+        assertThat(body).doesNotContain("\"success\":false");
+    }
+
+    @Test
+    @DisplayName("타임아웃된 섹션은 timeout 사유로 전송되고, 나머지 섹션은 그대로 전송된다")
+    void streamFullAnalysis_WhenSectionTimesOut_SendsTimeoutEvent() throws Exception {
+        // given - 날씨 조회가 섹션 타임아웃(300ms)보다 오래 걸림
+        given(weatherService.getTodayWeather(any())).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return WeatherResponseDto.builder().temperature("21").build();
+        });
+
+        // when
+        String body = stream();
+
+        // then
+        assertThat(body).contains("event:weather\ndata:{\"success\":false,\"data\":null,\"errorMessage\":\"timeout\"}");
+        assertThat(body).contains("event:holiday\ndata:{\"success\":true");
+        assertThat(body).endsWith("event:complete\ndata:{\"sections\":6}\n\n");
+    }
+
+    @Test
+    @DisplayName("인증 없는 요청은 스트리밍을 시작하지 않고 로그인 페이지로 리다이렉트된다")
+    void streamFullAnalysis_WhenUnauthenticated_IsRejected() throws Exception {
+        mockMvc.perform(get(STREAM_URL).param("name", "본스 커피").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is3xxRedirection());
+
+        then(weatherService).shouldHaveNoInteractions();
+    }
+
+    /**
+     * JWT로 인증한 요청으로 스트리밍을 시작하고, 비동기 재디스패치까지 마친 응답 본문을 반환
+     * JWT 필터는 비동기 재디스패치에서 다시 실행되지 않으므로, 재디스패치는 DispatcherType.ASYNC 허용 설정으로만 통과한다.
+     */
+    private String stream() throws Exception {
+        Claims claims = Jwts.claims().setSubject("tester");
+        claims.put("roles", List.of("USER"));
+        given(jwtTokenProvider.resolveToken(any())).willReturn(TOKEN);
+        given(jwtTokenProvider.validateToken(TOKEN)).willReturn(true);
+        given(jwtTokenProvider.getClaims(TOKEN)).willReturn(claims);
+
+        MvcResult started = mockMvc.perform(get(STREAM_URL)
+                        .param("name", "본스 커피")
+                        .param("simpleAddress", "서울 강남구")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Authorization", "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk());
+        return started.getResponse().getContentAsString();
+    }
+
+    @TestConfiguration
+    static class SectionExecutorConfig {
+
+        @Bean(destroyMethod = "shutdownNow")
+        ExecutorService analysisSectionExecutor() {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.koo.bonscore.biz.analysis.feature;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * StoreFeatureStore 단위 테스트 (Redis는 mock)
+ *
+ * 핵심 검증 대상
+ *  - 유효 시간이 지나지 않은 피처는 외부 조회 없이 저장된 값을 반환한다
+ *  - 유효 시간이 지난 피처만 다시 조회하여 해당 필드와 갱신 시각을 저장한다 (이미 오래된 값은 그 나이만큼 앞당긴 시각)
+ *  - 불완전한 결과는 저장하지 않고, Redis 장애 시에도 조회 결과를 반환한다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreFeatureStore")
+class StoreFeatureStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-17T03:00:00Z");
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private StoreFeatureStore store;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        store = new StoreFeatureStore(redisTemplate, new StoreFeatureProperties(), new ObjectMapper(),
+                Clock.fixed(NOW, ZoneId.of("Asia/Seoul")));
+        key = store.keyOf("테스트 식당", "서울 종로구");
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("가게명과 주소는 공백과 대소문자를 정규화하여 같은 레코드로 본다")
+    void keyOf_NormalizesNameAndAddress() {
+        assertThat(store.keyOf("  테스트   식당 ", "서울  종로구")).isEqualTo(key);
+        assertThat(store.keyOf("Test Cafe", "Seoul")).isEqualTo(store.keyOf("test cafe", "SEOUL"));
+        assertThat(store.keyOf("테스트 식당", "서울 중구")).isNotEqualTo(key);
+    }
+
+    @Test
+    @DisplayName("유효한 피처가 있으면 외부 조회 없이 저장된 값을 반환한다")
+    void getOrLoad_WhenFresh_ReturnsStoredValue() {
+        stored(StoreFeature.SURROUNDINGS, "{\"hotPlaceCount\":16,\"competitorCount\":9,\"subwayStationCount\":2,"
+                + "\"universityCount\":0,\"officeBuildingCount\":7}", NOW.minus(Duration.ofDays(6)));
+        AtomicInteger loads = new AtomicInteger();
+
+        SurroundingDataDto result = store.getOrLoad(key, StoreFeature.SURROUNDINGS, SurroundingDataDto.class,
+                () -> { loads.incrementAndGet(); return SurroundingDataDto.builder().build(); }, data -> true);
+
+        assertThat(result.getHotPlaceCount()).isEqualTo(16);
+        assertThat(result.getOfficeBuildingCount()).isEqualTo(7);
+        assertThat(loads).hasValue(0);
+        then(hashOperations).should(never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 피처는 다시 조회하여 값과 갱신 시각을 저장한다")
+    void getOrLoad_WhenStale_LoadsAndStores() {
+        stored(StoreFeature.BLOG_COUNT, "120", NOW.minus(Duration.ofHours(13)));
+
+        Integer result = store.getOrLoad(key, StoreFeature.BLOG_COUNT, Integer.class, () -> 150, count -> true);
+
+        assertThat(result).isEqualTo(150);
+        then(hashOperations).should().putAll(key, Map.of(
+                "blogCount", "150",
+                "blogCount.at", Long.toString(NOW.toEpochMilli())));
+        then(redisTemplate).should().expire(key, Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("이미 오래된 값은 갱신 시각을 그 나이만큼 앞당겨 저장하여 남은 유효 시간 동안만 사용한다")
+    void put_WithAge_BackdatesUpdatedAt() {
+        store.put(key, StoreFeature.BLOG_COUNT, 120, Duration.ofHours(13));
+
+        then(hashOperations).should().putAll(key, Map.of(
+                "blogCount", "120",
+                "blogCount.at", Long.toString(NOW.minus(Duration.ofHours(13)).toEpochMilli())));
+    }
+
+    @Test
+    @DisplayName("저장 대상이 아닌 결과는 저장하지 않고, Redis 장애 시에도 조회 결과를 반환한다")
+    void getOrLoad_WhenNotCacheableOrRedisDown_ReturnsLoadedValue() {
+        given(hashOperations.multiGet(eq(key), anyCollection())).willReturn(Arrays.asList(null, null));
+
+        SurroundingDataDto unknown = store.getOrLoad(key, StoreFeature.SURROUNDINGS, SurroundingDataDto.class,
+                () -> SurroundingDataDto.builder().hotPlaceCount(3).build(), data -> data.getCompetitorCount() != null);
+        assertThat(unknown.getHotPlaceCount()).isEqualTo(3);
+        then(hashOperations).should(never()).putAll(anyString(), anyMap());
+
+        given(hashOperations.multiGet(eq(key), anyCollection())).willThrow(new RedisConnectionFailureException("down"));
+        willThrow(new RedisConnectionFailureException("down")).given(hashOperations).putAll(anyString(), anyMap());
+
+        assertThat(store.getOrLoad(key, StoreFeature.BLOG_COUNT, Integer.class, () -> 42, count -> true)).isEqualTo(42);
+    }
+
+    private void stored(StoreFeature feature, String json, Instant updatedAt) {
+        given(hashOperations.multiGet(key, List.of(feature.field(), feature.timestampField())))
+                .willReturn(List.of(json, Long.toString(updatedAt.toEpochMilli())));
+    }
+}
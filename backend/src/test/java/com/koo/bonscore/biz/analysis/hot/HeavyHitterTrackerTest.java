@@ -0,0 +1,76 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import com.koo.bonscore.biz.analysis.hot.HeavyHitterTracker.HeavyHitter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HeavyHitterTracker 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 추정 빈도는 실제 빈도보다 작지 않다
+ *  - 소수의 인기 키에 요청이 몰린 스트림에서 상위 K개에 인기 키가 모두 포함된다
+ *  - decay() 후 빈도가 절반으로 줄고, 0이 된 항목은 top-K에서 제거된다
+ *  - String.hashCode()가 같은 키끼리 카운터를 공유하지 않는다
+ */
+@DisplayName("HeavyHitterTracker")
+class HeavyHitterTrackerTest {
+
+    @Test
+    @DisplayName("긴 꼬리 분포의 스트림에서 인기 키를 찾고, 추정 빈도는 실제 빈도 이상이다")
+    void record_FindsHeavyHittersWithoutUnderestimating() {
+        HeavyHitterTracker<String> tracker = new HeavyHitterTracker<>(5, 256, 4);
+        Map<String, Integer> actual = new HashMap<>();
+        Random random = new Random(42);
+
+        // 인기 가게 5곳이 각 200회, 나머지 2000곳이 드물게 요청됨
+        for (int i = 0; i < 5000; i++) {
+            String key = (i % 5 == 0) ? "hot-" + (i / 5 % 5) : "tail-" + random.nextInt(2000);
+            actual.merge(key, 1, Integer::sum);
+            tracker.record(key, key);
+        }
+
+        List<HeavyHitter<String>> top = tracker.top();
+        assertThat(top).extracting(HeavyHitter::key)
+                .containsExactlyInAnyOrder("hot-0", "hot-1", "hot-2", "hot-3", "hot-4");
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(top.get(top.size() - 1).count());
+        actual.forEach((key, count) -> assertThat(tracker.estimate(key)).isGreaterThanOrEqualTo(count));
+    }
+
+    @Test
+    @DisplayName("decay() 후 빈도가 절반으로 줄고, 0이 된 항목은 제거된다")
+    void decay_HalvesCountsAndDropsZeroEntries() {
+        HeavyHitterTracker<String> tracker = new HeavyHitterTracker<>(3, 64, 4);
+        for (int i = 0; i < 10; i++) {
+            tracker.record("hot", "최신 값 " + i);
+        }
+        tracker.record("once", "한 번");
+
+        tracker.decay();
+
+        assertThat(tracker.top()).containsExactly(new HeavyHitter<>("hot", "최신 값 9", 5));
+        assertThat(tracker.estimate("hot")).isEqualTo(5);
+        assertThat(tracker.estimate("once")).isZero();
+    }
+
+    @Test
+    @DisplayName("String.hashCode()가 같은 키도 서로 다른 카운터로 집계된다")
+    void record_KeysWithSameHashCodeDoNotShareCounters() {
+        HeavyHitterTracker<String> tracker = new HeavyHitterTracker<>(3, 1024, 4);
+        assertThat("AaAa".hashCode()).isEqualTo("BBBB".hashCode());
+
+        for (int i = 0; i < 100; i++) {
+            tracker.record("AaAa", "AaAa");
+        }
+
+        assertThat(tracker.estimate("AaAa")).isEqualTo(100);
+        assertThat(tracker.estimate("BBBB")).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package com.koo.bonscore.biz.analysis.hot;
+
+import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.hot.HotStoreTracker.HotStore;
+import com.koo.bonscore.biz.analysis.service.FullAnalysisService;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * HotStoreWarmer 단위 테스트 (FullAnalysisService는 mock)
+ *
+ * 핵심 검증 대상
+ *  - min-hits 이상 요청된 인기 가게만 피처를 미리 갱신하고, 갱신한 피처 수를 피처별 지표로 남긴다
+ *  - 1회 갱신에서 다시 조회한 피처 수가 max-refreshes-per-run에 도달하면 남은 가게는 갱신하지 않는다
+ *  - 호출 한도 초과/서킷 오픈(BsCoreException) 시 갱신을 중단하고, 그 외 실패는 해당 가게만 건너뛴다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotStoreWarmer")
+class HotStoreWarmerTest {
+
+    @Mock private FullAnalysisService fullAnalysisService;
+
+    private HotStoreProperties properties;
+    private HotStoreTracker hotStoreTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private HotStoreWarmer hotStoreWarmer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HotStoreProperties();
+        hotStoreTracker = new HotStoreTracker(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        hotStoreWarmer = new HotStoreWarmer(hotStoreTracker, fullAnalysisService, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("min-hits 이상 요청된 가게만 피처를 갱신하고, 갱신한 피처를 지표로 남긴다")
+    void warm_RefreshesOnlyHotStoresAndRecordsMetrics() {
+        // given - 인기 가게 5회, 한 번만 요청된 가게 1회 (min-hits 3)
+        for (int i = 0; i < 5; i++) {
+            hotStoreTracker.recordStore(request("본스 커피"));
+        }
+        hotStoreTracker.recordStore(request("한 번 온 식당"));
+        given(fullAnalysisService.refreshFeatures(any(), eq(properties.getRefreshAhead())))
+                .willReturn(new ArrayList<>(List.of(StoreFeature.BLOG_COUNT, StoreFeature.SEARCH_TREND)));
+
+        // when
+        hotStoreWarmer.warm();
+
+        // then
+        then(fullAnalysisService).should(times(1)).refreshFeatures(argThat(request -> "본스 커피".equals(request.getName())), any());
+        then(fullAnalysisService).should(never()).refreshFeatures(argThat(request -> "한 번 온 식당".equals(request.getName())), any());
+        assertThat(meterRegistry.counter("analysis.hot-store.refresh", "feature", "blogCount").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("analysis.hot-store.refresh", "feature", "searchTrend").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 조회한 피처 수가 한도에 도달하면 남은 가게는 갱신하지 않는다")
+    void warm_StopsWhenBudgetIsSpent() {
+        // given
+        given(fullAnalysisService.refreshFeatures(any(), any()))
+                .willReturn(new ArrayList<>(List.of(StoreFeature.BLOG_COUNT, StoreFeature.SURROUNDINGS)));
+
+        // when
+        int refreshed = hotStoreWarmer.warm(List.of(store("가게 1"), store("가게 2"), store("가게 3")), 3);
+
+        // then - 가게 단위로 확인하므로 한도(3)를 넘은 두 번째 가게까지 갱신
+        assertThat(refreshed).isEqualTo(4);
+        then(fullAnalysisService).should(times(2)).refreshFeatures(any(), any());
+    }
+
+    @Test
+    @DisplayName("호출 한도 초과/서킷 오픈 시 갱신을 중단하고, 그 외 실패는 해당 가게만 건너뛴다")
+    void warm_StopsOnQuotaOrCircuitFailureAndSkipsOtherFailures() {
+        // given
+        given(fullAnalysisService.refreshFeatures(any(), any()))
+                .willThrow(new IllegalStateException("일시적 오류"))
+                .willReturn(new ArrayList<>(List.of(StoreFeature.BLOG_COUNT)))
+                .willThrow(new BsCoreException(ErrorCode.API_UNAVAILABLE));
+
+        // when
+        int refreshed = hotStoreWarmer.warm(List.of(store("가게 1"), store("가게 2"), store("가게 3"), store("가게 4")), 100);
+
+        // then
+        assertThat(refreshed).isEqualTo(1);
+        then(fullAnalysisService).should(times(3)).refreshFeatures(any(), any());
+    }
+
+    private static StoreDetailRequestDto request(String name) {
+        return StoreDetailRequestDto.builder().name(name).simpleAddress("서울 강남구").lang("ko").build();
+    }
+
+    private static HotStore store(String name) {
+        return new HotStore(name, "서울 강남구", null, "ko");
+    }
+}
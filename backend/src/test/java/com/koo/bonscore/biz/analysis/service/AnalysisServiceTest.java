@@ -0,0 +1,288 @@
+package com.koo.bonscore.biz.analysis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.biz.analysis.autocomplete.StoreAutocompleteIndex;
+import com.koo.bonscore.biz.analysis.autocomplete.StoreAutocompleteProperties;
+import com.koo.bonscore.biz.analysis.dto.StoreAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.dto.StoreSuggestionDto;
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureProperties;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureStore;
+import com.koo.bonscore.common.api.google.service.GoogleTranslateService;
+import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
+import com.koo.bonscore.common.api.kakao.surround.service.KakaoMapService;
+import com.koo.bonscore.common.api.naver.NaverApiClient;
+import com.koo.bonscore.common.api.naver.cache.NaverBlogCountCache;
+import com.koo.bonscore.common.api.naver.dto.NaverApiResponseDto;
+import com.koo.bonscore.common.api.naver.dto.NaverItemDto;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * AnalysisService 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - getSurroundingData() : 카테고리별 병렬 조회 결과 취합, 일부 카테고리 실패 시 해당 카운트만 null,
+ *                          가게 좌표 조회 실패 시 모든 카운트 null
+ *  - autocompleteStores() : 색인에 있는 검색어는 네이버 검색 없이 제안, 색인에 없는 검색어만 네이버 검색 후 색인
+ *  - analyzeStoreDetails(): 캐시에서 조회한 블로그 리뷰 수는 캐시에 저장된 후 지난 시간만큼 오래된 값으로 가게 피처 저장소에 저장
+ *  - refreshFeatures()    : 만료가 가까운 블로그 리뷰 수는 로컬 캐시를 거치지 않고 다시 조회하여 저장
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisService")
+class AnalysisServiceTest {
+
+    private AnalysisService analysisService;
+
+    @Mock private NaverApiClient naverApiClient;
+    @Mock private NaverBlogCountCache naverBlogCountCache;
+    @Mock private KakaoMapService kakaoMapService;
+    @Mock private GoogleTranslateService googleTranslateService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 호출 스레드에서 바로 실행되는 Executor, 가게 피처 저장소는 사용하지 않음, 자동완성 색인은 스냅샷 없이 메모리만 사용
+        StoreFeatureProperties featureProperties = new StoreFeatureProperties();
+        featureProperties.setEnabled(false);
+        StoreFeatureStore storeFeatureStore = new StoreFeatureStore(mock(StringRedisTemplate.class), featureProperties, new ObjectMapper());
+        StoreAutocompleteIndex storeAutocompleteIndex = new StoreAutocompleteIndex(new StoreAutocompleteProperties(), new ObjectMapper());
+        analysisService = new AnalysisService(naverApiClient, naverBlogCountCache, kakaoMapService, googleTranslateService,
+                storeFeatureStore, storeAutocompleteIndex, Runnable::run);
+        ReflectionTestUtils.setField(analysisService, "surroundingCallTimeoutMs", 1000L);
+    }
+
+    // ===== 가게 검색 자동완성 =====
+
+    @Nested
+    @DisplayName("가게 검색 자동완성 - autocompleteStores()")
+    class AutocompleteStoresTest {
+
+        @Test
+        @DisplayName("색인에 없는 검색어는 네이버 검색 결과를 색인하고, 이후 입력 중인 검색어는 네이버 검색 없이 제안한다")
+        void autocompleteStores_WhenMissed_IndexesNaverResultsAndServesLaterPrefixes() {
+            // given
+            given(naverApiClient.searchLocal("본스")).willReturn(new NaverApiResponseDto(1, List.of(
+                    new NaverItemDto("<b>본스</b> 커피 강남점", "서울특별시 강남구 테헤란로 123", "서울특별시 강남구 역삼동 1-1"))));
+
+            // when
+            List<StoreSuggestionDto> missed = analysisService.autocompleteStores("본스");
+            List<StoreSuggestionDto> typing = analysisService.autocompleteStores("본스 커ㅍ");
+            List<StoreSuggestionDto> word = analysisService.autocompleteStores("강남");
+
+            // then
+            assertThat(missed).extracting(StoreSuggestionDto::getName).containsExactly("본스 커피 강남점");
+            assertThat(typing).extracting(StoreSuggestionDto::getName).containsExactly("본스 커피 강남점");
+            assertThat(word).extracting(StoreSuggestionDto::getName).containsExactly("본스 커피 강남점");
+            then(naverApiClient).should(times(1)).searchLocal(anyString());
+        }
+
+        @Test
+        @DisplayName("색인에 없는 짧은 검색어(1자)는 네이버 검색으로 넘기지 않는다")
+        void autocompleteStores_WhenQueryTooShort_DoesNotCallNaver() {
+            assertThat(analysisService.autocompleteStores("본")).isEmpty();
+            then(naverApiClient).should(never()).searchLocal(anyString());
+        }
+    }
+
+    // ===== 주변 상권 데이터 =====
+
+    @Nested
+    @DisplayName("주변 상권 데이터 - getSurroundingData()")
+    class GetSurroundingDataTest {
+
+        @Test
+        @DisplayName("모든 카테고리 조회에 성공하면 카운트를 합산하여 반환한다")
+        void getSurroundingData_WhenAllCallsSucceed_ReturnsCounts() {
+            // given
+            given(kakaoMapService.searchAndGetFirst("테스트 식당")).willReturn(store("FD6"));
+            given(kakaoMapService.searchByCategory(anyString(), anyString(), anyString(), anyInt()))
+                    .willAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+                        case "FD6" -> response(10);
+                        case "CE7" -> response(5);
+                        case "CT1" -> response(1);
+                        case "SW8" -> response(2);
+                        case "SC4" -> response(0);
+                        default -> response(0);
+                    });
+            given(kakaoMapService.searchByKeyword(eq("빌딩"), anyString(), anyString(), anyInt())).willReturn(response(7));
+
+            // when
+            SurroundingDataDto result = analysisService.getSurroundingData(request("테스트 식당"));
+
+            // then - 경쟁 가게 수는 자기 자신을 제외(FD6 10건 - 1)
+            assertThat(result.getHotPlaceCount()).isEqualTo(16);
+            assertThat(result.getCompetitorCount()).isEqualTo(9);
+            assertThat(result.getSubwayStationCount()).isEqualTo(2);
+            assertThat(result.getUniversityCount()).isZero();
+            assertThat(result.getOfficeBuildingCount()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("일부 카테고리 조회가 실패하면 해당 카운트만 null(알 수 없음)로 반환한다")
+        void getSurroundingData_WhenOneCategoryFails_ReturnsUnknownForThatCategory() {
+            // given
+            given(kakaoMapService.searchAndGetFirst("테스트 식당")).willReturn(store(null));
+            given(kakaoMapService.searchByCategory(anyString(), anyString(), anyString(), anyInt()))
+                    .willAnswer(invocation -> {
+                        if ("SW8".equals(invocation.getArgument(0))) {
+                            throw new BsCoreException(ErrorCode.KAKAO_API_FAILURE);
+                        }
+                        return response(3);
+                    });
+            given(kakaoMapService.searchByKeyword(eq("빌딩"), anyString(), anyString(), anyInt())).willReturn(response(1));
+
+            // when
+            SurroundingDataDto result = analysisService.getSurroundingData(request("테스트 식당"));
+
+            // then
+            assertThat(result.getSubwayStationCount()).isNull();
+            assertThat(result.getHotPlaceCount()).isEqualTo(9);
+            assertThat(result.getCompetitorCount()).isZero(); // 가게 카테고리가 없으면 0
+            assertThat(result.getUniversityCount()).isEqualTo(3);
+            assertThat(result.getOfficeBuildingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("가게 좌표를 찾지 못하면 모든 카운트를 0으로 반환하고 주변 검색을 하지 않는다")
+        void getSurroundingData_WhenStoreNotFound_ReturnsZeroCounts() {
+            // given
+            given(kakaoMapService.searchAndGetFirst(anyString())).willReturn(null);
+
+            // when
+            SurroundingDataDto result = analysisService.getSurroundingData(request("없는 식당"));
+
+            // then
+            assertThat(result.getHotPlaceCount()).isZero();
+            assertThat(result.getOfficeBuildingCount()).isZero();
+            then(kakaoMapService).should(never()).searchByCategory(anyString(), anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("가게 좌표 조회가 실패하면(서킷 오픈 등) 예외 대신 모든 카운트를 null(알 수 없음)로 반환한다")
+        void getSurroundingData_WhenKakaoUnavailable_ReturnsUnknownCounts() {
+            // given
+            given(kakaoMapService.searchAndGetFirst(anyString())).willThrow(new BsCoreException(ErrorCode.API_UNAVAILABLE));
+
+            // when
+            SurroundingDataDto result = analysisService.getSurroundingData(request("테스트 식당"));
+
+            // then
+            assertThat(result.getHotPlaceCount()).isNull();
+            assertThat(result.getCompetitorCount()).isNull();
+            assertThat(result.getOfficeBuildingCount()).isNull();
+            then(kakaoMapService).should(never()).searchByCategory(anyString(), anyString(), anyString(), anyInt());
+        }
+    }
+
+    // ===== 가게 상세 분석 =====
+
+    @Nested
+    @DisplayName("가게 상세 분석 - analyzeStoreDetails()")
+    class AnalyzeStoreDetailsTest {
+
+        @Test
+        @DisplayName("저장소에 유효한 블로그 리뷰 수가 없으면 캐시 값을 캐시에 저장된 후 지난 시간만큼 오래된 값으로 저장한다")
+        void analyzeStoreDetails_StoresCachedBlogCountWithItsAge() {
+            // given
+            StoreFeatureStore featureStore = mock(StoreFeatureStore.class);
+            AnalysisService service = new AnalysisService(naverApiClient, naverBlogCountCache, kakaoMapService, googleTranslateService,
+                    featureStore, new StoreAutocompleteIndex(new StoreAutocompleteProperties(), new ObjectMapper()), Runnable::run);
+            given(featureStore.keyOf("테스트 식당", "서울 종로구")).willReturn("store:feature:test");
+            given(naverBlogCountCache.getBlogCount("서울 종로구 테스트 식당")).willReturn(42);
+            given(naverBlogCountCache.ageOf("서울 종로구 테스트 식당")).willReturn(Duration.ofHours(13));
+
+            // when
+            StoreAnalysisResultDto result = service.analyzeStoreDetails(request("테스트 식당"));
+
+            // then
+            assertThat(result.getBlogReviewCount()).isEqualTo(42);
+            then(featureStore).should().put("store:feature:test", StoreFeature.BLOG_COUNT, 42, Duration.ofHours(13));
+        }
+
+        @Test
+        @DisplayName("저장소에 유효한 블로그 리뷰 수가 있으면 캐시를 조회하지 않는다")
+        void analyzeStoreDetails_WhenStoredCountIsFresh_SkipsCache() {
+            // given
+            StoreFeatureStore featureStore = mock(StoreFeatureStore.class);
+            AnalysisService service = new AnalysisService(naverApiClient, naverBlogCountCache, kakaoMapService, googleTranslateService,
+                    featureStore, new StoreAutocompleteIndex(new StoreAutocompleteProperties(), new ObjectMapper()), Runnable::run);
+            given(featureStore.keyOf("테스트 식당", "서울 종로구")).willReturn("store:feature:test");
+            given(featureStore.getFresh("store:feature:test", StoreFeature.BLOG_COUNT, Integer.class)).willReturn(7);
+
+            // when
+            StoreAnalysisResultDto result = service.analyzeStoreDetails(request("테스트 식당"));
+
+            // then
+            assertThat(result.getBlogReviewCount()).isEqualTo(7);
+            then(naverBlogCountCache).shouldHaveNoInteractions();
+        }
+    }
+
+    // ===== 인기 가게 피처 미리 갱신 =====
+
+    @Nested
+    @DisplayName("인기 가게 피처 미리 갱신 - refreshFeatures()")
+    class RefreshFeaturesTest {
+
+        @Test
+        @DisplayName("만료가 가까운 블로그 리뷰 수는 로컬 캐시 값 대신 다시 조회한 값을 저장하고, 유효한 피처는 다시 조회하지 않는다")
+        void refreshFeatures_RefreshesBlogCountBypassingLocalCache() {
+            // given
+            StoreFeatureStore featureStore = mock(StoreFeatureStore.class);
+            AnalysisService service = new AnalysisService(naverApiClient, naverBlogCountCache, kakaoMapService, googleTranslateService,
+                    featureStore, new StoreAutocompleteIndex(new StoreAutocompleteProperties(), new ObjectMapper()), Runnable::run);
+            StoreDetailRequestDto request = request("테스트 식당");
+            Duration refreshAhead = Duration.ofHours(1);
+            given(featureStore.keyOf("테스트 식당", "서울 종로구")).willReturn("store:feature:test");
+            given(featureStore.expiresWithin("store:feature:test", StoreFeature.BLOG_COUNT, refreshAhead)).willReturn(true);
+            given(naverBlogCountCache.refreshBlogCount("서울 종로구 테스트 식당")).willReturn(42);
+
+            // when
+            List<StoreFeature> refreshed = service.refreshFeatures(request, refreshAhead);
+
+            // then
+            assertThat(refreshed).containsExactly(StoreFeature.BLOG_COUNT);
+            then(featureStore).should().put("store:feature:test", StoreFeature.BLOG_COUNT, 42);
+            then(naverBlogCountCache).should(never()).getBlogCount(anyString());
+            then(kakaoMapService).shouldHaveNoInteractions();
+        }
+    }
+
+    private static StoreDetailRequestDto request(String name) {
+        return StoreDetailRequestDto.builder().name(name).simpleAddress("서울 종로구").build();
+    }
+
+    private static KakaoMapResponse.Document store(String categoryCode) {
+        KakaoMapResponse.Document document = new KakaoMapResponse.Document();
+        document.setX("126.98");
+        document.setY("37.57");
+        document.setCategoryGroupCode(categoryCode);
+        return document;
+    }
+
+    private static KakaoMapResponse response(int totalCount) {
+        KakaoMapResponse.Meta meta = new KakaoMapResponse.Meta();
+        meta.setTotalCount(totalCount);
+        KakaoMapResponse response = new KakaoMapResponse();
+        response.setMeta(meta);
+        response.setDocuments(List.of());
+        return response;
+    }
+}
@@ -0,0 +1,218 @@
+package com.koo.bonscore.biz.analysis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koo.bonscore.biz.analysis.dto.AnalysisSectionDto;
+import com.koo.bonscore.biz.analysis.dto.FullAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.StoreAnalysisResultDto;
+import com.koo.bonscore.biz.analysis.dto.StoreDetailRequestDto;
+import com.koo.bonscore.biz.analysis.feature.StoreFeature;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureProperties;
+import com.koo.bonscore.biz.analysis.feature.StoreFeatureStore;
+import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
+import com.koo.bonscore.common.api.google.service.GooglePlacesService;
+import com.koo.bonscore.common.api.kakao.surround.dto.SurroundingDataDto;
+import com.koo.bonscore.common.api.kma.holiday.dto.res.HolidayResponseDto;
+import com.koo.bonscore.common.api.kma.holiday.service.HolidayService;
+import com.koo.bonscore.common.api.kma.weather.dto.WeatherResponseDto;
+import com.koo.bonscore.common.api.kma.weather.service.WeatherService;
+import com.koo.bonscore.common.api.naver.NaverDataLabService;
+import com.koo.bonscore.common.api.naver.dto.datalab.DataLabResponseDto;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * FullAnalysisService 단위 테스트 (외부 API 서비스는 mock, 섹션은 별도 스레드 풀에서 실행)
+ *
+ * 핵심 검증 대상
+ *  - analyzeAll() : 모든 섹션이 성공하면 섹션별 데이터를 취합한다
+ *  - 섹션별 타임아웃을 넘긴 섹션은 timeout으로 완료되고, 나머지 섹션은 기다리지 않는다
+ *  - 서킷 오픈 등으로 호출하지 않은 섹션은 unavailable, 그 외 실패는 error로 완료되며 예외 메시지는 전달하지 않는다
+ *  - refreshFeatures() : 만료가 가까운 피처만 로컬 캐시를 거치지 않는 조회로 다시 조회하고, API 오류는 저장하지 않는다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FullAnalysisService")
+class FullAnalysisServiceTest {
+
+    private static final long SECTION_TIMEOUT_MS = 300;
+
+    @Mock private AnalysisService analysisService;
+    @Mock private WeatherService weatherService;
+    @Mock private HolidayService holidayService;
+    @Mock private NaverDataLabService naverDataLabService;
+    @Mock private GooglePlacesService googlePlacesService;
+
+    private ExecutorService sectionExecutor;
+    private FullAnalysisService fullAnalysisService;
+    private StoreDetailRequestDto request;
+
+    @BeforeEach
+    void setUp() {
+        // 가게 피처 저장소는 사용하지 않음 (항상 외부 API 조회)
+        StoreFeatureProperties featureProperties = new StoreFeatureProperties();
+        featureProperties.setEnabled(false);
+        StoreFeatureStore storeFeatureStore = new StoreFeatureStore(mock(StringRedisTemplate.class), featureProperties, new ObjectMapper());
+
+        sectionExecutor = Executors.newCachedThreadPool();
+        fullAnalysisService = new FullAnalysisService(analysisService, weatherService, holidayService, naverDataLabService,
+                googlePlacesService, storeFeatureStore, sectionExecutor);
+        ReflectionTestUtils.setField(fullAnalysisService, "sectionTimeoutMs", SECTION_TIMEOUT_MS);
+
+        request = new StoreDetailRequestDto();
+        request.setName("테스트 식당");
+        request.setSimpleAddress("서울특별시 강남구");
+        request.setLang("ko");
+        given(analysisService.featureKeyOf(request)).willReturn("store:feature:test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        sectionExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 섹션이 성공하면 섹션별 데이터를 취합하여 반환한다")
+    void analyzeAll_WhenAllSectionsSucceed_ReturnsAllData() {
+        // given
+        StoreAnalysisResultDto details = new StoreAnalysisResultDto();
+        WeatherResponseDto weather = WeatherResponseDto.builder().build();
+        HolidayResponseDto holiday = new HolidayResponseDto();
+        DataLabResponseDto trend = new DataLabResponseDto();
+        StoreHoursResponseDto openingInfo = StoreHoursResponseDto.noInfo();
+        SurroundingDataDto surroundings = SurroundingDataDto.builder().build();
+        givenAllSectionsReturn(details, weather, holiday, trend, openingInfo, surroundings);
+
+        // when
+        FullAnalysisResultDto result = fullAnalysisService.analyzeAll(request);
+
+        // then
+        assertThat(result.getDetails().getData()).isSameAs(details);
+        assertThat(result.getWeather().getData()).isSameAs(weather);
+        assertThat(result.getHoliday().getData()).isSameAs(holiday);
+        assertThat(result.getSearchTrend().getData()).isSameAs(trend);
+        assertThat(result.getOpeningInfo().getData()).isSameAs(openingInfo);
+        assertThat(result.getSurroundings().getData()).isSameAs(surroundings);
+    }
+
+    @Test
+    @DisplayName("타임아웃을 넘긴 섹션은 timeout으로 완료되고, 나머지 섹션 결과는 그대로 반환한다")
+    void analyzeAll_WhenSectionTimesOut_ReturnsTimeoutSection() {
+        // given
+        givenAllSectionsReturn(new StoreAnalysisResultDto(), null, new HolidayResponseDto(), new DataLabResponseDto(),
+                StoreHoursResponseDto.noInfo(), SurroundingDataDto.builder().build());
+        given(weatherService.getTodayWeather("서울특별시 강남구")).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return WeatherResponseDto.builder().build();
+        });
+
+        // when
+        long startedAt = System.nanoTime();
+        FullAnalysisResultDto result = fullAnalysisService.analyzeAll(request);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(result.getWeather().isSuccess()).isFalse();
+        assertThat(result.getWeather().getErrorMessage()).isEqualTo("timeout");
+        assertThat(result.getDetails().isSuccess()).isTrue();
+        assertThat(result.getSurroundings().isSuccess()).isTrue();
+        assertThat(elapsedMs).isLessThan(3_000);
+    }
+
+    @Test
+    @DisplayName("호출하지 않은 섹션은 unavailable, 그 외 실패는 error로 완료되며 예외 메시지는 전달하지 않는다")
+    void analyzeAll_WhenSectionsFail_ReturnsFixedFailureCodes() {
+        // given
+        givenAllSectionsReturn(new StoreAnalysisResultDto(), null, new HolidayResponseDto(), null,
+                StoreHoursResponseDto.noInfo(), SurroundingDataDto.builder().build());
+        given(weatherService.getTodayWeather("서울특별시 강남구"))
+                .willThrow(new IllegalStateException("500 Internal Server Error from GET http://apis.data.go.kr/...?serviceKey=secret"));
+        given(naverDataLabService.getSearchTrend("테스트 식당")).willThrow(new BsCoreException(ErrorCode.API_UNAVAILABLE));
+
+        // when
+        FullAnalysisResultDto result = fullAnalysisService.analyzeAll(request);
+
+        // then
+        assertThat(result.getWeather()).extracting(AnalysisSectionDto::isSuccess, AnalysisSectionDto::getErrorMessage)
+                .containsExactly(false, "error");
+        assertThat(result.getSearchTrend()).extracting(AnalysisSectionDto::isSuccess, AnalysisSectionDto::getErrorMessage)
+                .containsExactly(false, "unavailable");
+        assertThat(result.getHoliday().isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("refreshFeatures()는 만료가 가까운 피처만 로컬 캐시를 거치지 않고 다시 조회하여 저장한다")
+    void refreshFeatures_RefreshesExpiringFeaturesBypassingLocalCaches() {
+        // given - 검색 트렌드와 영업 상태 모두 만료가 가깝고, 영업 정보 조회는 API 오류
+        StoreFeatureStore featureStore = mock(StoreFeatureStore.class);
+        FullAnalysisService service = new FullAnalysisService(analysisService, weatherService, holidayService, naverDataLabService,
+                googlePlacesService, featureStore, sectionExecutor);
+        Duration refreshAhead = Duration.ofHours(1);
+        DataLabResponseDto trend = new DataLabResponseDto();
+        given(analysisService.refreshFeatures(request, refreshAhead)).willReturn(new ArrayList<>(List.of(StoreFeature.BLOG_COUNT)));
+        given(featureStore.expiresWithin("store:feature:test", StoreFeature.SEARCH_TREND, refreshAhead)).willReturn(true);
+        given(featureStore.expiresWithin("store:feature:test", StoreFeature.PLACE_STATUS, refreshAhead)).willReturn(true);
+        given(naverDataLabService.refreshSearchTrend("테스트 식당")).willReturn(trend);
+        given(googlePlacesService.refreshStoreOpeningHours("테스트 식당", "서울특별시 강남구", "ko")).willReturn(StoreHoursResponseDto.apiError());
+
+        // when
+        List<StoreFeature> refreshed = service.refreshFeatures(request, refreshAhead);
+
+        // then
+        assertThat(refreshed).containsExactly(StoreFeature.BLOG_COUNT, StoreFeature.SEARCH_TREND, StoreFeature.PLACE_STATUS);
+        then(featureStore).should().put("store:feature:test", StoreFeature.SEARCH_TREND, trend);
+        then(featureStore).should(never()).put(eq("store:feature:test"), eq(StoreFeature.PLACE_STATUS), any());
+        then(naverDataLabService).should(never()).getSearchTrend(any());
+        then(googlePlacesService).should(never()).getStoreOpeningHours(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("refreshFeatures()는 아직 유효한 피처를 다시 조회하지 않는다")
+    void refreshFeatures_WhenFeaturesAreFresh_CallsNoApi() {
+        // given
+        StoreFeatureStore featureStore = mock(StoreFeatureStore.class);
+        FullAnalysisService service = new FullAnalysisService(analysisService, weatherService, holidayService, naverDataLabService,
+                googlePlacesService, featureStore, sectionExecutor);
+        Duration refreshAhead = Duration.ofHours(1);
+        given(analysisService.refreshFeatures(request, refreshAhead)).willReturn(new ArrayList<>());
+
+        // when
+        List<StoreFeature> refreshed = service.refreshFeatures(request, refreshAhead);
+
+        // then
+        assertThat(refreshed).isEmpty();
+        then(naverDataLabService).shouldHaveNoInteractions();
+        then(googlePlacesService).shouldHaveNoInteractions();
+        then(featureStore).should(never()).put(any(), any(), any());
+    }
+
+    private void givenAllSectionsReturn(StoreAnalysisResultDto details, WeatherResponseDto weather, HolidayResponseDto holiday,
+                                        DataLabResponseDto trend, StoreHoursResponseDto openingInfo, SurroundingDataDto surroundings) {
+        given(analysisService.analyzeStoreDetails(request)).willReturn(details);
+        if (weather != null) {
+            given(weatherService.getTodayWeather("서울특별시 강남구")).willReturn(weather);
+        }
+        given(holidayService.getTodayHolidayInfo()).willReturn(holiday);
+        if (trend != null) {
+            given(naverDataLabService.getSearchTrend("테스트 식당")).willReturn(trend);
+        }
+        given(googlePlacesService.getStoreOpeningHours("테스트 식당", "서울특별시 강남구", "ko")).willReturn(openingInfo);
+        given(analysisService.getSurroundingData(request)).willReturn(surroundings);
+    }
+}
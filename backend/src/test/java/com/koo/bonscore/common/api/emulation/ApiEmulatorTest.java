@@ -0,0 +1,125 @@
+package com.koo.bonscore.common.api.emulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiEmulator 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - record 모드에서 저장한 응답을 replay 모드의 새 인스턴스가 파일에서 읽어 재생한다
+ *  - 인증 파라미터(serviceKey)는 fixture 키와 파일에 포함되지 않는다
+ *  - 같은 요청의 fixture가 없으면 같은 엔드포인트의 다른 fixture로 대체한다
+ *  - 설정한 오류 비율에 따라 장애가 주입된다
+ *  - providers에서 생략한 장애 주입 값은 defaults 값을 이어받는다
+ */
+@DisplayName("ApiEmulator")
+class ApiEmulatorTest {
+
+    private static final String FORECAST_URL = "https://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst";
+
+    @TempDir
+    Path fixtureDir;
+
+    private ApiEmulationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ApiEmulationProperties();
+        properties.setFixtureDir(fixtureDir.toString());
+    }
+
+    @Test
+    @DisplayName("녹화한 응답을 재생하고, 인증 파라미터는 저장하지 않는다")
+    void recordThenReplay_ReturnsRecordedResponseWithoutCredentials() throws IOException {
+        properties.setMode(ApiEmulationProperties.Mode.RECORD);
+        ApiEmulator recorder = emulator();
+        ApiEmulator.FixtureRequest recorded = recorder.request("kma", "GET",
+                URI.create(FORECAST_URL + "?serviceKey=secret-1&nx=60&ny=127"), null);
+        recorder.record(recorded, 200, "application/json", "{\"response\":\"ok\"}");
+
+        try (Stream<Path> files = Files.walk(fixtureDir)) {
+            String saved = Files.readString(files.filter(Files::isRegularFile).findFirst().orElseThrow());
+            assertThat(saved).contains("nx=60").doesNotContain("secret-1");
+        }
+
+        properties.setMode(ApiEmulationProperties.Mode.REPLAY);
+        ApiEmulator replayer = emulator();
+        // 인증키와 파라미터 순서가 달라도 같은 요청으로 판단
+        ApiEmulator.FixtureRequest replayed = replayer.request("kma", "GET",
+                URI.create(FORECAST_URL + "?ny=127&nx=60&serviceKey=secret-2"), null);
+
+        assertThat(replayed.key()).isEqualTo(recorded.key());
+        assertThat(replayer.replay(replayed))
+                .hasValueSatisfying(fixture -> {
+                    assertThat(fixture.status()).isEqualTo(200);
+                    assertThat(fixture.body()).isEqualTo("{\"response\":\"ok\"}");
+                });
+    }
+
+    @Test
+    @DisplayName("같은 요청의 fixture가 없으면 같은 엔드포인트의 fixture로 대체하고, 엔드포인트도 다르면 재생하지 않는다")
+    void replay_WhenExactFixtureMissing_FallsBackToSameEndpoint() {
+        properties.setMode(ApiEmulationProperties.Mode.REPLAY);
+        ApiEmulator emulator = emulator();
+        emulator.record(emulator.request("kma", "GET", URI.create(FORECAST_URL + "?nx=60&ny=127"), null),
+                200, "application/json", "{\"grid\":\"60,127\"}");
+
+        ApiEmulator.FixtureRequest otherGrid = emulator.request("kma", "GET", URI.create(FORECAST_URL + "?nx=55&ny=124"), null);
+        assertThat(emulator.replay(otherGrid)).map(ApiFixture::body).hasValue("{\"grid\":\"60,127\"}");
+
+        ApiEmulator.FixtureRequest otherEndpoint = emulator.request("kma", "GET", URI.create(FORECAST_URL + "/other"), null);
+        assertThat(emulator.replay(otherEndpoint)).isEmpty();
+
+        properties.setFallbackToEndpoint(false);
+        assertThat(emulator.replay(otherGrid)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제공자별 설정에 따라 오류를 주입하고, 설정이 없는 제공자는 기본값을 사용한다")
+    void nextFault_AppliesProviderFaultSettings() {
+        ApiEmulationProperties.Fault failing = new ApiEmulationProperties.Fault();
+        failing.setErrorRate(1.0);
+        properties.getProviders().put("kma", failing);
+        properties.setMode(ApiEmulationProperties.Mode.REPLAY);
+        ApiEmulator emulator = emulator();
+
+        assertThat(emulator.nextFault("kma").type()).isEqualTo(ApiEmulator.FaultType.ERROR);
+        assertThat(emulator.nextFault("naver").type()).isEqualTo(ApiEmulator.FaultType.NONE);
+    }
+
+    @Test
+    @DisplayName("제공자 설정에서 생략한 값은 defaults 값을 항목별로 이어받는다")
+    void faultOf_MergesProviderOverDefaults() {
+        properties.getDefaults().setErrorRate(0.01);
+        properties.getDefaults().setTimeout(Duration.ofSeconds(5));
+        ApiEmulationProperties.Fault translate = new ApiEmulationProperties.Fault();
+        translate.setLatency(Duration.ofMillis(150));
+        properties.getProviders().put("google-translate", translate);
+
+        ApiEmulationProperties.Fault fault = properties.faultOf("google-translate");
+
+        assertThat(fault.getLatency()).isEqualTo(Duration.ofMillis(150));
+        assertThat(fault.getErrorRate()).isEqualTo(0.01);
+        assertThat(fault.getTimeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(fault.getTimeoutRate()).isZero();
+        assertThat(properties.faultOf("naver").getLatency()).isZero();
+    }
+
+    private ApiEmulator emulator() {
+        return new ApiEmulator(properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+}
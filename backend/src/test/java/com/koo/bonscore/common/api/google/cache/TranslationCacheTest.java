@@ -0,0 +1,59 @@
+package com.koo.bonscore.common.api.google.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TranslationCache 단위 테스트 (Redis는 mock)
+ *
+ * 핵심 검증 대상
+ *  - 번역 결과 저장 시 L2(Redis)에는 텍스트 수와 관계없이 한 번의 파이프라인으로 저장한다
+ *  - 저장한 결과는 Redis 조회 없이 L1에서 찾는다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TranslationCache")
+class TranslationCacheTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private StringRedisConnection connection;
+
+    @Test
+    @DisplayName("여러 번역 결과를 한 번의 파이프라인으로 저장하고, 이후 조회는 L1에서 처리한다")
+    @SuppressWarnings("unchecked")
+    void putAll_WritesAllEntriesInOnePipeline() {
+        // given
+        TranslationCache cache = new TranslationCache(redisTemplate, new TranslationCacheProperties(), new SimpleMeterRegistry());
+        Map<String, String> translations = new LinkedHashMap<>();
+        for (int i = 0; i < 6; i++) {
+            translations.put(cache.keyOf("가게 " + i, "ko", "en"), "Store " + i);
+        }
+
+        // when
+        cache.putAll(translations);
+
+        // then
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        then(redisTemplate).should(times(1)).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        then(connection).should(times(6)).setEx(startsWith("translate:ko:en:"), eq(30L * 24 * 60 * 60), startsWith("Store "));
+
+        List<String> keys = List.copyOf(translations.keySet());
+        assertThat(cache.getAll(keys)).isEqualTo(translations);
+        then(redisTemplate).should(never()).opsForValue();
+    }
+}
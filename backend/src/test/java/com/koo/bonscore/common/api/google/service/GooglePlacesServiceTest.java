@@ -0,0 +1,120 @@
+package com.koo.bonscore.common.api.google.service;
+
+import com.koo.bonscore.common.api.google.cache.GooglePlacesCacheProperties;
+import com.koo.bonscore.common.api.google.dto.BusinessStatus;
+import com.koo.bonscore.common.api.google.dto.GoogleFindPlaceResponseDto;
+import com.koo.bonscore.common.api.google.dto.GooglePlaceDetailsResponseDto;
+import com.koo.bonscore.common.api.google.dto.StoreHoursResponseDto;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.common.api.support.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * GooglePlacesService 단위 테스트 (Google API는 mock)
+ *
+ * 핵심 검증 대상
+ *  - 상세 정보는 캐시에서 재사용하고, refreshStoreOpeningHours()는 캐시를 거치지 않고 다시 조회한다
+ *  - 결과 객체가 없는 OK 응답은 API 오류로 처리하고 캐싱하지 않는다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GooglePlacesService")
+class GooglePlacesServiceTest {
+
+    @Mock private RestTemplate restTemplate;
+    @Mock private ApiQuotaGovernor quotaGovernor;
+    @Mock private ApiResilience apiResilience;
+
+    private GooglePlacesService googlePlacesService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        googlePlacesService = new GooglePlacesService(restTemplate, "test-key", new GooglePlacesCacheProperties(), meterRegistry,
+                new SingleFlight(meterRegistry), quotaGovernor, apiResilience,
+                Clock.fixed(Instant.parse("2026-10-17T03:00:00Z"), ZoneId.of("Asia/Seoul")));
+
+        given(apiResilience.execute(eq("google-places"), any())).willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        given(restTemplate.getForObject(any(URI.class), eq(GoogleFindPlaceResponseDto.class))).willReturn(placeFound("place-1"));
+    }
+
+    @Test
+    @DisplayName("상세 정보는 캐시에서 재사용하고, refreshStoreOpeningHours()는 다시 조회한다")
+    void getStoreOpeningHours_ReusesCachedDetailsUnlessRefreshing() {
+        // given
+        given(restTemplate.getForObject(any(URI.class), eq(GooglePlaceDetailsResponseDto.class)))
+                .willReturn(details("OK", result("OPERATIONAL")));
+
+        // when
+        StoreHoursResponseDto first = googlePlacesService.getStoreOpeningHours("본스 커피", "서울 강남구", "ko");
+        StoreHoursResponseDto second = googlePlacesService.getStoreOpeningHours("본스 커피", "서울 강남구", "ko");
+        StoreHoursResponseDto refreshed = googlePlacesService.refreshStoreOpeningHours("본스 커피", "서울 강남구", "ko");
+
+        // then
+        assertThat(first.getBusinessStatus()).isEqualTo(BusinessStatus.OPERATIONAL);
+        assertThat(second.getBusinessStatus()).isEqualTo(BusinessStatus.OPERATIONAL);
+        assertThat(refreshed.getBusinessStatus()).isEqualTo(BusinessStatus.OPERATIONAL);
+        then(restTemplate).should(times(1)).getForObject(any(URI.class), eq(GoogleFindPlaceResponseDto.class));
+        then(restTemplate).should(times(2)).getForObject(any(URI.class), eq(GooglePlaceDetailsResponseDto.class));
+    }
+
+    @Test
+    @DisplayName("결과 객체가 없는 OK 응답은 API 오류로 처리하고 캐싱하지 않는다")
+    void getStoreOpeningHours_WhenOkResponseHasNoResult_ReturnsApiErrorWithoutCaching() {
+        // given
+        given(restTemplate.getForObject(any(URI.class), eq(GooglePlaceDetailsResponseDto.class)))
+                .willReturn(details("OK", null), details("OK", result("OPERATIONAL")));
+
+        // when
+        StoreHoursResponseDto first = googlePlacesService.getStoreOpeningHours("본스 커피", "서울 강남구", "ko");
+        StoreHoursResponseDto second = googlePlacesService.getStoreOpeningHours("본스 커피", "서울 강남구", "ko");
+
+        // then
+        assertThat(first.getBusinessStatus()).isEqualTo(BusinessStatus.API_ERROR);
+        assertThat(second.getBusinessStatus()).isEqualTo(BusinessStatus.OPERATIONAL);
+        then(restTemplate).should(times(2)).getForObject(any(URI.class), eq(GooglePlaceDetailsResponseDto.class));
+    }
+
+    private static GoogleFindPlaceResponseDto placeFound(String placeId) {
+        GoogleFindPlaceResponseDto.Candidate candidate = new GoogleFindPlaceResponseDto.Candidate();
+        candidate.setPlaceId(placeId);
+        GoogleFindPlaceResponseDto response = new GoogleFindPlaceResponseDto();
+        response.setStatus("OK");
+        response.setCandidates(List.of(candidate));
+        return response;
+    }
+
+    private static GooglePlaceDetailsResponseDto.PlaceDetailsResult result(String businessStatus) {
+        GooglePlaceDetailsResponseDto.OpeningHours openingHours = new GooglePlaceDetailsResponseDto.OpeningHours();
+        openingHours.setOpenNow(true);
+        openingHours.setWeekdayText(List.of("월요일: 오전 10:00 ~ 오후 9:00"));
+        GooglePlaceDetailsResponseDto.PlaceDetailsResult result = new GooglePlaceDetailsResponseDto.PlaceDetailsResult();
+        result.setBusinessStatus(businessStatus);
+        result.setOpeningHours(openingHours);
+        return result;
+    }
+
+    private static GooglePlaceDetailsResponseDto details(String status, GooglePlaceDetailsResponseDto.PlaceDetailsResult result) {
+        GooglePlaceDetailsResponseDto response = new GooglePlaceDetailsResponseDto();
+        response.setStatus(status);
+        response.setResult(result);
+        return response;
+    }
+}
@@ -0,0 +1,119 @@
+package com.koo.bonscore.common.api.google.service;
+
+import com.google.cloud.translate.Translate;
+import com.google.cloud.translate.Translation;
+import com.koo.bonscore.common.api.emulation.ApiEmulator;
+import com.koo.bonscore.common.api.google.cache.TranslationCache;
+import com.koo.bonscore.common.api.google.config.TranslateBatchProperties;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * GoogleTranslateService 단위 테스트 (번역 클라이언트는 mock, 번역 캐시는 사용하지 않음)
+ *
+ * 핵심 검증 대상
+ *  - 동시에 들어온 요청들의 텍스트는 중복 제거 후 한 번의 번역 호출로 처리되고, 각 요청은 자신의 결과만 받는다
+ *  - 번역 호출이 실패하면 각 요청은 빈 리스트를 받는다 (호출부에서 원본 데이터로 대체)
+ *  - 일괄 호출이 call-timeout 안에 끝나지 않으면 기다리지 않고 빈 리스트를 받는다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GoogleTranslateService")
+class GoogleTranslateServiceTest {
+
+    @Mock private TranslationCache translationCache;
+    @Mock private ApiResilience apiResilience;
+    @Mock private ApiEmulator apiEmulator;
+    @Mock private Translate translate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private GoogleTranslateService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TranslateBatchProperties properties = new TranslateBatchProperties();
+        properties.setMaxBatchWait(Duration.ofMillis(200));
+        properties.setCallTimeout(Duration.ofMillis(500));
+        service = new GoogleTranslateService(translationCache, apiResilience, apiEmulator, properties, executor);
+        ReflectionTestUtils.setField(service, "translate", translate);
+
+        given(translationCache.isEnabled()).willReturn(false);
+        given(apiResilience.execute(anyString(), any())).willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        given(apiEmulator.execute(anyString(), anyString(), any(), any(), any()))
+                .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 요청의 텍스트를 중복 제거하여 한 번에 번역하고, 요청별 결과를 돌려준다")
+    void translateTexts_ConcurrentRequests_AreBatchedIntoOneCall() {
+        given(translate.translate(anyList(), any(Translate.TranslateOption[].class))).willAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            return texts.stream().map(text -> translation("EN:" + text)).toList();
+        });
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(
+                () -> service.translateTexts(List.of("본스 커피", "카페"), "ko", "en"), executor);
+        CompletableFuture<List<String>> second = CompletableFuture.supplyAsync(
+                () -> service.translateTexts(List.of("카페", "본스 식당"), "ko", "en"), executor);
+
+        assertThat(first.join()).containsExactly("EN:본스 커피", "EN:카페");
+        assertThat(second.join()).containsExactly("EN:카페", "EN:본스 식당");
+        then(translate).should(times(1)).translate(argThat((List<String> texts) ->
+                texts.size() == 3 && texts.containsAll(List.of("본스 커피", "카페", "본스 식당"))), any(Translate.TranslateOption[].class));
+    }
+
+    @Test
+    @DisplayName("번역 호출이 실패하면 빈 리스트를 반환한다")
+    void translateTexts_WhenApiFails_ReturnsEmptyList() {
+        given(translate.translate(anyList(), any(Translate.TranslateOption[].class))).willThrow(new RuntimeException("quota"));
+
+        assertThat(service.translateTexts(List.of("본스 커피"), "ko", "en")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 호출이 call-timeout 안에 끝나지 않으면 빈 리스트를 반환한다")
+    void translateTexts_WhenBatchCallHangs_ReturnsEmptyListAfterTimeout() {
+        given(translate.translate(anyList(), any(Translate.TranslateOption[].class))).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(translation("EN:본스 커피"));
+        });
+
+        long started = System.nanoTime();
+        List<String> translated = service.translateTexts(List.of("본스 커피"), "ko", "en");
+
+        assertThat(translated).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    private static Translation translation(String text) {
+        Translation translation = mock(Translation.class);
+        given(translation.getTranslatedText()).willReturn(text);
+        return translation;
+    }
+}
@@ -0,0 +1,70 @@
+package com.koo.bonscore.common.api.google.support;
+
+import com.koo.bonscore.common.api.google.dto.GooglePlaceDetailsResponseDto.Period;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpeningHoursCalculator 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 영업 구간 안/밖 시각 판정
+ *  - 자정, 주말(토 -> 일)을 넘기는 구간
+ *  - 24시간 영업, 구간 정보 없음
+ */
+@DisplayName("OpeningHoursCalculator")
+class OpeningHoursCalculatorTest {
+
+    // 2026-10-17은 토요일
+    private static final LocalDateTime SATURDAY_NOON = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Test
+    @DisplayName("영업 구간 안이면 영업 중, 닫는 시각부터는 영업 종료로 판정한다")
+    void isOpenAt_WithinAndOutsidePeriod() {
+        List<Period> periods = List.of(period(6, "1000", 6, "2100"));
+
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON)).contains(true);
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON.withHour(21))).contains(false);
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON.withHour(9).withMinute(59))).contains(false);
+    }
+
+    @Test
+    @DisplayName("토요일 밤부터 일요일 새벽까지 이어지는 구간을 처리한다")
+    void isOpenAt_WhenPeriodWrapsWeek() {
+        List<Period> periods = List.of(period(6, "2200", 0, "0200"));
+
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON.withHour(23))).contains(true);
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON.plusDays(1).withHour(1))).contains(true);
+        assertThat(OpeningHoursCalculator.isOpenAt(periods, SATURDAY_NOON.plusDays(1).withHour(3))).contains(false);
+    }
+
+    @Test
+    @DisplayName("close가 없는 구간은 24시간 영업으로, 구간 정보가 없으면 계산 불가(empty)로 처리한다")
+    void isOpenAt_AlwaysOpenAndNoPeriods() {
+        Period alwaysOpen = new Period();
+        alwaysOpen.setOpen(dayTime(0, "0000"));
+
+        assertThat(OpeningHoursCalculator.isOpenAt(List.of(alwaysOpen), SATURDAY_NOON)).contains(true);
+        assertThat(OpeningHoursCalculator.isOpenAt(List.of(), SATURDAY_NOON)).isEmpty();
+        assertThat(OpeningHoursCalculator.isOpenAt(null, SATURDAY_NOON)).isEmpty();
+    }
+
+    private static Period period(int openDay, String openTime, int closeDay, String closeTime) {
+        Period period = new Period();
+        period.setOpen(dayTime(openDay, openTime));
+        period.setClose(dayTime(closeDay, closeTime));
+        return period;
+    }
+
+    private static Period.DayTime dayTime(int day, String time) {
+        Period.DayTime dayTime = new Period.DayTime();
+        dayTime.setDay(day);
+        dayTime.setTime(time);
+        return dayTime;
+    }
+}
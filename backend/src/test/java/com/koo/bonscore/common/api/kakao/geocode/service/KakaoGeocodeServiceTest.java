@@ -0,0 +1,162 @@
+package com.koo.bonscore.common.api.kakao.geocode.service;
+
+import com.koo.bonscore.common.api.kakao.geocode.config.KakaoGeocodeProperties;
+import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import com.koo.bonscore.common.api.kma.weather.dto.KakaoApiDto;
+import com.koo.bonscore.common.api.quota.ApiQuotaGovernor;
+import com.koo.bonscore.common.api.resilience.ApiResilience;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * KakaoGeocodeService 단위 테스트 (카카오 API는 mock)
+ *
+ * 핵심 검증 대상
+ *  - 좌표를 찾은 결과는 positive 캐시에서 재사용한다
+ *  - 찾지 못한 결과는 negative 캐시에 저장하여 다시 호출하지 않는다
+ *  - API 호출 실패(KAKAO_API_FAILURE)는 캐싱하지 않는다
+ *  - 공백/대소문자만 다른 입력은 같은 캐시 항목을 사용한다
+ *  - 조회 결과가 kakao.geocode.lookups(type, result)로 기록된다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KakaoGeocodeService")
+class KakaoGeocodeServiceTest {
+
+    private static final String ADDRESS = "서울 중구 세종대로 110";
+
+    @Mock private RestTemplate restTemplate;
+    @Mock private ApiQuotaGovernor quotaGovernor;
+    @Mock private ApiResilience apiResilience;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KakaoGeocodeService geocodeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        geocodeService = new KakaoGeocodeService(restTemplate, new KakaoGeocodeProperties(), meterRegistry, quotaGovernor, apiResilience);
+        ReflectionTestUtils.setField(geocodeService, "kakaoApiKey", "test-key");
+        ReflectionTestUtils.setField(geocodeService, "kakaoAddressUrl", "https://dapi.kakao.com/v2/local/search/address.json");
+
+        given(apiResilience.execute(eq("kakao"), any())).willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    @DisplayName("좌표를 찾은 주소는 다시 조회하지 않고, 공백만 다른 주소도 같은 캐시 항목을 사용한다")
+    void findCoordinate_WhenFound_IsServedFromPositiveCache() {
+        // given
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), anyString()))
+                .willReturn(ResponseEntity.ok(address("126.9779", "37.5662")));
+
+        // when
+        Optional<KakaoApiDto.Document> first = geocodeService.findCoordinate(ADDRESS);
+        Optional<KakaoApiDto.Document> second = geocodeService.findCoordinate("  서울  중구   세종대로 110 ");
+
+        // then
+        assertThat(first).get().extracting(KakaoApiDto.Document::getX).isEqualTo("126.9779");
+        assertThat(second.get()).isSameAs(first.get());
+        then(restTemplate).should(times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), eq(ADDRESS));
+        assertThat(lookups("address", "miss")).isEqualTo(1);
+        assertThat(lookups("address", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("찾지 못한 주소는 negative 캐시에 저장하여 다시 호출하지 않는다")
+    void findCoordinate_WhenNotFound_IsServedFromNegativeCache() {
+        // given
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), anyString()))
+                .willReturn(ResponseEntity.ok(new KakaoApiDto()));
+
+        // when
+        Optional<KakaoApiDto.Document> first = geocodeService.findCoordinate(ADDRESS);
+        Optional<KakaoApiDto.Document> second = geocodeService.findCoordinate(ADDRESS);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        then(restTemplate).should(times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), anyString());
+        assertThat(lookups("address", "not_found")).isEqualTo(1);
+        assertThat(lookups("address", "negative_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("API 호출 실패는 KAKAO_API_FAILURE로 전달하고 캐싱하지 않는다")
+    void findCoordinate_WhenApiFails_DoesNotCache() {
+        // given
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), anyString()))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willReturn(ResponseEntity.ok(address("126.9779", "37.5662")));
+
+        // when & then
+        assertThatThrownBy(() -> geocodeService.findCoordinate(ADDRESS))
+                .isInstanceOf(BsCoreException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.KAKAO_API_FAILURE.getCode());
+        assertThat(meterRegistry.find("kakao.geocode.lookups").counters()).isEmpty();
+
+        assertThat(geocodeService.findCoordinate(ADDRESS)).isPresent();
+        then(restTemplate).should(times(2))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoApiDto.class), anyString());
+        assertThat(lookups("address", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대소문자/공백만 다른 가게명은 같은 캐시 항목을 사용하고, 주소 조회와는 별도로 기록된다")
+    void findPlace_WhenQueryDiffersOnlyInCaseOrWhitespace_SharesEntry() {
+        // given
+        KakaoMapResponse.Document place = new KakaoMapResponse.Document();
+        place.setPlaceName("Bons Coffee");
+        KakaoMapResponse response = new KakaoMapResponse();
+        response.setDocuments(List.of(place));
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoMapResponse.class), anyString()))
+                .willReturn(ResponseEntity.ok(response));
+
+        // when
+        Optional<KakaoMapResponse.Document> first = geocodeService.findPlace("Bons Coffee");
+        Optional<KakaoMapResponse.Document> second = geocodeService.findPlace(" bons   COFFEE ");
+
+        // then
+        assertThat(first).containsSame(place);
+        assertThat(second).containsSame(place);
+        then(restTemplate).should(times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(KakaoMapResponse.class), anyString());
+        assertThat(lookups("place", "miss")).isEqualTo(1);
+        assertThat(lookups("place", "hit")).isEqualTo(1);
+        assertThat(meterRegistry.find("kakao.geocode.lookups").tag("type", "address").counters()).isEmpty();
+    }
+
+    private double lookups(String type, String result) {
+        return meterRegistry.counter("kakao.geocode.lookups", "type", type, "result", result).count();
+    }
+
+    private static KakaoApiDto address(String x, String y) {
+        KakaoApiDto.Document document = new KakaoApiDto.Document();
+        document.setX(x);
+        document.setY(y);
+        KakaoApiDto response = new KakaoApiDto();
+        response.setDocuments(List.of(document));
+        return response;
+    }
+}
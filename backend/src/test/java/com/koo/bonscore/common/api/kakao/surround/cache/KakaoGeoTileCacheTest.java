@@ -0,0 +1,83 @@
+package com.koo.bonscore.common.api.kakao.surround.cache;
+
+import com.koo.bonscore.common.api.kakao.surround.dto.KakaoMapResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KakaoGeoTileCache 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 같은 타일 안의 좌표는 카카오 호출 결과를 공유한다
+ *  - 카테고리/반경이 다르면 별도로 캐싱된다
+ *  - 적중/미스 통계가 기록된다
+ */
+@DisplayName("KakaoGeoTileCache")
+class KakaoGeoTileCacheTest {
+
+    private KakaoGeoTileCache geoTileCache;
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        geoTileCache = new KakaoGeoTileCache(new KakaoGeoTileCacheProperties(), new SimpleMeterRegistry());
+        loadCount.set(0);
+    }
+
+    @Test
+    @DisplayName("같은 타일 안의 가까운 좌표는 한 번만 조회하고 결과를 공유한다")
+    void get_WhenSameTile_LoadsOnce() {
+        // given - 약 10m 떨어진 두 좌표 (반경 500m -> 약 150m 타일)
+        KakaoMapResponse first = geoTileCache.get("category", "FD6", "126.97701", "37.56601", 500, this::load);
+        KakaoMapResponse second = geoTileCache.get("category", "FD6", "126.97709", "37.56607", 500, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(geoTileCache.stats().hitCount()).isEqualTo(1);
+        assertThat(geoTileCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카테고리나 반경이 다르면 별도로 조회한다")
+    void get_WhenDifferentCategoryOrRadius_LoadsSeparately() {
+        geoTileCache.get("category", "FD6", "126.97701", "37.56601", 500, this::load);
+        geoTileCache.get("category", "CE7", "126.97701", "37.56601", 500, this::load);
+        geoTileCache.get("category", "FD6", "126.97701", "37.56601", 2000, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("loader에는 원본 좌표가 아닌 타일 중심 좌표가 전달된다")
+    void get_PassesSnappedCenterToLoader() {
+        String[] received = new String[2];
+        geoTileCache.get("keyword", "빌딩", "126.97701", "37.56601", 500, (x, y) -> {
+            received[0] = x;
+            received[1] = y;
+            return new KakaoMapResponse();
+        });
+
+        double[] center = GeoHash.decodeCenter(GeoHash.encode(37.56601, 126.97701, 7));
+        assertThat(received[0]).isEqualTo(String.valueOf(center[1]));
+        assertThat(received[1]).isEqualTo(String.valueOf(center[0]));
+    }
+
+    @Test
+    @DisplayName("검색 반경이 클수록 더 거친 geohash 정밀도를 사용한다")
+    void precisionFor_ScalesWithRadius() {
+        assertThat(GeoHash.precisionFor(500 * 0.35, 5, 8)).isEqualTo(7);
+        assertThat(GeoHash.precisionFor(2000 * 0.35, 5, 8)).isEqualTo(6);
+    }
+
+    private KakaoMapResponse load(String longitude, String latitude) {
+        loadCount.incrementAndGet();
+        return new KakaoMapResponse();
+    }
+}
@@ -0,0 +1,127 @@
+package com.koo.bonscore.common.api.kma.holiday.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * HolidayCalendarService 단위 테스트 (공휴일 API와 Redis는 mock)
+ *
+ * 핵심 검증 대상
+ *  - API 조회에 성공하면 달력을 적재하고 Redis에 마지막 달력으로 저장한다
+ *  - API 조회에 실패하면 Redis에 저장된 마지막 달력을 사용한다
+ *  - 공휴일이 없는 응답은 이전 달력을 덮어쓰지 않는다
+ *  - API, Redis 모두 실패한 연도는 10분 동안 다시 조회하지 않는다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayCalendarService")
+class HolidayCalendarServiceTest {
+
+    private static final String REDIS_KEY = "holiday:calendar:2026";
+    private static final LocalDate CHUSEOK = LocalDate.of(2026, 9, 25);
+    private static final String HOLIDAYS_RESPONSE = """
+            {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+             "body":{"items":{"item":[
+              {"dateKind":"01","dateName":"추석","isHoliday":"Y","locdate":20260925,"seq":1},
+              {"dateKind":"01","dateName":"개천절","isHoliday":"Y","locdate":20261003,"seq":1}
+             ]},"numOfRows":100,"pageNo":1,"totalCount":2}}}
+            """;
+    private static final String EMPTY_RESPONSE = """
+            {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+             "body":{"items":"","numOfRows":100,"pageNo":1,"totalCount":0}}}
+            """;
+
+    @Mock private RestTemplate restTemplate;
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private Clock clock;
+
+    private HolidayCalendarService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HolidayCalendarService(restTemplate, new ObjectMapper(), redisTemplate, clock);
+        ReflectionTestUtils.setField(service, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(service, "apiUrl", "http://apis.data.go.kr/B090041/openapi/service/SpcdeInfoService");
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(clock.getZone()).thenReturn(ZoneId.of("Asia/Seoul"));
+        lenient().when(clock.instant()).thenReturn(Instant.parse("2026-10-17T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("API 조회에 성공하면 달력을 적재하고 Redis에 저장한다")
+    void isHoliday_WhenApiSucceeds_LoadsCalendarAndSavesLastGood() {
+        given(restTemplate.getForObject(anyString(), eq(String.class))).willReturn(HOLIDAYS_RESPONSE);
+
+        assertThat(service.isHoliday(CHUSEOK)).isTrue();
+        assertThat(service.isHoliday(CHUSEOK.plusDays(1))).isFalse();
+        assertThat(service.getHolidays(2026)).containsExactly(CHUSEOK, LocalDate.of(2026, 10, 3));
+        then(valueOperations).should().set(REDIS_KEY, "20260925,20261003");
+        then(restTemplate).should(times(1)).getForObject(anyString(), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("API 조회에 실패하면 Redis에 저장된 마지막 달력을 사용한다")
+    void isHoliday_WhenApiFails_FallsBackToLastGood() {
+        given(restTemplate.getForObject(anyString(), eq(String.class))).willThrow(new ResourceAccessException("connect timed out"));
+        given(valueOperations.get(REDIS_KEY)).willReturn("20260925,20261003");
+
+        assertThat(service.isHoliday(CHUSEOK)).isTrue();
+        then(valueOperations).should(never()).set(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("공휴일이 없는 응답과 오류 응답은 이전 달력을 덮어쓰지 않는다")
+    void refresh_WhenResponseEmptyOrError_KeepsPreviousCalendar() {
+        given(restTemplate.getForObject(contains("solYear=2026"), eq(String.class)))
+                .willReturn(HOLIDAYS_RESPONSE, EMPTY_RESPONSE,
+                        "{\"response\":{\"header\":{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED NUMBER OF SERVICE REQUESTS EXCEEDS ERROR.\"},\"body\":{}}}");
+        given(restTemplate.getForObject(contains("solYear=2027"), eq(String.class))).willReturn(EMPTY_RESPONSE);
+        given(valueOperations.get(REDIS_KEY)).willReturn("20260925,20261003");
+
+        service.refresh();   // 정상 응답
+        service.refresh();   // 공휴일 없음
+        service.refresh();   // 오류 응답
+
+        assertThat(service.isHoliday(CHUSEOK)).isTrue();
+        then(valueOperations).should(times(1)).set(eq(REDIS_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("API, Redis 모두 실패한 연도는 10분 동안 다시 조회하지 않는다")
+    void isHoliday_WhenAllSourcesFail_BacksOffRetries() {
+        Instant failedAt = Instant.parse("2026-10-17T00:00:00Z");
+        AtomicReference<Instant> now = new AtomicReference<>(failedAt);
+        given(clock.instant()).willAnswer(invocation -> now.get());
+        given(restTemplate.getForObject(anyString(), eq(String.class))).willThrow(new ResourceAccessException("connect timed out"));
+        given(valueOperations.get(REDIS_KEY)).willReturn(null);
+
+        assertThat(service.isHoliday(CHUSEOK)).isFalse();   // 조회 실패 (00:00)
+        now.set(failedAt.plus(Duration.ofMinutes(9)));
+        assertThat(service.isHoliday(CHUSEOK)).isFalse();   // 재시도 대기 중 (00:09)
+        then(restTemplate).should(times(1)).getForObject(anyString(), eq(String.class));
+
+        now.set(failedAt.plus(Duration.ofMinutes(11)));
+        assertThat(service.isHoliday(CHUSEOK)).isFalse();   // 재시도 (00:11)
+        then(restTemplate).should(times(2)).getForObject(anyString(), eq(String.class));
+    }
+}
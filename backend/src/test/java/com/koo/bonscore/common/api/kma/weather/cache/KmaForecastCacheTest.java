@@ -0,0 +1,78 @@
+package com.koo.bonscore.common.api.kma.weather.cache;
+
+import com.koo.bonscore.common.api.kma.weather.cache.KmaForecastCache.ForecastKey;
+import com.koo.bonscore.common.api.kma.weather.cache.KmaForecastCache.NextPublicationExpiry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KmaForecastCache 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 항목은 다음 발표 시각(base_time + 3시간 10분)에 만료되며, 23시 발표분은 자정을 넘겨 다음 날 02:10에 만료된다
+ *  - 다음 발표 시각이 이미 지난 발표분은 최소 1분만 보관한다
+ *  - 기상청 호출은 호출한 스레드에서 수행하고, 실패한 호출은 캐싱하지 않는다
+ */
+@DisplayName("KmaForecastCache")
+class KmaForecastCacheTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("23시 발표분은 자정을 넘겨 다음 날 02:10에 만료된다")
+    void expireAfterCreate_WhenBaseTime2300_ExpiresNextDayAt0210() {
+        ForecastKey key = new ForecastKey(60, 127, "20261017", "2300");
+
+        assertThat(ttl(key, LocalDateTime.of(2026, 10, 17, 23, 30))).isEqualTo(Duration.ofHours(2).plusMinutes(40));
+        assertThat(ttl(key, LocalDateTime.of(2026, 10, 18, 1, 0))).isEqualTo(Duration.ofMinutes(70));
+    }
+
+    @Test
+    @DisplayName("같은 날의 발표분은 3시간 10분 뒤에 만료되고, 이미 지난 발표분은 최소 1분만 보관한다")
+    void expireAfterCreate_UsesNextPublicationOrMinimumTtl() {
+        ForecastKey key = new ForecastKey(60, 127, "20261017", "0200");
+
+        assertThat(ttl(key, LocalDateTime.of(2026, 10, 17, 2, 15))).isEqualTo(Duration.ofMinutes(175));
+        assertThat(ttl(key, LocalDateTime.of(2026, 10, 17, 5, 30))).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("기상청 호출은 호출한 스레드에서 수행하고, 실패한 호출은 캐싱하지 않는다")
+    void get_LoadsOnCallingThreadAndDoesNotCacheFailures() {
+        KmaForecastCache cache = new KmaForecastCache(100, new SimpleMeterRegistry());
+        ForecastKey key = new ForecastKey(60, 127, "20261017", "0200");
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.get(key, () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("기상청 API 응답이 올바르지 않습니다.");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.contains(key)).isFalse();
+
+        AtomicReference<Thread> loaderThread = new AtomicReference<>();
+        cache.get(key, () -> {
+            calls.incrementAndGet();
+            loaderThread.set(Thread.currentThread());
+            return null;
+        });
+
+        assertThat(loaderThread.get()).isSameAs(Thread.currentThread());
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private static Duration ttl(ForecastKey key, LocalDateTime now) {
+        Clock clock = Clock.fixed(now.atZone(SEOUL).toInstant(), SEOUL);
+        return Duration.ofNanos(new NextPublicationExpiry(clock).expireAfterCreate(key, null, 0));
+    }
+}
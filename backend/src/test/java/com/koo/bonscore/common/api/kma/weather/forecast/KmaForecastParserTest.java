@@ -0,0 +1,108 @@
+package com.koo.bonscore.common.api.kma.weather.forecast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KmaForecastParser 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - TMP, SKY, PTY 항목만 예보 시각(일자 + 시)별로 담고, 그 외 카테고리/필드는 무시한다
+ *  - 필드 순서, 숫자/문자열 표기와 무관하게 값을 읽는다
+ *  - 예보 항목이 없는 응답(NO_DATA)과 JSON이 아닌 응답은 예외로 처리한다
+ */
+@DisplayName("KmaForecastParser")
+class KmaForecastParserTest {
+
+    @Test
+    @DisplayName("필요한 카테고리만 예보 시각별로 담고, 같은 시각의 다른 날짜 예보와 구분한다")
+    void parse_KeepsOnlyNeededCategoriesPerForecastSlot() throws IOException {
+        String json = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                 "body":{"dataType":"JSON","items":{"item":[
+                  {"baseDate":"20261017","baseTime":"0500","category":"TMP","fcstDate":"20261017","fcstTime":"0600","fcstValue":"12","nx":60,"ny":127},
+                  {"baseDate":"20261017","baseTime":"0500","category":"UUU","fcstDate":"20261017","fcstTime":"0600","fcstValue":"-1.2","nx":60,"ny":127},
+                  {"baseDate":"20261017","baseTime":"0500","category":"SKY","fcstDate":"20261017","fcstTime":"0600","fcstValue":"3","nx":60,"ny":127},
+                  {"fcstValue":"1","fcstTime":"0600","fcstDate":"20261017","category":"PTY","nx":60,"ny":127},
+                  {"baseDate":"20261017","baseTime":"0500","category":"TMP","fcstDate":"20261018","fcstTime":"0600","fcstValue":-3.5,"nx":60,"ny":127},
+                  {"baseDate":"20261017","baseTime":"0500","category":"TMX","fcstDate":"20261018","fcstTime":"0600","fcstValue":"20.0","nx":60,"ny":127}
+                 ]},"pageNo":1,"numOfRows":1000,"totalCount":6}}}
+                """;
+
+        KmaForecast forecast = KmaForecastParser.parse(stream(json));
+
+        assertThat(forecast.size()).isEqualTo(2);
+        int today = forecast.indexAtOrAfter(20261017, 6);
+        assertThat(forecast.temperature(today)).isEqualTo("12");
+        assertThat(forecast.sky(today)).isEqualTo("3");
+        assertThat(forecast.precipitation(today)).isEqualTo("1");
+
+        int tomorrow = forecast.indexAtOrAfter(20261018, 6);
+        assertThat(forecast.temperature(tomorrow)).isEqualTo("-3.5");
+        assertThat(forecast.sky(tomorrow)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 시각의 예보가 없으면 그 이후 가장 가까운 예보 시각을 사용한다")
+    void indexAtOrAfter_UsesNextAvailableSlot() throws IOException {
+        String json = """
+                {"response":{"body":{"items":{"item":[
+                  {"category":"TMP","fcstDate":"20261017","fcstTime":"0400","fcstValue":"9"},
+                  {"category":"TMP","fcstDate":"20261017","fcstTime":"0300","fcstValue":"8"}
+                 ]}}}}
+                """;
+
+        KmaForecast forecast = KmaForecastParser.parse(stream(json));
+
+        assertThat(forecast.temperature(forecast.indexAtOrAfter(20261017, 2))).isEqualTo("8");
+        assertThat(forecast.indexAtOrAfter(20261017, 5)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("발표분 전체(약 70개 예보 시각)를 담을 수 있다")
+    void parse_HandlesFullDayForecast() throws IOException {
+        StringBuilder items = new StringBuilder();
+        for (int day = 17; day <= 19; day++) {
+            for (int hour = 0; hour < 24; hour++) {
+                if (!items.isEmpty()) {
+                    items.append(',');
+                }
+                items.append("{\"category\":\"TMP\",\"fcstDate\":\"202610").append(day)
+                        .append("\",\"fcstTime\":\"").append(String.format("%02d00", hour))
+                        .append("\",\"fcstValue\":\"").append(hour).append("\"}");
+            }
+        }
+
+        KmaForecast forecast = KmaForecastParser.parse(stream("{\"response\":{\"body\":{\"items\":{\"item\":[" + items + "]}}}}"));
+
+        assertThat(forecast.size()).isEqualTo(72);
+        assertThat(forecast.temperature(forecast.indexAtOrAfter(20261019, 23))).isEqualTo("23");
+    }
+
+    @Test
+    @DisplayName("예보 항목이 없는 응답과 JSON이 아닌 응답은 예외로 처리한다")
+    void parse_WhenNoItemsOrNotJson_Throws() {
+        String noData = """
+                {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"},"body":{"items":""}}}
+                """;
+        assertThatThrownBy(() -> KmaForecastParser.parse(stream(noData)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NO_DATA");
+
+        String xml = "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg></cmmMsgHeader></OpenAPI_ServiceResponse>";
+        assertThatThrownBy(() -> KmaForecastParser.parse(stream(xml)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package com.koo.bonscore.common.api.kma.weather.prefetch;
+
+import com.koo.bonscore.common.api.kma.weather.prefetch.GridPopularity.GridCell;
+import com.koo.bonscore.common.api.kma.weather.service.WeatherService;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ForecastPrefetcher 단위 테스트 (WeatherService는 mock, 작업자는 호출 스레드에서 실행)
+ *
+ * 핵심 검증 대상
+ *  - 이미 캐시에 있는 격자는 호출 예산을 차감하지 않는다
+ *  - 호출 예산을 넘으면 남은 격자는 건너뛴다
+ *  - 호출 한도 초과(BsCoreException) 시 이번 선조회를 중단한다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ForecastPrefetcher")
+class ForecastPrefetcherTest {
+
+    private static final List<GridCell> CELLS = List.of(
+            new GridCell(60, 127), new GridCell(55, 124), new GridCell(98, 76), new GridCell(89, 90));
+
+    @Mock private WeatherService weatherService;
+
+    private ForecastPrefetcher prefetcher;
+
+    @BeforeEach
+    void setUp() {
+        ForecastPrefetchProperties properties = new ForecastPrefetchProperties();
+        properties.setConcurrency(1);
+        prefetcher = new ForecastPrefetcher(weatherService, new GridPopularity(properties), properties,
+                Runnable::run, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 격자는 예산을 쓰지 않고, 예산을 넘는 격자는 건너뛴다")
+    void prefetch_RespectsBudgetAndSkipsCachedCells() {
+        given(weatherService.prefetchForecast(60, 127)).willReturn(false); // 이미 캐시에 있음
+        given(weatherService.prefetchForecast(55, 124)).willReturn(true);
+        given(weatherService.prefetchForecast(98, 76)).willReturn(true);
+
+        ForecastPrefetcher.Result result = prefetcher.prefetch(CELLS, 2);
+
+        assertThat(result).isEqualTo(new ForecastPrefetcher.Result(2, 2, 1, 0, 1));
+        then(weatherService).should(never()).prefetchForecast(89, 90);
+    }
+
+    @Test
+    @DisplayName("호출 한도를 초과하면 남은 격자를 조회하지 않고 중단한다")
+    void prefetch_WhenQuotaExceeded_Stops() {
+        given(weatherService.prefetchForecast(60, 127)).willReturn(true);
+        given(weatherService.prefetchForecast(55, 124)).willThrow(new BsCoreException(ErrorCode.API_QUOTA_EXCEEDED));
+
+        ForecastPrefetcher.Result result = prefetcher.prefetch(CELLS, 100);
+
+        assertThat(result.fetched()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(2);
+        then(weatherService).should(never()).prefetchForecast(98, 76);
+    }
+}
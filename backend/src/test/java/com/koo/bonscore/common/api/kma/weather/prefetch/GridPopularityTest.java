@@ -0,0 +1,96 @@
+package com.koo.bonscore.common.api.kma.weather.prefetch;
+
+import com.koo.bonscore.common.api.kma.weather.prefetch.GridPopularity.GridCell;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * GridPopularity 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 점수는 반감기마다 절반으로 감소하고, 최근 요청이 많은 격자가 상위에 온다
+ *  - min-score 미만 격자는 선조회 대상에서 제외되고 정리된다
+ */
+@DisplayName("GridPopularity")
+class GridPopularityTest {
+
+    private MutableClock clock;
+    private GridPopularity popularity;
+
+    @BeforeEach
+    void setUp() {
+        ForecastPrefetchProperties properties = new ForecastPrefetchProperties();
+        properties.setHalfLife(Duration.ofHours(6));
+        properties.setMinScore(0.5);
+        clock = new MutableClock();
+        popularity = new GridPopularity(properties, clock);
+    }
+
+    @Test
+    @DisplayName("점수는 반감기마다 절반으로 줄고, 최근에 많이 요청된 격자가 상위에 온다")
+    void top_OrdersByDecayedScore() {
+        // 오래전에 많이 요청된 격자
+        for (int i = 0; i < 4; i++) {
+            popularity.record(60, 127);
+        }
+        clock.advance(Duration.ofHours(12));
+        assertThat(popularity.scoreOf(60, 127)).isCloseTo(1.0, within(1e-9));
+
+        // 최근에 요청된 격자
+        popularity.record(55, 124);
+        popularity.record(55, 124);
+
+        assertThat(popularity.top(10)).containsExactly(new GridCell(55, 124), new GridCell(60, 127));
+        assertThat(popularity.top(1)).containsExactly(new GridCell(55, 124));
+    }
+
+    @Test
+    @DisplayName("min-score 미만으로 감소한 격자는 선조회 대상에서 빠지고 정리된다")
+    void prune_RemovesCellsBelowMinScore() {
+        popularity.record(60, 127);
+        popularity.record(55, 124);
+        clock.advance(Duration.ofHours(7)); // 1점 -> 약 0.45점
+
+        popularity.record(55, 124);
+
+        assertThat(popularity.top(10)).containsExactly(new GridCell(55, 124));
+        popularity.prune();
+        assertThat(popularity.size()).isEqualTo(1);
+    }
+
+    /**
+     * 테스트에서 시간을 진행시킬 수 있는 Clock
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-10-17T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
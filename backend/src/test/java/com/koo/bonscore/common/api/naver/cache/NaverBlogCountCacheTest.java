@@ -0,0 +1,129 @@
+package com.koo.bonscore.common.api.naver.cache;
+
+import com.koo.bonscore.common.api.naver.NaverApiClient;
+import com.koo.bonscore.common.api.naver.config.NaverBlogCacheProperties;
+import com.koo.bonscore.common.api.naver.dto.blog.NaverBlogSearchResponseDto;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * NaverBlogCountCache 단위 테스트 (네이버 API는 mock, 시간은 테스트 ticker로, 백그라운드 갱신은 직접 실행하는 executor로 제어)
+ *
+ * 핵심 검증 대상
+ *  - refresh-after가 지난 값은 즉시 기존 값을 반환하고, 백그라운드 갱신이 끝난 뒤부터 새 값을 반환한다 (stale-while-revalidate)
+ *  - 백그라운드 갱신이 실패하면 기존 값을 유지한다
+ *  - refreshBlogCount()는 캐시 값과 관계없이 다시 조회한 값을 기다려 반환하고, 실패는 호출부에 전달한다
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NaverBlogCountCache")
+class NaverBlogCountCacheTest {
+
+    private static final String QUERY = "서울 강남구 본스 커피";
+
+    @Mock private NaverApiClient naverApiClient;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private NaverBlogCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // refresh-after 12h, 백그라운드 갱신은 runBackgroundTasks()를 호출할 때 실행
+        cache = newCache(backgroundTasks::add);
+    }
+
+    @Test
+    @DisplayName("refresh-after가 지난 값은 즉시 기존 값을 반환하고, 백그라운드 갱신이 끝나면 새 값을 반환한다")
+    void getBlogCount_WhenOlderThanRefreshAfter_ReturnsStaleCountAndReloadsInBackground() {
+        // given
+        given(naverApiClient.searchBlog(anyString())).willReturn(blogCount(10), blogCount(20));
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(10);
+        runBackgroundTasks();
+
+        // when - refresh-after(12h)가 지난 뒤 조회
+        advance(Duration.ofHours(13));
+        int stale = cache.getBlogCount(QUERY);
+
+        // then - 기존 값과 그 나이를 반환하고, 갱신이 끝난 뒤부터 새 값을 반환
+        assertThat(stale).isEqualTo(10);
+        assertThat(cache.ageOf(QUERY)).isEqualTo(Duration.ofHours(13));
+        then(naverApiClient).should(times(1)).searchBlog(anyString());
+
+        runBackgroundTasks();
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(20);
+        assertThat(cache.ageOf(QUERY)).isEqualTo(Duration.ZERO);
+        then(naverApiClient).should(times(2)).searchBlog(NaverBlogCountCache.normalize(QUERY));
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 실패하면 기존 값을 유지한다")
+    void getBlogCount_WhenBackgroundReloadFails_KeepsPreviousCount() {
+        // given
+        given(naverApiClient.searchBlog(anyString()))
+                .willReturn(blogCount(10))
+                .willThrow(new BsCoreException(ErrorCode.API_UNAVAILABLE));
+        cache.getBlogCount(QUERY);
+        advance(Duration.ofHours(13));
+
+        // when
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(10);
+        runBackgroundTasks();
+
+        // then
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("refreshBlogCount()는 유효한 캐시 값이 있어도 다시 조회한 값을 반환하고 캐시에 저장하며, 실패는 전달한다")
+    void refreshBlogCount_IgnoresCachedCountAndPropagatesFailure() {
+        // given - 다시 조회를 기다리므로 호출 스레드에서 실행
+        NaverBlogCountCache cache = newCache(Runnable::run);
+        given(naverApiClient.searchBlog(anyString()))
+                .willReturn(blogCount(10), blogCount(30))
+                .willThrow(new BsCoreException(ErrorCode.API_UNAVAILABLE));
+        cache.getBlogCount(QUERY);
+
+        // when & then
+        assertThat(cache.refreshBlogCount(QUERY)).isEqualTo(30);
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(30);
+        assertThatThrownBy(() -> cache.refreshBlogCount(QUERY)).isInstanceOf(BsCoreException.class);
+        assertThat(cache.getBlogCount(QUERY)).isEqualTo(30);
+    }
+
+    private NaverBlogCountCache newCache(Executor executor) {
+        return new NaverBlogCountCache(naverApiClient, new NaverBlogCacheProperties(), new SimpleMeterRegistry(),
+                executor, nanos::get);
+    }
+
+    private void runBackgroundTasks() {
+        Runnable task;
+        while ((task = backgroundTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static NaverBlogSearchResponseDto blogCount(int total) {
+        return NaverBlogSearchResponseDto.builder().total(total).build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.koo.bonscore.common.api.quota;
+
+import com.koo.bonscore.common.api.support.ApiProvider;
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import com.koo.bonscore.core.exception.enumType.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ApiQuotaGovernor 단위 테스트 (Redis 스크립트 결과는 mock)
+ *
+ * 핵심 검증 대상
+ *  - 허용/일일 예산 소진/초당 한도 초과에 따른 통과, 대기, 즉시 실패
+ *  - Redis 장애 시 호출 허용(fail-open)
+ *  - 한도가 설정되지 않은 엔드포인트는 Redis를 호출하지 않음
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiQuotaGovernor")
+class ApiQuotaGovernorTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApiQuotaProperties.Limit limit;
+    private ApiQuotaGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        limit = new ApiQuotaProperties.Limit();
+        limit.setPermitsPerSecond(10);
+        limit.setDailyBudget(100);
+        limit.setMaxWait(Duration.ofMillis(200));
+
+        ApiQuotaProperties properties = new ApiQuotaProperties();
+        properties.getLimits().put(ApiProvider.NAVER, Map.of("search", limit));
+
+        meterRegistry = new SimpleMeterRegistry();
+        governor = new ApiQuotaGovernor(redisTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("허용되면 통과하고 일일 사용량 게이지를 갱신한다")
+    void acquire_WhenAllowed_Passes() {
+        givenScriptReturns(List.of(1L, 0L, 42L));
+
+        governor.acquire(ApiProvider.NAVER, "search");
+
+        assertThat(count("allowed")).isEqualTo(1);
+        assertThat(meterRegistry.get("api.quota.daily.used").tag("endpoint", "search").gauge().value()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("일일 예산이 소진되면 대기하지 않고 API_QUOTA_EXCEEDED로 실패한다")
+    void acquire_WhenBudgetExhausted_FailsFast() {
+        givenScriptReturns(List.of(0L, -1L, 100L));
+
+        assertThatThrownBy(() -> governor.acquire(ApiProvider.NAVER, "search"))
+                .isInstanceOf(BsCoreException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.API_QUOTA_EXCEEDED.getCode());
+        assertThat(count("budget_exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초당 한도 초과 시 max-wait 안이면 기다린 뒤 다시 시도한다")
+    void acquire_WhenThrottledWithinMaxWait_RetriesAfterWait() {
+        givenScriptReturns(List.of(0L, 20L, 10L), List.of(1L, 0L, 11L));
+
+        governor.acquire(ApiProvider.NAVER, "search");
+
+        assertThat(count("allowed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초당 한도 초과 시 대기 시간이 max-wait를 넘으면 즉시 실패한다")
+    void acquire_WhenThrottledBeyondMaxWait_Fails() {
+        givenScriptReturns(List.of(0L, 1_000L, 10L));
+
+        assertThatThrownBy(() -> governor.acquire(ApiProvider.NAVER, "search"))
+                .isInstanceOf(BsCoreException.class);
+        assertThat(count("throttled")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 호출을 허용한다")
+    void acquire_WhenRedisFails_FailsOpen() {
+        given(executeScript())
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        governor.acquire(ApiProvider.NAVER, "search");
+
+        assertThat(count("fail_open")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도가 설정되지 않은 엔드포인트는 Redis를 호출하지 않는다")
+    void acquire_WhenNoLimit_SkipsRedis() {
+        governor.acquire(ApiProvider.KAKAO, "local");
+
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @SafeVarargs
+    private void givenScriptReturns(List<Long> first, List<Long>... next) {
+        given(executeScript()).willReturn(first, (Object[]) next);
+    }
+
+    /**
+     * 할당량 스크립트 호출 (스텁 대상)
+     */
+    @SuppressWarnings("unchecked")
+    private Object executeScript() {
+        return redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("api.quota.requests").tag("result", result).counter().count();
+    }
+}
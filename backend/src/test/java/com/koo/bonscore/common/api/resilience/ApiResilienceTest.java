@@ -0,0 +1,129 @@
+package com.koo.bonscore.common.api.resilience;
+
+import com.koo.bonscore.core.exception.custom.BsCoreException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiResilience 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 일시적 오류(연결 실패 등)만 재시도하고, 4xx 응답은 재시도하지 않는다
+ *  - 실패율이 임계치를 넘으면 서킷이 열려 외부 API를 호출하지 않고 API_UNAVAILABLE로 즉시 실패한다
+ *  - 동시 호출 수를 넘는 호출은 기다리지 않고 API_UNAVAILABLE로 거절된다
+ *  - instances에서 생략한 값은 defaults 값을, defaults에서도 생략한 값은 기본값을 사용한다
+ */
+@DisplayName("ApiResilience")
+class ApiResilienceTest {
+
+    private ApiResilienceProperties.Policy policy;
+    private ApiResilience apiResilience;
+
+    @BeforeEach
+    void setUp() {
+        policy = new ApiResilienceProperties.Policy();
+        policy.setSlidingWindowSize(4);
+        policy.setMinimumNumberOfCalls(4);
+        policy.setMaxConcurrentCalls(1);
+        policy.setMaxAttempts(2);
+        policy.setRetryWait(Duration.ofMillis(1));
+
+        ApiResilienceProperties properties = new ApiResilienceProperties();
+        properties.setDefaults(policy);
+        apiResilience = new ApiResilience(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("연결 실패는 재시도하고, 4xx 응답은 재시도하지 않는다")
+    void execute_RetriesOnlyTransientFailures() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = apiResilience.execute("test", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new ResourceAccessException("connection reset");
+            }
+            return "ok";
+        });
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+
+        calls.set(0);
+        assertThatThrownBy(() -> apiResilience.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 누적되어 서킷이 열리면 외부 API를 호출하지 않고 즉시 실패한다")
+    void execute_WhenCircuitOpen_FailsFastWithoutCalling() {
+        policy.setMaxAttempts(1);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> apiResilience.execute("test", () -> {
+                throw new ResourceAccessException("timeout");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> apiResilience.execute("test", calls::incrementAndGet))
+                .isInstanceOf(BsCoreException.class)
+                .satisfies(e -> assertThat(ApiResilience.isUnavailable(e)).isTrue());
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘는 호출은 기다리지 않고 거절된다")
+    void executeAsync_WhenBulkheadFull_RejectsImmediately() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = apiResilience.executeAsync("test", () -> {
+            started.countDown();
+            return pending;
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> second = apiResilience.executeAsync("test", () -> CompletableFuture.completedFuture("unexpected"));
+        assertThatThrownBy(second::join).hasCauseInstanceOf(BsCoreException.class);
+
+        pending.complete("ok");
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("instances에서 생략한 값은 defaults 값을 항목별로 이어받는다")
+    void policyOf_MergesInstanceOverDefaults() {
+        ApiResilienceProperties properties = new ApiResilienceProperties();
+        properties.getDefaults().setMaxAttempts(3);
+        properties.getDefaults().setRetryWait(Duration.ofMillis(50));
+        ApiResilienceProperties.Policy instance = new ApiResilienceProperties.Policy();
+        instance.setMaxConcurrentCalls(5);
+        instance.setRetryWait(Duration.ofMillis(10));
+        properties.getInstances().put("kakao", instance);
+
+        ApiResilienceProperties.Policy kakao = properties.policyOf("kakao");
+        ApiResilienceProperties.Policy other = properties.policyOf("naver-local");
+
+        assertThat(kakao.getMaxConcurrentCalls()).isEqualTo(5);
+        assertThat(kakao.getRetryWait()).isEqualTo(Duration.ofMillis(10));
+        assertThat(kakao.getMaxAttempts()).isEqualTo(3);
+        assertThat(kakao.getFailureRateThreshold()).isEqualTo(50f);
+        assertThat(other.getMaxConcurrentCalls()).isEqualTo(20);
+        assertThat(other.getMaxAttempts()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,78 @@
+package com.koo.bonscore.common.api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * MicroBatcher 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 대기 시간 안에 들어온 요청은 한 번의 일괄 호출로 처리된다
+ *  - 최대 배치 크기에 도달하면 대기하지 않고 나누어 호출한다
+ *  - 결과가 없는 키는 예외로 완료된다
+ */
+@DisplayName("MicroBatcher")
+class MicroBatcherTest {
+
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+
+    private CompletableFuture<Map<String, String>> upperCase(List<String> keys) {
+        calls.add(keys);
+        return CompletableFuture.completedFuture(keys.stream()
+                .filter(key -> !key.startsWith("missing"))
+                .collect(Collectors.toMap(Function.identity(), String::toUpperCase)));
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 들어온 요청은 한 번에 조회하고, 같은 키는 future를 공유한다")
+    void submit_WithinWait_LoadsOnce() {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>("test", 5, Duration.ofMillis(50), ForkJoinPool.commonPool(), this::upperCase);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> duplicate = batcher.submit("a");
+
+        assertThat(a.join()).isEqualTo("A");
+        assertThat(b.join()).isEqualTo("B");
+        assertThat(duplicate).isSameAs(a);
+        assertThat(calls).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 대기하지 않고 호출한다")
+    void submit_WhenBatchFull_LoadsImmediately() {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>("test", 2, Duration.ofMinutes(1), ForkJoinPool.commonPool(), this::upperCase);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        // 대기 시간(1분)과 무관하게 이미 완료되어 있어야 함
+        assertThat(a).isCompletedWithValue("A");
+        assertThat(b).isCompletedWithValue("B");
+        assertThat(calls).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 결과에 없는 키는 예외로 완료된다")
+    void submit_WhenKeyMissing_CompletesExceptionally() {
+        MicroBatcher<String, String> batcher = new MicroBatcher<>("test", 2, Duration.ofMinutes(1), ForkJoinPool.commonPool(), this::upperCase);
+
+        CompletableFuture<String> found = batcher.submit("a");
+        CompletableFuture<String> missing = batcher.submit("missing");
+
+        assertThat(found).isCompletedWithValue("A");
+        assertThatThrownBy(missing::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
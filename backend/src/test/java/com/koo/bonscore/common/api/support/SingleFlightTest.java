@@ -0,0 +1,101 @@
+package com.koo.bonscore.common.api.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SingleFlight 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 동시에 들어온 같은 키의 호출은 한 번만 실행되고 결과를 공유한다
+ *  - leader의 예외는 대기 중인 호출에도 그대로 전달된다
+ *  - 호출이 끝나면 결과를 보관하지 않는다 (다음 호출은 다시 실행)
+ */
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 호출은 한 번만 실행하고 결과를 공유한다")
+    void execute_WhenConcurrent_SharesOneCall() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("test", "key", () -> {
+                calls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "result";
+            }), executor);
+            leaderStarted.await(1, TimeUnit.SECONDS);
+
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(
+                    () -> singleFlight.execute("test", "key", () -> "unexpected"), executor);
+            // follower가 진행 중인 호출에 합류할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (meterRegistry.find("api.singleflight.calls").tag("result", "shared").counter() == null
+                    && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("result");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("호출이 끝나면 결과를 보관하지 않고, 예외도 그대로 전달한다")
+    void execute_DoesNotCacheAndPropagatesException() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("test", "key", calls::incrementAndGet);
+        singleFlight.execute("test", "key", calls::incrementAndGet);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThatThrownBy(() -> singleFlight.execute("test", "key", () -> {
+            throw new IllegalStateException("upstream failure");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upstream failure");
+    }
+
+    @Test
+    @DisplayName("키는 공백과 대소문자를 정규화하여 생성한다")
+    void key_NormalizesParts() {
+        assertThat(SingleFlight.key("  Seoul   Jongno ", 500)).isEqualTo("seoul jongno|500");
+        assertThat(SingleFlight.key(null, "a")).isEqualTo("|a");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.koo.bonscore.common.util.text;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TextNormalizer 단위 테스트
+ *
+ * 핵심 검증 대상
+ *  - 태그 제거/엔티티 변환, 한글/영문 주소 분리 결과가 기존 구현(정규식, split, HtmlUtils)과 같다
+ *  - 변환할 문자가 없으면 입력 문자열을 그대로 반환한다
+ *  - 무작위 입력(태그, 엔티티, 구분자 조합)에서도 기존 구현과 결과가 같다
+ */
+@DisplayName("TextNormalizer")
+class TextNormalizerTest {
+
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<b>본스</b> 커피&amp;베이커리", "본스 &lt;b&gt;커피&lt;/b&gt;", "&quot;본스&quot; &#39;식당&#39;",
+            "A < B > C", "A <b 닫히지 않은 태그", "&amp<b>;</b>", "&nbsp;본스&copy;", "&#x41;&#65;&#;&unknown;",
+            "R&B 바", "R & B; 바", "&", "&&amp;;", "<>", "", "   "})
+    @DisplayName("태그 제거 후 엔티티 변환 결과가 기존 구현과 같다")
+    void stripTagsAndUnescape_MatchesLegacy(String text) {
+        assertThat(TextNormalizer.stripTagsAndUnescape(text)).isEqualTo(legacyClean(text));
+        assertThat(TextNormalizer.unescape(text)).isEqualTo(HtmlUtils.htmlUnescape(text));
+    }
+
+    @Test
+    @DisplayName("변환할 문자가 없으면 입력 문자열을 그대로 반환한다")
+    void stripTagsAndUnescape_WhenNothingToReplace_ReturnsSameInstance() {
+        String text = "서울특별시 종로구 종로 1";
+
+        assertThat(TextNormalizer.stripTagsAndUnescape(text)).isSameAs(text);
+        assertThat(TextNormalizer.unescape(text)).isSameAs(text);
+        assertThat(TextNormalizer.stripTagsAndUnescape(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "서울특별시 종로구 종로 1", "서울 종로구", "서울", "서울 종로구 ", "서울  종로구 종로 1", " 서울 종로구 종로",
+            "서울 종로구 종로 1   ", "   ", " ", "서울\t종로구 종로 1"})
+    @DisplayName("한글 주소 분리 결과가 기존 구현과 같다")
+    void splitKoreanAddress_MatchesLegacy(String address) {
+        TextNormalizer.Address result = TextNormalizer.splitKoreanAddress(address);
+
+        assertThat(new String[]{result.simple(), result.detail()}).containsExactly(legacyKorean(address));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "8 Dongsomun-ro 6-gil, Seongbuk-gu, Seoul", "Seongbuk-gu, Seoul", "Seoul", "1F, 8, Jong-ro,Jongno-gu,\tSeoul",
+            "a,,b, c", "Seoul,", "Seoul, ", ",Seoul", ", , ,", ",", "a, b,,, ", " , a"})
+    @DisplayName("영문 주소 분리 결과가 기존 구현과 같다")
+    void splitEnglishAddress_MatchesLegacy(String address) {
+        TextNormalizer.Address result = TextNormalizer.splitEnglishAddress(address);
+
+        assertThat(new String[]{result.simple(), result.detail()}).containsExactly(legacyEnglish(address));
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서도 모든 변환 결과가 기존 구현과 같다")
+    void allTransforms_MatchLegacyOnRandomInput() {
+        String[] pieces = {"<", ">", "<b>", "</b>", "&", ";", "amp;", "&amp;", "&lt;", "&gt;", "&quot;", "&#39;", "&#",
+                "&copy;", "x", "본스", " ", "  ", ",", ", ", "\t", "1"};
+        Random random = new Random(20261017);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(pieces[random.nextInt(pieces.length)]);
+            }
+            String text = sb.toString();
+
+            assertThat(TextNormalizer.stripTagsAndUnescape(text)).as("clean [%s]", text).isEqualTo(legacyClean(text));
+            TextNormalizer.Address korean = TextNormalizer.splitKoreanAddress(text);
+            assertThat(new String[]{korean.simple(), korean.detail()}).as("korean [%s]", text).containsExactly(legacyKorean(text));
+            TextNormalizer.Address english = TextNormalizer.splitEnglishAddress(text);
+            assertThat(new String[]{english.simple(), english.detail()}).as("english [%s]", text).containsExactly(legacyEnglish(text));
+        }
+    }
+
+    // ===== 기존 구현 (AnalysisService, GourmetRecordService) =====
+
+    private static String legacyClean(String text) {
+        return HtmlUtils.htmlUnescape(HTML_TAG_PATTERN.matcher(text).replaceAll(""));
+    }
+
+    private static String[] legacyKorean(String fullAddress) {
+        String simpleAddress = fullAddress;
+        String detailAddress = "";
+        if (fullAddress != null && !fullAddress.isEmpty()) {
+            String[] addressParts = fullAddress.split(" ");
+            if (addressParts.length > 2) {
+                simpleAddress = addressParts[0] + " " + addressParts[1];
+                detailAddress = String.join(" ", Arrays.copyOfRange(addressParts, 2, addressParts.length));
+            }
+        }
+        return new String[]{simpleAddress, detailAddress};
+    }
+
+    private static String[] legacyEnglish(String translatedFullAddress) {
+        if (translatedFullAddress == null || translatedFullAddress.isEmpty()) {
+            return new String[]{"", ""};
+        }
+        String[] parts = translatedFullAddress.split(",\\s*");
+        if (parts.length >= 2) {
+            String simpleAddress = parts[parts.length - 2] + ", " + parts[parts.length - 1];
+            String detailAddress = String.join(", ", Arrays.copyOfRange(parts, 0, parts.length - 2));
+            return new String[]{simpleAddress, detailAddress};
+        }
+        return new String[]{translatedFullAddress, ""};
+    }
+}